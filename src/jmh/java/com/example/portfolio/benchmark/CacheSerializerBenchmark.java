@@ -0,0 +1,92 @@
+package com.example.portfolio.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.example.portfolio.config.CacheConfig;
+import com.example.portfolio.config.CacheValueSerializer;
+import com.example.portfolio.dto.ProjectListDto;
+
+// projectList 캐시 값(Slice<ProjectListDto>) 직렬화 비용: 기존 JSON(@class 포함) vs 바이너리
+// Throughput = 초당 처리 수, gc 프로파일러 = 연산당 할당량, bytes = 직렬화된 값 크기
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+	@Param({ "12", "48" })
+	public int pageSize;
+
+	@Param({ "json", "binary" })
+	public String format;
+
+	private RedisSerializer<Object> serializer;
+	private Slice<ProjectListDto> slice;
+	private byte[] encoded;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		serializer = switch (format) {
+			case "json" -> CacheConfig.jsonRedisSerializer();
+			case "binary" -> new CacheValueSerializer(CacheConfig.jsonRedisSerializer());
+			default -> throw new IllegalArgumentException(format);
+		};
+		slice = slice(pageSize);
+		encoded = serializer.serialize(slice);
+	}
+
+	@Benchmark
+	public byte[] encode(Size size) {
+		byte[] bytes = serializer.serialize(slice);
+		size.bytes = bytes.length;
+		return bytes;
+	}
+
+	@Benchmark
+	public Object decode() {
+		return serializer.deserialize(encoded);
+	}
+
+	// 결과 표에 값 크기를 함께 출력
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Size {
+		public long bytes;
+	}
+
+	// 실제 목록 응답과 비슷한 값 (썸네일 srcset, BlurHash 포함)
+	private static Slice<ProjectListDto> slice(int size) {
+		List<ProjectListDto> content = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			String url = "https://storage.googleapis.com/minography_gcs/" + i + "/3f9a1c2e7b5d4a60b8e1f2c3d4e5f6a7.webp";
+			ProjectListDto dto = new ProjectListDto((long) i, "프로젝트 제목 " + i, url,
+					new Date(1_700_000_000_000L + i * 86_400_000L), 1000 + i, "웨딩", "본식 스냅", 24L);
+			dto.setSrcset(url.replace(".webp", "_w320.webp") + " 320w, " + url.replace(".webp", "_w640.webp")
+					+ " 640w, " + url.replace(".webp", "_w1280.webp") + " 1280w");
+			dto.setWidth(1600);
+			dto.setHeight(1067);
+			dto.setByteSize(245_000L + i);
+			dto.setBlurHash("LEHV6nWB2yk8pyo0adR*.7kCMdnj");
+			content.add(dto);
+		}
+		return new SliceImpl<>(content, PageRequest.of(0, size, Sort.by(Sort.Order.desc("createdAt"))), true);
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.portfolio.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.portfolio.image.CwebpEncoder;
+import com.example.portfolio.image.ImageIoWebpEncoder;
+import com.example.portfolio.image.WebpEncoder;
+import com.google.common.io.CountingOutputStream;
+
+// WebP 인코더별 인코딩 비용 (cwebp 프로세스 vs JVM 내 libwebp)
+// Throughput = 초당 장수, SampleTime = p50/p99 지연, gc 프로파일러 = 장당 할당량
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EncodeBenchmark {
+
+	@Param({ "640x480", "2048x1536", "4000x3000" })
+	public String size;
+
+	@Param({ "cwebp", "imageio" })
+	public String encoder;
+
+	private BufferedImage image;
+	private WebpEncoder webpEncoder;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		image = ImageFixtures.photo(size);
+		webpEncoder = switch (encoder) {
+			case "cwebp" -> new CwebpEncoder(85);
+			case "imageio" -> new ImageIoWebpEncoder(85);
+			default -> throw new IllegalArgumentException(encoder);
+		};
+	}
+
+	// 인코딩된 바이트 수를 반환해서 결과가 최적화로 사라지지 않도록 함
+	@Benchmark
+	public long encode() throws IOException {
+		CountingOutputStream out = new CountingOutputStream(OutputStream.nullOutputStream());
+		webpEncoder.encode(image, out);
+		return out.getCount();
+	}
+}
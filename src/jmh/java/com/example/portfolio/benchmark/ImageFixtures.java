@@ -0,0 +1,108 @@
+package com.example.portfolio.benchmark;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import com.example.portfolio.image.ImageSource;
+
+// 벤치마크용 합성 이미지 - 같은 크기면 항상 같은 픽셀 (커밋 간 결과 비교용)
+// 그라디언트 + 도형 + 노이즈로 사진처럼 압축이 잘 안 되는 내용을 만듦
+public final class ImageFixtures {
+
+	private static final long SEED = 0x5EED_1234L;
+	private static final int SHAPES = 40;
+	private static final int NOISE = 24;
+
+	private ImageFixtures() {
+	}
+
+	// "4000x3000" -> 4000x3000 이미지
+	public static BufferedImage photo(String size) {
+		String[] parts = size.split("x");
+		return photo(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+	}
+
+	public static BufferedImage photo(int width, int height) {
+		Random random = new Random(SEED + 31L * width + height);
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			graphics.setPaint(new GradientPaint(0, 0, new Color(40, 70, 120), width, height, new Color(230, 190, 140)));
+			graphics.fillRect(0, 0, width, height);
+			for (int i = 0; i < SHAPES; i++) {
+				graphics.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), 160));
+				int w = 1 + random.nextInt(width / 3);
+				int h = 1 + random.nextInt(height / 3);
+				graphics.fillOval(random.nextInt(width), random.nextInt(height), w, h);
+			}
+		} finally {
+			graphics.dispose();
+		}
+
+		// 센서 노이즈 흉내
+		int[] row = new int[width];
+		for (int y = 0; y < height; y++) {
+			image.getRGB(0, y, width, 1, row, 0, width);
+			for (int x = 0; x < width; x++) {
+				int noise = random.nextInt(NOISE) - NOISE / 2;
+				int rgb = row[x];
+				row[x] = (clamp(((rgb >> 16) & 0xFF) + noise) << 16)
+						| (clamp(((rgb >> 8) & 0xFF) + noise) << 8)
+						| clamp((rgb & 0xFF) + noise);
+			}
+			image.setRGB(0, y, width, 1, row, 0, width);
+		}
+		return image;
+	}
+
+	// 업로드 원본처럼 JPEG로 인코딩한 바이트
+	public static byte[] jpeg(BufferedImage image) {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ImageIO.write(image, "jpg", out);
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static ImageSource source(String name, byte[] bytes) {
+		return new ImageSource() {
+			@Override
+			public InputStream openStream() {
+				return new ByteArrayInputStream(bytes);
+			}
+
+			@Override
+			public String getOriginalFilename() {
+				return name;
+			}
+
+			@Override
+			public String getContentType() {
+				return "image/jpeg";
+			}
+
+			@Override
+			public String getContentHash() {
+				return name;
+			}
+		};
+	}
+
+	private static int clamp(int value) {
+		return Math.max(0, Math.min(255, value));
+	}
+}
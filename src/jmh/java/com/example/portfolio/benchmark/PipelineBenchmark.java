@@ -0,0 +1,90 @@
+package com.example.portfolio.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.image.CwebpEncoder;
+import com.example.portfolio.image.ImageDecoder;
+import com.example.portfolio.image.ImageIoWebpEncoder;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.QualitySelector;
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.image.WebpEncoder;
+import com.example.portfolio.service.ImageService;
+import com.example.portfolio.storage.LocalObjectStore;
+
+// 사진 1장 전체 처리 비용: JPEG 디코딩 -> 원본 + 변형본 WebP 인코딩 -> BlurHash -> 로컬 저장소 기록
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+	@Param({ "640x480", "2048x1536", "4000x3000" })
+	public String size;
+
+	@Param({ "cwebp", "imageio" })
+	public String encoder;
+
+	// adaptive는 품질 탐색(미리보기 반복 인코딩 + SSIM) 비용 포함
+	@Param({ "fixed", "adaptive" })
+	public String qualityMode;
+
+	private Path storageRoot;
+	private ImageService imageService;
+	private ImageSource source;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		storageRoot = Files.createTempDirectory("pipeline-benchmark-");
+		WebpEncoder webpEncoder = switch (encoder) {
+			case "cwebp" -> new CwebpEncoder(85);
+			case "imageio" -> new ImageIoWebpEncoder(85);
+			default -> throw new IllegalArgumentException(encoder);
+		};
+		imageService = new ImageService(
+				new LocalObjectStore(storageRoot, "http://localhost/files", "benchmark"),
+				webpEncoder,
+				new ImageDecoder(4096, 150_000_000L, 0, Duration.ofMinutes(2)),
+				new QualitySelector(webpEncoder, qualityMode, 50, 90, 0.985, DataSize.ofBytes(0), 1024),
+				new int[] { 320, 640, 1280, 2048 });
+		source = ImageFixtures.source(size + ".jpg", ImageFixtures.jpeg(ImageFixtures.photo(size)));
+	}
+
+	@Benchmark
+	public StoredImage storeImage() {
+		return imageService.storeImage(source, 1L);
+	}
+
+	// 반복마다 저장된 파일 정리 (디스크가 차지 않도록)
+	@TearDown(Level.Iteration)
+	public void clean() throws IOException {
+		try (Stream<Path> files = Files.walk(storageRoot)) {
+			files.sorted(Comparator.reverseOrder())
+					.filter(path -> !path.equals(storageRoot))
+					.forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		clean();
+		Files.deleteIfExists(storageRoot);
+	}
+}
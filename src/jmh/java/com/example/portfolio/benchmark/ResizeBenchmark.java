@@ -0,0 +1,62 @@
+package com.example.portfolio.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.portfolio.image.BlurHash;
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.ScaleMethod;
+
+// 변형본 생성(인코딩 제외)과 BlurHash 계산 비용
+// ImageService와 같은 방식: 큰 너비부터 직전 결과를 다시 줄이고, 가장 작은 결과를 32px로 줄여서 BlurHash 계산
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ResizeBenchmark {
+
+	private static final int[] VARIANT_WIDTHS = { 2048, 1280, 640, 320 };
+	private static final int BLUR_HASH_SIZE = 32;
+
+	@Param({ "640x480", "2048x1536", "4000x3000" })
+	public String size;
+
+	private BufferedImage image;
+	private ImmutableImage smallest;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		image = ImageFixtures.photo(size);
+		smallest = ImmutableImage.wrapAwt(image).scaleToWidth(Math.min(320, image.getWidth()), ScaleMethod.Bicubic);
+	}
+
+	@Benchmark
+	public void variants(Blackhole blackhole) {
+		ImmutableImage current = ImmutableImage.wrapAwt(image);
+		for (int width : VARIANT_WIDTHS) {
+			if (width >= image.getWidth()) {
+				continue;
+			}
+			current = current.scaleToWidth(width, ScaleMethod.Bicubic);
+			blackhole.consume(current.awt());
+		}
+	}
+
+	@Benchmark
+	public String placeholder() {
+		double scale = (double) BLUR_HASH_SIZE / Math.max(smallest.width, smallest.height);
+		int width = Math.max(1, (int) Math.round(smallest.width * scale));
+		int height = Math.max(1, (int) Math.round(smallest.height * scale));
+		return BlurHash.encode(smallest.scaleTo(width, height, ScaleMethod.FastScale).awt());
+	}
+}
@@ -2,12 +2,19 @@ package com.example.portfolio;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
 public class PortfolioProjectApplication {
 
+    // 기동 단계 기록 개수 (빈 생성 단계 포함, 넘으면 이후 단계는 버림)
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(PortfolioProjectApplication.class, args);
+        SpringApplication application = new SpringApplication(PortfolioProjectApplication.class);
+        // 빈별 기동 시간 기록 (StartupReport 로그, /actuator/startup)
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
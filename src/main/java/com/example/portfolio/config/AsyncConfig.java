@@ -0,0 +1,123 @@
+package com.example.portfolio.config;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.example.portfolio.service.BlobDeletionService;
+import com.example.portfolio.service.CategoryTreeService;
+import com.example.portfolio.service.IngestJobStore;
+import com.example.portfolio.service.OrphanBlobReconciler;
+import com.example.portfolio.service.ResumableUploadService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// @EnableScheduling: 스토리지 삭제 재시도, 미참조 객체 정리 등 주기 작업
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	// 지연 초기화(fast-start 프로파일)에서도 @Scheduled 빈은 기동 시 생성해야 주기 작업이 등록됨
+	@Bean
+	static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+		return LazyInitializationExcludeFilter.forBeanTypes(BlobDeletionService.class, OrphanBlobReconciler.class,
+				ResumableUploadService.class, CategoryTreeService.class, IngestJobStore.class);
+	}
+
+	// 프로젝트 생성/수정 후 이미지 처리 작업을 실행하는 스레드 풀 (대기열 크기 제한)
+	@Bean(name = "ingestJobExecutor")
+	public ThreadPoolTaskExecutor ingestJobExecutor(MeterRegistry meterRegistry,
+			@Value("${portfolio.ingest.workers:2}") int workers,
+			@Value("${portfolio.ingest.queue-capacity:20}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("ingest-");
+		// 종료 시 진행 중인 작업은 마무리
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		ExecutorMetrics.instrument(executor, "ingest", new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+		return executor;
+	}
+
+	// 카테고리 트리 스냅샷 재생성 (스레드 1개, 대기 작업은 CategoryTreeService에서 1개로 합침)
+	@Bean(name = "categoryTreeExecutor")
+	public ThreadPoolTaskExecutor categoryTreeExecutor(MeterRegistry meterRegistry) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(4);
+		executor.setThreadNamePrefix("category-tree-");
+		ExecutorMetrics.instrument(executor, "category-tree", new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+		return executor;
+	}
+
+	// 스토리지 객체 삭제 (커밋 직후 실행, 대기열이 차거나 종료 중이면 거절하고 BlobDeletionService 재시도 작업에 맡김)
+	// 삭제 요청이 요청/인제스트 스레드에서 실행되지 않도록 공용 풀과 분리
+	@Bean(name = "blobDeletionExecutor")
+	public ThreadPoolTaskExecutor blobDeletionExecutor(MeterRegistry meterRegistry,
+			@Value("${portfolio.storage.deletion-threads:2}") int threads,
+			@Value("${portfolio.storage.deletion-queue-capacity:100}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("blob-deletion-");
+		ExecutorMetrics.instrument(executor, "blob-deletion", new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+		return executor;
+	}
+
+	// 디코딩/인코딩/업로드를 실행하는 공용 스레드 풀
+	// 스레드 수는 CPU 코어 수와 힙 크기 중 작은 쪽 기준, 대기열이 차면 제출한 스레드가 직접 실행(caller-runs)하거나 거절(abort)
+	// 종료 중에는 정책과 관계없이 거절 (기본 CallerRunsPolicy는 작업을 조용히 버려서 CompletableFuture가 끝나지 않음)
+	@Bean(name = "mediaExecutor")
+	public ThreadPoolTaskExecutor mediaExecutor(MeterRegistry meterRegistry,
+			@Value("${portfolio.media.threads:0}") int threads,
+			@Value("${portfolio.media.queue-capacity:32}") int queueCapacity,
+			@Value("${portfolio.media.memory-per-task-mb:128}") long memoryPerTaskMb,
+			@Value("${portfolio.media.rejection-policy:caller-runs}") String rejectionPolicy) {
+		int poolSize = threads > 0 ? threads : mediaPoolSize(memoryPerTaskMb);
+		logger.info("Media executor: {} threads, queue capacity {}, rejection policy {}",
+				poolSize, queueCapacity, rejectionPolicy);
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("media-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		ExecutorMetrics.instrument(executor, "media",
+				"abort".equals(rejectionPolicy) ? new ThreadPoolExecutor.AbortPolicy() : callerRunsUnlessShutdown(),
+				meterRegistry);
+		return executor;
+	}
+
+	static RejectedExecutionHandler callerRunsUnlessShutdown() {
+		return (task, pool) -> {
+			if (pool.isShutdown()) {
+				throw new RejectedExecutionException("Executor has been shut down");
+			}
+			task.run();
+		};
+	}
+
+	// 힙의 절반을 이미지 처리에 쓴다고 보고 작업당 예상 메모리로 나눔
+	private int mediaPoolSize(long memoryPerTaskMb) {
+		int cores = Runtime.getRuntime().availableProcessors();
+		long memoryBound = Runtime.getRuntime().maxMemory() / 2 / (memoryPerTaskMb * 1024 * 1024);
+		return (int) Math.max(1, Math.min(cores, memoryBound));
+	}
+}
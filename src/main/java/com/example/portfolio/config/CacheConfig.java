@@ -9,14 +9,24 @@ import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -24,8 +34,36 @@ import java.time.Duration;
 @Configuration
 @EnableCaching
 public class CacheConfig {
+    // value-format=binary: 목록 캐시는 바이너리(CacheValueSerializer), 나머지와 기존 값은 JSON
+    // value-format=json: 모두 JSON (바이너리 값은 캐시 미스가 아니라 JSON 오류가 되므로 되돌릴 때는 캐시를 비울 것)
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+            @Value("${portfolio.cache.value-format:binary}") String valueFormat) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = jsonRedisSerializer();
+        RedisSerializer<Object> serializer = "json".equalsIgnoreCase(valueFormat)
+            ? jsonSerializer
+            : new CacheValueSerializer(jsonSerializer);
+
+        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(Duration.ofHours(24))
+            .serializeKeysWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
+            )
+            .serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(serializer)
+            );
+
+        // 접두사 삭제(RedisCache.clear(pattern))를 KEYS 대신 SCAN으로 처리
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+            redisConnectionFactory, BatchStrategies.scan(1000));
+
+        return RedisCacheManager.builder(cacheWriter)
+            .cacheDefaults(cacheConfiguration)
+            .build();
+    }
+
+    // 기존 JSON 직렬화 (@class 타입 정보 포함), 벤치마크에서도 비교 기준으로 사용
+    public static GenericJackson2JsonRedisSerializer jsonRedisSerializer() {
         PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
             .allowIfBaseType(Object.class)
             .allowIfSubType(Object.class)
@@ -47,19 +85,27 @@ public class CacheConfig {
         objectMapper.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
         objectMapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofHours(24))
-            .serializeKeysWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-            )
-            .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(serializer)
-            );
+    // @Cacheable/@CacheEvict가 사용하는 CacheManager: 인스턴스 메모리(L1) + Redis(L2)
+    // L1은 짧은 TTL과 최대 항목 수로 제한 (max-size=0 이면 L1 없이 Redis만 사용)
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+            StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+            @Value("${portfolio.cache.l1.max-size:1000}") long maxSize,
+            @Value("${portfolio.cache.l1.ttl:PT1M}") Duration ttl) {
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, meterRegistry, maxSize, ttl);
+    }
 
-        return RedisCacheManager.builder(redisConnectionFactory)
-            .cacheDefaults(cacheConfiguration)
-            .build();
+    // 다른 인스턴스의 @CacheEvict를 받아서 L1 삭제
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+        return container;
     }
 }
\ No newline at end of file
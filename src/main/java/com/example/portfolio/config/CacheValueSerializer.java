@@ -0,0 +1,293 @@
+package com.example.portfolio.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.example.portfolio.dto.ProjectListDto;
+
+// Redis 캐시 값 직렬화: 자주 캐시되는 DTO는 바이너리, 나머지는 기존 JSON
+// 바이너리 형식: [매직 2바이트][버전 1바이트][타입 1바이트][본문]
+// 매직으로 시작하지 않으면 JSON(배포 전 캐시 값 포함)으로 읽고,
+// 모르는 버전/타입이면 캐시 미스로 처리 (형식이 바뀐 인스턴스와 섞여도 읽기가 실패하지 않음)
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+	// JSON은 UTF-8 연속 바이트(0x80~0xBF)로 시작할 수 없음
+	static final byte MAGIC_0 = (byte) 0xB1;
+	static final byte MAGIC_1 = (byte) 'P';
+	static final byte VERSION = 1;
+	private static final int HEADER_LENGTH = 4;
+
+	// 본문 타입
+	static final byte TYPE_PROJECT_LIST_SLICE = 1;
+
+	private static final Sort.Direction[] DIRECTIONS = Sort.Direction.values();
+	private static final Sort.NullHandling[] NULL_HANDLINGS = Sort.NullHandling.values();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final RedisSerializer<Object> fallback;
+
+	public CacheValueSerializer(RedisSerializer<Object> fallback) {
+		this.fallback = fallback;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (!isProjectListSlice(value)) {
+			return fallback.serialize(value);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(MAGIC_0);
+			out.writeByte(MAGIC_1);
+			out.writeByte(VERSION);
+			out.writeByte(TYPE_PROJECT_LIST_SLICE);
+			writeProjectListSlice(out, (Slice<?>) value);
+		} catch (IOException e) {
+			throw new SerializationException("Could not write cache value", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC_0 || bytes[1] != MAGIC_1) {
+			return fallback.deserialize(bytes);
+		}
+		if (bytes[2] != VERSION || bytes[3] != TYPE_PROJECT_LIST_SLICE) {
+			logger.debug("Unknown cache value format version={} type={}, treating as miss", bytes[2], bytes[3]);
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(
+				new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH))) {
+			return readProjectListSlice(in);
+		} catch (IOException | RuntimeException e) {
+			// 잘린 값 등은 다시 조회해서 덮어씀
+			logger.warn("Could not read cache value, treating as miss: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	// 페이지 정보가 있고 내용이 모두 ProjectListDto인 Slice만 바이너리로 저장
+	private static boolean isProjectListSlice(Object value) {
+		if (!(value instanceof Slice<?> slice) || slice.getPageable().isUnpaged()) {
+			return false;
+		}
+		for (Object item : slice.getContent()) {
+			if (!(item instanceof ProjectListDto)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void writeProjectListSlice(DataOutput out, Slice<?> slice) throws IOException {
+		writeVarInt(out, slice.getNumber());
+		writeVarInt(out, slice.getSize());
+		out.writeBoolean(slice.hasNext());
+		writeSort(out, slice.getSort());
+
+		List<?> content = slice.getContent();
+		writeVarInt(out, content.size());
+		for (Object item : content) {
+			writeProjectListDto(out, (ProjectListDto) item);
+		}
+	}
+
+	private static Slice<ProjectListDto> readProjectListSlice(DataInput in) throws IOException {
+		int number = readVarInt(in);
+		int size = readVarInt(in);
+		boolean hasNext = in.readBoolean();
+		Sort sort = readSort(in);
+
+		int count = readVarInt(in);
+		List<ProjectListDto> content = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			content.add(readProjectListDto(in));
+		}
+		return new SliceImpl<>(content, PageRequest.of(number, size, sort), hasNext);
+	}
+
+	private static void writeSort(DataOutput out, Sort sort) throws IOException {
+		List<Sort.Order> orders = sort.toList();
+		writeVarInt(out, orders.size());
+		for (Sort.Order order : orders) {
+			writeString(out, order.getProperty());
+			out.writeByte(order.getDirection().ordinal());
+			out.writeBoolean(order.isIgnoreCase());
+			out.writeByte(order.getNullHandling().ordinal());
+		}
+	}
+
+	private static Sort readSort(DataInput in) throws IOException {
+		int count = readVarInt(in);
+		if (count == 0) {
+			return Sort.unsorted();
+		}
+		List<Sort.Order> orders = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String property = readString(in);
+			Sort.Direction direction = DIRECTIONS[in.readByte()];
+			boolean ignoreCase = in.readBoolean();
+			Sort.Order order = new Sort.Order(direction, property, NULL_HANDLINGS[in.readByte()]);
+			orders.add(ignoreCase ? order.ignoreCase() : order);
+		}
+		return Sort.by(orders);
+	}
+
+	// null 가능한 필드는 앞의 비트마스크로 표시하고 값이 있는 필드만 기록
+	private static void writeProjectListDto(DataOutput out, ProjectListDto dto) throws IOException {
+		Object[] fields = { dto.getId(), dto.getTitle(), dto.getImageUrl(), dto.getCreatedAt(),
+				dto.getCategoryName(), dto.getSubCategoryName(), dto.getImageCount(), dto.getSrcset(),
+				dto.getWidth(), dto.getHeight(), dto.getByteSize(), dto.getBlurHash() };
+		int present = 0;
+		for (int i = 0; i < fields.length; i++) {
+			if (fields[i] != null) {
+				present |= 1 << i;
+			}
+		}
+		writeVarInt(out, present);
+		writeVarInt(out, dto.getView());
+
+		if (dto.getId() != null) {
+			writeVarLong(out, dto.getId());
+		}
+		writeNullableString(out, dto.getTitle());
+		writeNullableString(out, dto.getImageUrl());
+		if (dto.getCreatedAt() != null) {
+			out.writeLong(dto.getCreatedAt().getTime());
+		}
+		writeNullableString(out, dto.getCategoryName());
+		writeNullableString(out, dto.getSubCategoryName());
+		if (dto.getImageCount() != null) {
+			writeVarLong(out, dto.getImageCount());
+		}
+		writeNullableString(out, dto.getSrcset());
+		if (dto.getWidth() != null) {
+			writeVarInt(out, dto.getWidth());
+		}
+		if (dto.getHeight() != null) {
+			writeVarInt(out, dto.getHeight());
+		}
+		if (dto.getByteSize() != null) {
+			writeVarLong(out, dto.getByteSize());
+		}
+		writeNullableString(out, dto.getBlurHash());
+	}
+
+	private static ProjectListDto readProjectListDto(DataInput in) throws IOException {
+		int present = readVarInt(in);
+		ProjectListDto dto = new ProjectListDto();
+		dto.setView(readVarInt(in));
+
+		if (has(present, 0)) {
+			dto.setId(readVarLong(in));
+		}
+		if (has(present, 1)) {
+			dto.setTitle(readString(in));
+		}
+		if (has(present, 2)) {
+			dto.setImageUrl(readString(in));
+		}
+		if (has(present, 3)) {
+			dto.setCreatedAt(new Date(in.readLong()));
+		}
+		if (has(present, 4)) {
+			dto.setCategoryName(readString(in));
+		}
+		if (has(present, 5)) {
+			dto.setSubCategoryName(readString(in));
+		}
+		if (has(present, 6)) {
+			dto.setImageCount(readVarLong(in));
+		}
+		if (has(present, 7)) {
+			dto.setSrcset(readString(in));
+		}
+		if (has(present, 8)) {
+			dto.setWidth(readVarInt(in));
+		}
+		if (has(present, 9)) {
+			dto.setHeight(readVarInt(in));
+		}
+		if (has(present, 10)) {
+			dto.setByteSize(readVarLong(in));
+		}
+		if (has(present, 11)) {
+			dto.setBlurHash(readString(in));
+		}
+		return dto;
+	}
+
+	private static boolean has(int present, int field) {
+		return (present & (1 << field)) != 0;
+	}
+
+	private static void writeNullableString(DataOutput out, String value) throws IOException {
+		if (value != null) {
+			writeString(out, value);
+		}
+	}
+
+	private static void writeString(DataOutput out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInput in) throws IOException {
+		byte[] bytes = new byte[readVarInt(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// 7비트씩 나눠 기록 (작은 양수는 1~2바이트)
+	private static void writeVarInt(DataOutput out, int value) throws IOException {
+		writeVarLong(out, value & 0xFFFFFFFFL);
+	}
+
+	private static int readVarInt(DataInput in) throws IOException {
+		return (int) readVarLong(in);
+	}
+
+	private static void writeVarLong(DataOutput out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInput in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+}
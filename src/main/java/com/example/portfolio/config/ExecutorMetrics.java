@@ -0,0 +1,74 @@
+package com.example.portfolio.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 스레드 풀 대기열 길이, 실행 중 작업 수, 대기/실행 시간, 거절 횟수 측정
+public final class ExecutorMetrics {
+
+	private ExecutorMetrics() {
+	}
+
+	// initialize 전에 호출해야 함 (TaskDecorator, 거절 핸들러 설정)
+	public static void instrument(ThreadPoolTaskExecutor executor, String name, RejectedExecutionHandler rejectionHandler,
+			MeterRegistry meterRegistry) {
+		Timer waitTimer = Timer.builder("portfolio.executor.wait")
+				.description("Time a task spent queued before it started")
+				.tag("name", name)
+				.register(meterRegistry);
+		Timer runTimer = Timer.builder("portfolio.executor.run")
+				.description("Task execution time")
+				.tag("name", name)
+				.register(meterRegistry);
+		Counter rejected = Counter.builder("portfolio.executor.rejected")
+				.description("Tasks that hit the queue limit")
+				.tag("name", name)
+				.register(meterRegistry);
+
+		// 제출 시점에 감싸서 대기 시간과 실행 시간을 나눠서 기록
+		executor.setTaskDecorator(task -> {
+			long queuedAt = System.nanoTime();
+			return () -> {
+				long startedAt = System.nanoTime();
+				waitTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+				try {
+					task.run();
+				} finally {
+					runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				}
+			};
+		});
+
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			rejected.increment();
+			rejectionHandler.rejectedExecution(task, pool);
+		});
+
+		// 게이지는 조회 시점에 값을 읽으므로 풀 초기화 이후에만 의미가 있음
+		Gauge.builder("portfolio.executor.queue.depth", executor, e -> queueDepth(e))
+				.description("Tasks waiting in the queue")
+				.tag("name", name)
+				.register(meterRegistry);
+		Gauge.builder("portfolio.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+				.description("Tasks currently running")
+				.tag("name", name)
+				.register(meterRegistry);
+	}
+
+	private static double queueDepth(ThreadPoolTaskExecutor executor) {
+		try {
+			ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+			return pool.getQueue().size();
+		} catch (IllegalStateException e) {
+			return 0;
+		}
+	}
+}
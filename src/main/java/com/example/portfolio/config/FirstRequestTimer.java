@@ -0,0 +1,66 @@
+package com.example.portfolio.config;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// JVM 시작부터 첫 요청 응답까지 걸린 시간 (콜드 스타트 지표, portfolio.startup.first-request)
+// 지연 초기화된 빈이 첫 요청에서 생성되므로 기동 완료 시간만으로는 알 수 없음
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final AtomicBoolean recorded = new AtomicBoolean();
+	private final Timer firstRequest;
+	private final Duration target;
+
+	public FirstRequestTimer(MeterRegistry meterRegistry,
+			@Value("${portfolio.startup.first-request-target:PT15S}") Duration target) {
+		this.firstRequest = Timer.builder("portfolio.startup.first-request")
+				.description("Time from JVM start until the first response was written")
+				.register(meterRegistry);
+		this.target = target;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (!recorded.get() && recorded.compareAndSet(false, true)) {
+				record(request);
+			}
+		}
+	}
+
+	private void record(HttpServletRequest request) {
+		Duration elapsed = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+		firstRequest.record(elapsed);
+		if (elapsed.compareTo(target) > 0) {
+			logger.warn("First request {} served {} ms after JVM start, over target {} ms",
+					request.getRequestURI(), elapsed.toMillis(), target.toMillis());
+		} else {
+			logger.info("First request {} served {} ms after JVM start, target {} ms",
+					request.getRequestURI(), elapsed.toMillis(), target.toMillis());
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.portfolio.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Photo/Project id를 IDENTITY에서 pooled SEQUENCE로 바꾸면서 기존 PostgreSQL DB는 시퀀스를 MAX(id) 이후로 맞춰야 함
+// (db/postgres/photo_project_sequences.sql) - 스크립트를 실행하지 않고 배포하면 기존 id와 겹치므로 기동을 멈춤
+// 지연 초기화(fast-start 프로파일)에서도 요청을 받기 전에 확인하도록 @Lazy(false), DB 없이 띄우는 CDS 아카이브 생성에서는 끔
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "portfolio.db.sequence-check", havingValue = "true", matchIfMissing = true)
+public class IdSequenceCheck implements InitializingBean {
+
+	static final String MIGRATION_SCRIPT = "db/postgres/photo_project_sequences.sql";
+
+	private static final List<IdSequence> SEQUENCES = List.of(
+			new IdSequence("photo", "photo_seq", 50),
+			new IdSequence("project", "project_seq", 50));
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public IdSequenceCheck(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		String database = jdbcTemplate.execute(
+				(ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+		if (!"PostgreSQL".equals(database)) {
+			return;
+		}
+		for (IdSequence sequence : SEQUENCES) {
+			check(sequence.table(), sequence.name(), sequence.allocationSize());
+		}
+	}
+
+	private void check(String table, String sequence, long allocationSize) {
+		if (!exists(table)) {
+			return;
+		}
+		Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+		if (maxId == null) {
+			return;
+		}
+		if (!exists(sequence)) {
+			throw new IllegalStateException(String.format(
+					"Sequence %s does not exist but table %s has rows (max id %d), run %s before starting",
+					sequence, table, maxId, MIGRATION_SCRIPT));
+		}
+
+		Map<String, Object> state = jdbcTemplate.queryForMap(
+				"SELECT s.last_value, s.is_called, p.increment_by FROM " + sequence + " s, pg_sequences p "
+						+ "WHERE p.schemaname = current_schema() AND p.sequencename = ?", sequence);
+		long lastValue = ((Number) state.get("last_value")).longValue();
+		boolean called = (Boolean) state.get("is_called");
+		long increment = ((Number) state.get("increment_by")).longValue();
+		if (increment != allocationSize) {
+			throw new IllegalStateException(String.format(
+					"Sequence %s increments by %d but %s ids are allocated in blocks of %d, run %s before starting",
+					sequence, increment, table, allocationSize, MIGRATION_SCRIPT));
+		}
+
+		long lowestNextId = lowestNextId(lastValue, called, increment);
+		if (lowestNextId <= maxId) {
+			throw new IllegalStateException(String.format(
+					"Sequence %s would allocate ids from %d but %s already has id %d, run %s before starting",
+					sequence, lowestNextId, table, maxId, MIGRATION_SCRIPT));
+		}
+		logger.debug("Sequence {} allocates ids from {} (max {} id {})", sequence, lowestNextId, table, maxId);
+	}
+
+	// pooled 옵티마이저는 nextval 값을 할당 구간의 끝으로 쓰므로 다음 구간은 (nextval - increment + 1)부터 시작
+	static long lowestNextId(long lastValue, boolean called, long increment) {
+		long nextValue = called ? lastValue + increment : lastValue;
+		return nextValue - increment + 1;
+	}
+
+	private boolean exists(String relation) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, relation));
+	}
+
+	// 테이블 이름, 시퀀스 이름, 엔티티의 allocationSize
+	private record IdSequence(String table, String name, long allocationSize) {
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.portfolio.config;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+// 기동이 끝나면 전체 시간과 가장 오래 걸린 빈 목록을 로그로 남김 (전체 타임라인은 /actuator/startup)
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+	private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+	private static final String BEAN_NAME_TAG = "beanName";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Duration readyTarget;
+	private final int slowestBeans;
+
+	public StartupReport(@Value("${portfolio.startup.ready-target:PT10S}") Duration readyTarget,
+			@Value("${portfolio.startup.report-beans:15}") int slowestBeans) {
+		this.readyTarget = readyTarget;
+		this.slowestBeans = slowestBeans;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		Duration sinceJvmStart = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+		Duration ready = event.getTimeTaken() != null ? event.getTimeTaken() : sinceJvmStart;
+		if (sinceJvmStart.compareTo(readyTarget) > 0) {
+			logger.warn("Application ready in {} ms ({} ms since JVM start), over target {} ms",
+					ready.toMillis(), sinceJvmStart.toMillis(), readyTarget.toMillis());
+		} else {
+			logger.info("Application ready in {} ms ({} ms since JVM start), target {} ms",
+					ready.toMillis(), sinceJvmStart.toMillis(), readyTarget.toMillis());
+		}
+
+		ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+		if (startup instanceof BufferingApplicationStartup buffering) {
+			for (BeanTiming timing : slowestBeans(buffering.getBufferedTimeline(), slowestBeans)) {
+				logger.info("  {} ms  {}", timing.duration().toMillis(), timing.beanName());
+			}
+		}
+	}
+
+	// 빈 생성 단계만 골라서 오래 걸린 순 (의존 빈 생성 시간 포함)
+	static List<BeanTiming> slowestBeans(StartupTimeline timeline, int limit) {
+		return timeline.getEvents().stream()
+				.filter(event -> BEAN_INSTANTIATE_STEP.equals(event.getStartupStep().getName()))
+				.map(event -> new BeanTiming(beanName(event.getStartupStep()), event.getDuration()))
+				.sorted(Comparator.comparing(BeanTiming::duration).reversed())
+				.limit(limit)
+				.toList();
+	}
+
+	private static String beanName(StartupStep step) {
+		for (StartupStep.Tag tag : step.getTags()) {
+			if (BEAN_NAME_TAG.equals(tag.getKey())) {
+				return tag.getValue();
+			}
+		}
+		return step.getName();
+	}
+
+	record BeanTiming(String beanName, Duration duration) {
+	}
+}
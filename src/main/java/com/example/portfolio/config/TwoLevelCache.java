@@ -0,0 +1,181 @@
+package com.example.portfolio.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+// 인스턴스 메모리(L1, Caffeine) -> Redis(L2) 순서로 조회하는 캐시
+// 쓰기/삭제는 L2에 반영한 뒤 L1을 비우고 다른 인스턴스에도 알림 (TwoLevelCacheManager가 pub/sub으로 전달)
+// 알림이 유실되거나 L2 조회와 엇갈려도 L1 TTL이 지나면 다시 L2에서 읽음
+public class TwoLevelCache implements Cache {
+
+	private final String name;
+	private final Cache remote;
+	// null 값도 캐시할 수 있도록 ValueWrapper로 보관, 키는 Redis 키와 같은 문자열 형태
+	private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+	private final Invalidator invalidator;
+
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder localMisses = new LongAdder();
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder remoteMisses = new LongAdder();
+
+	public TwoLevelCache(String name, Cache remote,
+			com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local, Invalidator invalidator) {
+		this.name = name;
+		this.remote = remote;
+		this.local = local;
+		this.invalidator = invalidator;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return remote.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = localKey(key);
+		ValueWrapper cached = local.getIfPresent(localKey);
+		if (cached != null) {
+			localHits.increment();
+			return cached;
+		}
+		localMisses.increment();
+
+		ValueWrapper stored = remote.get(key);
+		if (stored == null) {
+			remoteMisses.increment();
+			return null;
+		}
+		remoteHits.increment();
+		local.put(localKey, new SimpleValueWrapper(stored.get()));
+		return stored;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper != null ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper != null) {
+			return (T) wrapper.get();
+		}
+		// L2의 get(key, loader)가 동시에 같은 키를 읽어오지 않도록 처리
+		T value = remote.get(key, valueLoader);
+		local.put(localKey(key), new SimpleValueWrapper(value));
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remote.put(key, value);
+		String localKey = localKey(key);
+		local.put(localKey, new SimpleValueWrapper(value));
+		invalidator.evict(name, localKey);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = remote.putIfAbsent(key, value);
+		String localKey = localKey(key);
+		local.invalidate(localKey);
+		invalidator.evict(name, localKey);
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		String localKey = localKey(key);
+		local.invalidate(localKey);
+		invalidator.evict(name, localKey);
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		local.invalidateAll();
+		invalidator.clear(name);
+	}
+
+	// 키가 prefix로 시작하는 항목만 삭제 (Redis는 SCAN으로 찾아서 삭제)
+	public void evictByPrefix(String prefix) {
+		if (remote instanceof RedisCache redisCache) {
+			redisCache.clear(prefix + "*");
+		} else if (remote.getNativeCache() instanceof ConcurrentMap<?, ?> map) {
+			map.keySet().removeIf(key -> String.valueOf(key).startsWith(prefix));
+		} else {
+			remote.clear();
+		}
+		evictLocalByPrefix(prefix);
+		invalidator.evictByPrefix(name, prefix);
+	}
+
+	// 다른 인스턴스의 알림으로 L1만 비움
+	void evictLocal(String localKey) {
+		local.invalidate(localKey);
+	}
+
+	void evictLocalByPrefix(String prefix) {
+		local.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	void clearLocal() {
+		local.invalidateAll();
+	}
+
+	public long getLocalHits() {
+		return localHits.sum();
+	}
+
+	public long getLocalMisses() {
+		return localMisses.sum();
+	}
+
+	public long getRemoteHits() {
+		return remoteHits.sum();
+	}
+
+	public long getRemoteMisses() {
+		return remoteMisses.sum();
+	}
+
+	public long getLocalSize() {
+		return local.estimatedSize();
+	}
+
+	private String localKey(Object key) {
+		return String.valueOf(key);
+	}
+
+	// 다른 인스턴스에 L1 삭제 알림
+	public interface Invalidator {
+
+		void evict(String cacheName, String key);
+
+		void evictByPrefix(String cacheName, String prefix);
+
+		void clear(String cacheName);
+	}
+}
@@ -0,0 +1,156 @@
+package com.example.portfolio.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// RedisCacheManager의 캐시마다 인스턴스 내부 L1 캐시를 앞에 두는 CacheManager
+// L1 삭제는 Redis pub/sub(CHANNEL)으로 모든 인스턴스에 전달, 자기가 보낸 메시지는 무시
+// 지표: portfolio.cache.requests{cache, level=l1|l2, result=hit|miss}, portfolio.cache.hit.ratio{cache, level}
+public class TwoLevelCacheManager implements CacheManager, MessageListener, TwoLevelCache.Invalidator {
+
+	public static final String CHANNEL = "portfolio:cache-invalidation";
+	private static final String SEPARATOR = "|";
+	private static final String EVICT = "evict";
+	private static final String EVICT_PREFIX = "evict-prefix";
+	private static final String CLEAR = "clear";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final CacheManager remoteCacheManager;
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final long maxSize;
+	private final Duration ttl;
+	// 이 인스턴스가 보낸 메시지 구분용
+	private final String origin = UUID.randomUUID().toString();
+
+	private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+	public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+			MeterRegistry meterRegistry, long maxSize, Duration ttl) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		TwoLevelCache cache = caches.get(name);
+		if (cache != null) {
+			return cache;
+		}
+		Cache remote = remoteCacheManager.getCache(name);
+		if (remote == null) {
+			return null;
+		}
+		return caches.computeIfAbsent(name, key -> {
+			TwoLevelCache created = new TwoLevelCache(name, remote, Caffeine.newBuilder()
+					.maximumSize(maxSize)
+					.expireAfterWrite(ttl)
+					.<String, Cache.ValueWrapper>build(), this);
+			registerMetrics(created);
+			return created;
+		});
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return remoteCacheManager.getCacheNames();
+	}
+
+	@Override
+	public void evict(String cacheName, String key) {
+		publish(cacheName + SEPARATOR + EVICT + SEPARATOR + key);
+	}
+
+	@Override
+	public void evictByPrefix(String cacheName, String prefix) {
+		publish(cacheName + SEPARATOR + EVICT_PREFIX + SEPARATOR + prefix);
+	}
+
+	@Override
+	public void clear(String cacheName) {
+		publish(cacheName + SEPARATOR + CLEAR + SEPARATOR);
+	}
+
+	// 메시지: {origin}|{cacheName}|evict|{key}, {origin}|{cacheName}|evict-prefix|{prefix} 또는 {origin}|{cacheName}|clear|
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+		if (parts.length < 4 || origin.equals(parts[0])) {
+			return;
+		}
+		TwoLevelCache cache = caches.get(parts[1]);
+		if (cache == null) {
+			return;
+		}
+		if (CLEAR.equals(parts[2])) {
+			cache.clearLocal();
+		} else if (EVICT_PREFIX.equals(parts[2])) {
+			cache.evictLocalByPrefix(parts[3]);
+		} else {
+			cache.evictLocal(parts[3]);
+		}
+	}
+
+	private void publish(String body) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, origin + SEPARATOR + body);
+		} catch (RuntimeException e) {
+			// 다른 인스턴스는 L1 TTL이 지나면 갱신됨
+			logger.warn("Failed to publish cache invalidation: {}", e.getMessage());
+		}
+	}
+
+	private void registerMetrics(TwoLevelCache cache) {
+		String name = cache.getName();
+		counter(name, "l1", "hit", cache, TwoLevelCache::getLocalHits);
+		counter(name, "l1", "miss", cache, TwoLevelCache::getLocalMisses);
+		counter(name, "l2", "hit", cache, TwoLevelCache::getRemoteHits);
+		counter(name, "l2", "miss", cache, TwoLevelCache::getRemoteMisses);
+		Gauge.builder("portfolio.cache.hit.ratio", cache,
+				c -> ratio(c.getLocalHits(), c.getLocalMisses()))
+				.tags("cache", name, "level", "l1")
+				.register(meterRegistry);
+		Gauge.builder("portfolio.cache.hit.ratio", cache,
+				c -> ratio(c.getRemoteHits(), c.getRemoteMisses()))
+				.tags("cache", name, "level", "l2")
+				.register(meterRegistry);
+		Gauge.builder("portfolio.cache.l1.size", cache, TwoLevelCache::getLocalSize)
+				.tags("cache", name)
+				.register(meterRegistry);
+	}
+
+	private void counter(String name, String level, String result, TwoLevelCache cache,
+			ToLongFunction<TwoLevelCache> count) {
+		FunctionCounter.builder("portfolio.cache.requests", cache, c -> count.applyAsLong(c))
+				.tags("cache", name, "level", level, "result", result)
+				.register(meterRegistry);
+	}
+
+	private static double ratio(long hits, long misses) {
+		long total = hits + misses;
+		return total == 0 ? 0.0 : (double) hits / total;
+	}
+}
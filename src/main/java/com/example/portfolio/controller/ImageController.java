@@ -0,0 +1,55 @@
+package com.example.portfolio.controller;
+
+import java.time.Duration;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.portfolio.service.ImageDeliveryService;
+import com.example.portfolio.service.ImageDeliveryService.ImageDelivery;
+
+// 이미지 전송 (Accept 헤더로 형식 선택, w로 너비 선택)
+@RestController
+public class ImageController {
+
+	// 내용이 바뀌면 URL/ETag도 바뀌므로 1년 동안 재검증 없이 캐시
+	private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+	private final ImageDeliveryService imageDeliveryService;
+
+	public ImageController(ImageDeliveryService imageDeliveryService) {
+		this.imageDeliveryService = imageDeliveryService;
+	}
+
+	@GetMapping("/img/{projectId}/{id}")
+	public ResponseEntity<Resource> getImage(@PathVariable("projectId") Long projectId, @PathVariable("id") Long id,
+			@RequestParam(name = "w", required = false) Integer width,
+			@RequestParam(name = "fmt", required = false) String format,
+			@RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+			WebRequest webRequest) {
+		ImageDelivery delivery = imageDeliveryService.resolve(projectId, id, width, format, accept);
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.eTag(delivery.getEtag())
+				.cacheControl(IMMUTABLE);
+		if (delivery.isNegotiated()) {
+			response.varyBy(HttpHeaders.ACCEPT);
+		}
+		// If-None-Match가 같으면 변환/읽기 없이 304
+		if (webRequest.checkNotModified(delivery.getEtag())) {
+			return response.build();
+		}
+		// 캐시 안에서 연 스트림으로 응답해서 전송 중에 캐시에서 밀려나도 끝까지 보냄
+		return response
+				.contentType(delivery.getFormat().getMediaType())
+				.body(imageDeliveryService.load(delivery));
+	}
+}
@@ -0,0 +1,90 @@
+package com.example.portfolio.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.storage.LocalObjectStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 로컬 저장소 객체 전송 (portfolio.storage.type=local 일 때만 등록)
+@RestController
+@ConditionalOnProperty(name = "portfolio.storage.type", havingValue = "local")
+public class LocalObjectStoreController {
+
+	private static final String FILES_PATH = "/files/";
+
+	private final LocalObjectStore localObjectStore;
+
+	public LocalObjectStoreController(LocalObjectStore localObjectStore) {
+		this.localObjectStore = localObjectStore;
+	}
+
+	@GetMapping(FILES_PATH + "**")
+	public void getFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String objectName = objectName(request);
+
+		long size = localObjectStore.size(objectName);
+		response.setContentType(MediaTypeFactory.getMediaType(objectName)
+				.orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+		response.setContentLengthLong(size);
+		localObjectStore.transferTo(objectName, Channels.newChannel(response.getOutputStream()));
+	}
+
+	// signUpload로 발급한 URL로 들어온 직접 업로드 (GCS 서명 URL PUT과 같은 방식)
+	// max-length보다 큰 본문은 GCS의 x-goog-content-length-range처럼 저장하지 않고 거절
+	@PutMapping(FILES_PATH + "**")
+	public void putFile(HttpServletRequest request,
+			@RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+			@RequestParam("max-length") long maxLength, @RequestParam("expires") long expires,
+			@RequestParam("signature") String signature) {
+		String objectName = objectName(request);
+		localObjectStore.verifyUpload(objectName, contentType, maxLength, expires, signature);
+		if (request.getContentLengthLong() > maxLength) {
+			throw tooLarge(objectName, maxLength);
+		}
+		localObjectStore.upload(objectName, contentType, out -> {
+			// Content-Length 없이 보내는 경우도 있으므로 받으면서 확인 (예외가 나면 임시 파일은 삭제됨)
+			InputStream in = request.getInputStream();
+			byte[] buffer = new byte[8192];
+			long received = 0;
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				received += read;
+				if (received > maxLength) {
+					throw tooLarge(objectName, maxLength);
+				}
+				out.write(buffer, 0, read);
+			}
+		});
+	}
+
+	private CustomException tooLarge(String objectName, long maxLength) {
+		return new CustomException(
+				HttpStatus.PAYLOAD_TOO_LARGE,
+				ErrorCode.UPLOAD_TOO_LARGE,
+				"Upload exceeds " + maxLength + " bytes: " + objectName);
+	}
+
+	private String objectName(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length() + FILES_PATH.length());
+		return UriUtils.decode(path, StandardCharsets.UTF_8);
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,6 +27,10 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.portfolio.dto.CategoryCreateDto;
 import com.example.portfolio.dto.CategoryDto;
 import com.example.portfolio.dto.CategoryUpdateDto;
+import com.example.portfolio.dto.DirectUploadDto;
+import com.example.portfolio.dto.DirectUploadFinalizeDto;
+import com.example.portfolio.dto.DirectUploadRequestDto;
+import com.example.portfolio.dto.IngestJobDto;
 import com.example.portfolio.dto.ProjectCreateDto;
 import com.example.portfolio.dto.ProjectDetailDto;
 import com.example.portfolio.dto.ProjectDetailPageDto;
@@ -40,9 +45,13 @@ import com.example.portfolio.model.Category;
 import com.example.portfolio.security.AdminDetailsService;
 import com.example.portfolio.service.AdminService;
 import com.example.portfolio.service.CategoryService;
+import com.example.portfolio.service.DirectUploadService;
+import com.example.portfolio.service.IngestJobService;
 import com.example.portfolio.service.PhotoService;
 import com.example.portfolio.service.ProjectService;
+import com.example.portfolio.service.UploadSpooler;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
@@ -54,29 +63,72 @@ public class ProjectController {
 	private final AdminService adminService;
 	private final AdminDetailsService adminDetailsService;
 	private final PhotoService photoService;
+	private final IngestJobService ingestJobService;
+	private final UploadSpooler uploadSpooler;
+	private final DirectUploadService directUploadService;
 
 	// 생성자 주입
 	public ProjectController(CategoryService categoryService, ProjectService projectService, AdminService adminService,
-			AdminDetailsService adminDetailsService, PhotoService photoService) {
+			AdminDetailsService adminDetailsService, PhotoService photoService, IngestJobService ingestJobService,
+			UploadSpooler uploadSpooler, DirectUploadService directUploadService) {
 		this.categoryService = categoryService;
 		this.projectService = projectService;
 		this.adminService = adminService;
 		this.adminDetailsService = adminDetailsService;
 		this.photoService = photoService;
+		this.ingestJobService = ingestJobService;
+		this.uploadSpooler = uploadSpooler;
+		this.directUploadService = directUploadService;
 	}
  
+	// 프로젝트만 저장하고 이미지 처리는 작업으로 등록 (202 + 작업 id)
 	@PostMapping("/create/project")
-	public void createProject(@ModelAttribute ProjectCreateDto projectCreateDtos) {
-		projectService.createProject(projectCreateDtos);
+	public ResponseEntity<IngestJobDto> createProject(@ModelAttribute ProjectCreateDto projectCreateDtos) {
+		return ResponseEntity.accepted().body(projectService.createProject(projectCreateDtos));
+	}
+
+	// 같은 요청을 servlet multipart 처리 없이 요청 스트림에서 바로 읽어서 생성 (큰 사진 여러 장 업로드용)
+	@PostMapping(value = "/create/project/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<IngestJobDto> createProjectStreaming(HttpServletRequest request) {
+		UploadSpooler.StreamedMultipart multipart = uploadSpooler.read(request);
+		try {
+			ProjectCreateDto projectCreateDto = new ProjectCreateDto();
+			projectCreateDto.setTitle(multipart.getField("title"));
+			projectCreateDto.setCategoryId(multipart.getLongField("categoryId"));
+			projectCreateDto.setSubcategoryId(multipart.getLongField("subcategoryId"));
+			return ResponseEntity.accepted().body(projectService.createProject(projectCreateDto,
+					multipart.getFile("thumbnailMultipartFile"), multipart.getFiles("photoMultipartFiles")));
+		} catch (RuntimeException e) {
+			multipart.discard();
+			throw e;
+		}
+	}
+
+	// 파일 본문은 서버를 거치지 않고 발급한 URL로 저장소에 직접 업로드
+	@PostMapping("/uploads")
+	public List<DirectUploadDto> createUploads(@RequestBody DirectUploadRequestDto directUploadRequestDto) {
+		return directUploadService.createUploads(directUploadRequestDto);
+	}
+
+	// 직접 업로드가 끝난 파일을 사진으로 등록 (202 + 작업 id)
+	@PostMapping("/uploads/finalize")
+	public ResponseEntity<IngestJobDto> finalizeUploads(@RequestBody DirectUploadFinalizeDto directUploadFinalizeDto) {
+		return ResponseEntity.accepted().body(directUploadService.finalizeUploads(directUploadFinalizeDto));
 	}
 
 	@PutMapping("/update/project/{id}")
-	public void updateProject(@ModelAttribute ProjectUpdateDto projectUpdateDto, @PathVariable("id") Long id)
-			throws IOException {
+	public ResponseEntity<IngestJobDto> updateProject(@ModelAttribute ProjectUpdateDto projectUpdateDto,
+			@PathVariable("id") Long id) throws IOException {
 		// 프로젝트 ID 설정
 		projectUpdateDto.setId(id);
 		// 프로젝트 업데이트 서비스 호출
-		projectService.updateProject(projectUpdateDto);
+		return ResponseEntity.accepted().body(projectService.updateProject(projectUpdateDto));
+	}
+
+	// 이미지 처리 작업 진행 상황 (사진별 상태 포함)
+	@GetMapping("/jobs/{jobId}")
+	public IngestJobDto getIngestJob(@PathVariable("jobId") String jobId) {
+		return ingestJobService.getJob(jobId);
 	}
 
 	@GetMapping("/get/project")
@@ -0,0 +1,88 @@
+package com.example.portfolio.controller;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.portfolio.dto.IngestJobDto;
+import com.example.portfolio.dto.ResumableUploadCompleteDto;
+import com.example.portfolio.dto.ResumableUploadCreateDto;
+import com.example.portfolio.dto.ResumableUploadDto;
+import com.example.portfolio.service.ResumableUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 이어 올리기 업로드 (tus 방식)
+// 1. POST /api/resumable 로 세션 생성 (파일 크기 지정)
+// 2. PATCH /api/resumable/{id} 로 Upload-Offset 위치부터 청크 전송 (본문 = 파일 바이트 그대로)
+// 3. 연결이 끊기면 HEAD/GET /api/resumable/{id} 의 Upload-Offset부터 다시 전송
+// 4. 모든 파일을 다 보내면 POST /api/resumable/complete 로 사진 등록 (202 + 작업 id)
+@RestController
+@RequestMapping("/api/resumable")
+public class ResumableUploadController {
+
+	private static final String UPLOAD_OFFSET = "Upload-Offset";
+	private static final String UPLOAD_LENGTH = "Upload-Length";
+	private static final String UPLOAD_EXPIRES = "Upload-Expires";
+	private static final String OFFSET_OCTET_STREAM = "application/offset+octet-stream";
+
+	private final ResumableUploadService resumableUploadService;
+
+	public ResumableUploadController(ResumableUploadService resumableUploadService) {
+		this.resumableUploadService = resumableUploadService;
+	}
+
+	@PostMapping
+	public ResponseEntity<ResumableUploadDto> createUpload(@RequestBody ResumableUploadCreateDto request) {
+		ResumableUploadDto upload = resumableUploadService.create(request);
+		return ResponseEntity.created(URI.create("/api/resumable/" + upload.getId()))
+				.header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+				.header(UPLOAD_LENGTH, String.valueOf(upload.getLength()))
+				.header(UPLOAD_EXPIRES, upload.getExpiresAt())
+				.body(upload);
+	}
+
+	// HEAD 요청도 이 메서드가 처리 (본문 없이 헤더만)
+	@GetMapping("/{id}")
+	public ResponseEntity<ResumableUploadDto> getUpload(@PathVariable("id") String id) {
+		ResumableUploadDto upload = resumableUploadService.get(id);
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noStore())
+				.header(UPLOAD_OFFSET, String.valueOf(upload.getOffset()))
+				.header(UPLOAD_LENGTH, String.valueOf(upload.getLength()))
+				.header(UPLOAD_EXPIRES, upload.getExpiresAt())
+				.body(upload);
+	}
+
+	// 요청 본문을 그대로 파일에 이어 붙임 (multipart 처리 없음)
+	@PatchMapping(value = "/{id}", consumes = { OFFSET_OCTET_STREAM, "application/octet-stream" })
+	public ResponseEntity<Void> appendChunk(@PathVariable("id") String id,
+			@RequestHeader(UPLOAD_OFFSET) long offset, HttpServletRequest request) throws IOException {
+		long newOffset = resumableUploadService.append(id, offset, request.getInputStream());
+		return ResponseEntity.noContent()
+				.header(UPLOAD_OFFSET, String.valueOf(newOffset))
+				.build();
+	}
+
+	@DeleteMapping("/{id}")
+	public ResponseEntity<Void> abortUpload(@PathVariable("id") String id) {
+		resumableUploadService.abort(id);
+		return ResponseEntity.noContent().build();
+	}
+
+	@PostMapping("/complete")
+	public ResponseEntity<IngestJobDto> completeUploads(@RequestBody ResumableUploadCompleteDto request) {
+		return ResponseEntity.accepted().body(resumableUploadService.complete(request));
+	}
+}
@@ -6,6 +6,7 @@ public class CategoryDto {
     private Long id;
     private String name;
     private List<SubCategoryDto> subCategories;
+    private long projectCount; // 이 카테고리에 속한 프로젝트 수
 
     public Long getId() {
         return id;
@@ -30,4 +31,12 @@ public class CategoryDto {
     public void setSubCategories(List<SubCategoryDto> subCategories) {
         this.subCategories = subCategories;
     }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(long projectCount) {
+        this.projectCount = projectCount;
+    }
 }
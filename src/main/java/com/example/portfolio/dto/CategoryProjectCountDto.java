@@ -0,0 +1,42 @@
+package com.example.portfolio.dto;
+
+// 카테고리/서브카테고리 조합별 프로젝트 수 (서브카테고리가 없는 프로젝트는 subCategoryId = null)
+public class CategoryProjectCountDto {
+    private Long categoryId;
+    private Long subCategoryId;
+    private long count;
+
+    public CategoryProjectCountDto() {
+    }
+
+    // JPQL 조회용
+    public CategoryProjectCountDto(Long categoryId, Long subCategoryId, Long count) {
+        this.categoryId = categoryId;
+        this.subCategoryId = subCategoryId;
+        this.count = count != null ? count : 0;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Long getSubCategoryId() {
+        return subCategoryId;
+    }
+
+    public void setSubCategoryId(Long subCategoryId) {
+        this.subCategoryId = subCategoryId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.portfolio.dto;
+
+import java.util.Map;
+
+// 발급된 업로드 URL (클라이언트가 method + headers로 url에 파일 본문을 그대로 전송)
+public class DirectUploadDto {
+	private String objectName;
+	private String url;
+	private String method;
+	private Map<String, String> headers;
+	private String expiresAt;
+
+	public DirectUploadDto() {
+	}
+
+	public DirectUploadDto(String objectName, String url, String method, Map<String, String> headers,
+			String expiresAt) {
+		this.objectName = objectName;
+		this.url = url;
+		this.method = method;
+		this.headers = headers;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getObjectName() {
+		return objectName;
+	}
+
+	public void setObjectName(String objectName) {
+		this.objectName = objectName;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public void setMethod(String method) {
+		this.method = method;
+	}
+
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	public void setHeaders(Map<String, String> headers) {
+		this.headers = headers;
+	}
+
+	public String getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(String expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.portfolio.dto;
+
+import java.util.List;
+
+// 업로드가 끝난 객체를 프로젝트 사진으로 등록
+public class DirectUploadFinalizeDto {
+	private Long projectId;
+	private List<String> objectNames;
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public List<String> getObjectNames() {
+		return objectNames;
+	}
+
+	public void setObjectNames(List<String> objectNames) {
+		this.objectNames = objectNames;
+	}
+}
@@ -0,0 +1,46 @@
+package com.example.portfolio.dto;
+
+import java.util.List;
+
+// 직접 업로드 URL 발급 요청 (프로젝트에 추가할 파일 목록)
+public class DirectUploadRequestDto {
+	private Long projectId;
+	private List<File> files;
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public List<File> getFiles() {
+		return files;
+	}
+
+	public void setFiles(List<File> files) {
+		this.files = files;
+	}
+
+	public static class File {
+		private String filename;
+		private String contentType;
+
+		public String getFilename() {
+			return filename;
+		}
+
+		public void setFilename(String filename) {
+			this.filename = filename;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public void setContentType(String contentType) {
+			this.contentType = contentType;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.example.portfolio.dto;
+
+import java.util.List;
+
+public class IngestJobDto {
+	private String jobId;
+	private Long projectId;
+	private String status;
+	private int total;
+	private int completed;
+	private int failed;
+	private String error;
+	private String createdAt;
+	private String finishedAt;
+	private List<Item> items;
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	public void setJobId(String jobId) {
+		this.jobId = jobId;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+	public void setTotal(int total) {
+		this.total = total;
+	}
+
+	public int getCompleted() {
+		return completed;
+	}
+
+	public void setCompleted(int completed) {
+		this.completed = completed;
+	}
+
+	public int getFailed() {
+		return failed;
+	}
+
+	public void setFailed(int failed) {
+		this.failed = failed;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	public String getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(String createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public String getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(String finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public List<Item> getItems() {
+		return items;
+	}
+
+	public void setItems(List<Item> items) {
+		this.items = items;
+	}
+
+	// 썸네일/사진 한 장 단위 진행 상황
+	public static class Item {
+		private String type;
+		private String name;
+		private String status;
+		private String error;
+
+		public Item() {
+		}
+
+		public Item(String type, String name, String status, String error) {
+			this.type = type;
+			this.name = name;
+			this.status = status;
+			this.error = error;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public void setType(String type) {
+			this.type = type;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+
+		public String getError() {
+			return error;
+		}
+
+		public void setError(String error) {
+			this.error = error;
+		}
+	}
+}
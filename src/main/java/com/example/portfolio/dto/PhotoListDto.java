@@ -1,8 +1,16 @@
 package com.example.portfolio.dto;
 
+import com.example.portfolio.image.ImageVariants;
+
 public class PhotoListDto {
 	private Long id;
 	private String imageUrl; 
+	private String srcset;
+	// 이미지를 받기 전에 레이아웃을 계산할 수 있도록 크기 포함
+	private Integer width;
+	private Integer height;
+	private Long byteSize;
+	private String blurHash; // 로딩 전 미리보기
 	
 	public PhotoListDto() {}
 
@@ -11,6 +19,17 @@ public class PhotoListDto {
 		this.id = id;
 		this.imageUrl = imageUrl;
 	}
+	
+	// JPQL 조회용 (변형본 너비로 srcset 생성)
+	public PhotoListDto(Long id, String imageUrl, String variantWidths, Integer width, Integer height, Long byteSize,
+			String blurHash) {
+		this(id, imageUrl);
+		this.blurHash = blurHash;
+		this.srcset = ImageVariants.srcset(imageUrl, variantWidths);
+		this.width = width;
+		this.height = height;
+		this.byteSize = byteSize;
+	}
 
 	public Long getId() {
 		return id;
@@ -29,4 +48,44 @@ public class PhotoListDto {
 		this.imageUrl = imageUrl;
 	}
 	
+	public String getSrcset() {
+		return srcset;
+	}
+	
+	public void setSrcset(String srcset) {
+		this.srcset = srcset;
+	}
+	
+	public Integer getWidth() {
+		return width;
+	}
+	
+	public void setWidth(Integer width) {
+		this.width = width;
+	}
+	
+	public Integer getHeight() {
+		return height;
+	}
+	
+	public void setHeight(Integer height) {
+		this.height = height;
+	}
+	
+	public Long getByteSize() {
+		return byteSize;
+	}
+	
+	public void setByteSize(Long byteSize) {
+		this.byteSize = byteSize;
+	}
+	
+	public String getBlurHash() {
+		return blurHash;
+	}
+	
+	public void setBlurHash(String blurHash) {
+		this.blurHash = blurHash;
+	}
+	
 }
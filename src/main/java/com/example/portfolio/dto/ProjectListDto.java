@@ -2,6 +2,8 @@ package com.example.portfolio.dto;
 
 import java.util.Date;
 
+import com.example.portfolio.image.ImageVariants;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -26,6 +28,12 @@ public class ProjectListDto {
     private String categoryName;
     private String subCategoryName;
     private Long imageCount;
+    private String srcset; // 썸네일 변형본 srcset
+    // 썸네일 크기 (이미지를 받기 전에 레이아웃 계산)
+    private Integer width;
+    private Integer height;
+    private Long byteSize;
+    private String blurHash; // 썸네일 로딩 전 미리보기
 
     // 기본 생성자
     public ProjectListDto() {
@@ -53,6 +61,18 @@ public class ProjectListDto {
         this.imageCount = imageCount;
     }
 
+    // JPQL 조회용 (썸네일 변형본 너비로 srcset 생성)
+    public ProjectListDto(Long id, String title, String imageUrl, Date createdAt, int view,
+            String categoryName, String subCategoryName, Long imageCount, String thumbnailVariantWidths,
+            Integer thumbnailWidth, Integer thumbnailHeight, Long thumbnailByteSize, String thumbnailBlurHash) {
+        this(id, title, imageUrl, createdAt, view, categoryName, subCategoryName, imageCount);
+        this.srcset = ImageVariants.srcset(imageUrl, thumbnailVariantWidths);
+        this.width = thumbnailWidth;
+        this.height = thumbnailHeight;
+        this.byteSize = thumbnailByteSize;
+        this.blurHash = thumbnailBlurHash;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -118,6 +138,46 @@ public class ProjectListDto {
         this.imageCount = imageCount;
     }
 
+    public String getSrcset() {
+        return srcset;
+    }
+
+    public void setSrcset(String srcset) {
+        this.srcset = srcset;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    public Long getByteSize() {
+        return byteSize;
+    }
+
+    public void setByteSize(Long byteSize) {
+        this.byteSize = byteSize;
+    }
+
+    public String getBlurHash() {
+        return blurHash;
+    }
+
+    public void setBlurHash(String blurHash) {
+        this.blurHash = blurHash;
+    }
+
     @Override
     public String toString() {
         return "ProjectListDto{" +
@@ -129,6 +189,11 @@ public class ProjectListDto {
                 ", categoryName='" + categoryName + '\'' +
                 ", subCategoryName='" + subCategoryName + '\'' +
                 ", imageCount=" + imageCount +
+                ", srcset='" + srcset + '\'' +
+                ", width=" + width +
+                ", height=" + height +
+                ", byteSize=" + byteSize +
+                ", blurHash='" + blurHash + '\'' +
                 '}';
     }
 }
@@ -0,0 +1,25 @@
+package com.example.portfolio.dto;
+
+import java.util.List;
+
+// 다 받은 업로드 세션을 프로젝트 사진으로 등록
+public class ResumableUploadCompleteDto {
+	private Long projectId;
+	private List<String> uploadIds;
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public List<String> getUploadIds() {
+		return uploadIds;
+	}
+
+	public void setUploadIds(List<String> uploadIds) {
+		this.uploadIds = uploadIds;
+	}
+}
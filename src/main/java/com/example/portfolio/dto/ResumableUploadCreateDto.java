@@ -0,0 +1,41 @@
+package com.example.portfolio.dto;
+
+// 이어 올리기 업로드 세션 생성 요청 (파일 하나당 세션 하나, 전체 크기를 미리 알려야 함)
+public class ResumableUploadCreateDto {
+	private Long projectId;
+	private String filename;
+	private String contentType;
+	private Long length;
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public String getFilename() {
+		return filename;
+	}
+
+	public void setFilename(String filename) {
+		this.filename = filename;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public Long getLength() {
+		return length;
+	}
+
+	public void setLength(Long length) {
+		this.length = length;
+	}
+}
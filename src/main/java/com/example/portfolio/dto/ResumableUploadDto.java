@@ -0,0 +1,72 @@
+package com.example.portfolio.dto;
+
+// 업로드 세션 상태 (offset = 지금까지 받은 바이트 수, 다음 PATCH는 이 위치부터 전송)
+public class ResumableUploadDto {
+	private String id;
+	private Long projectId;
+	private String filename;
+	private long offset;
+	private long length;
+	private String expiresAt;
+
+	public ResumableUploadDto() {
+	}
+
+	public ResumableUploadDto(String id, Long projectId, String filename, long offset, long length,
+			String expiresAt) {
+		this.id = id;
+		this.projectId = projectId;
+		this.filename = filename;
+		this.offset = offset;
+		this.length = length;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public String getFilename() {
+		return filename;
+	}
+
+	public void setFilename(String filename) {
+		this.filename = filename;
+	}
+
+	public long getOffset() {
+		return offset;
+	}
+
+	public void setOffset(long offset) {
+		this.offset = offset;
+	}
+
+	public long getLength() {
+		return length;
+	}
+
+	public void setLength(long length) {
+		this.length = length;
+	}
+
+	public String getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(String expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+}
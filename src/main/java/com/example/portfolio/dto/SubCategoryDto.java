@@ -3,6 +3,7 @@ package com.example.portfolio.dto;
 public class SubCategoryDto {
     private Long id;
     private String name;
+    private long projectCount; // 이 카테고리에 속한 프로젝트 수
 
     public Long getId() {
         return id;
@@ -19,4 +20,12 @@ public class SubCategoryDto {
     public void setName(String name) {
         this.name = name;
     }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(long projectCount) {
+        this.projectCount = projectCount;
+    }
 }
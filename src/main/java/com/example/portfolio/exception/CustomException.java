@@ -15,13 +15,16 @@ public class CustomException extends RuntimeException {
         this.detail = "";
     }
  
+    // getMessage()도 detail을 반환하도록 (작업 상태, 로그에 사유 표시)
     public CustomException(HttpStatus status, ErrorCode errorCode, String detail) {
+        super(detail);
         this.status = status;
         this.errorCode = errorCode;
         this.detail = detail;
     }
  
     public CustomException(HttpStatus status, ErrorCode errorCode, Throwable cause) {
+        super(cause.getMessage(), cause);
         this.status = status;
         this.errorCode = errorCode;
         this.detail = cause.getMessage();
@@ -4,7 +4,23 @@ public enum ErrorCode {
 	// 520 처리되지 않은 에러
 	UNKNOWN("UNKNWON", "An unknown error occurred"),
 	
+	// 400
+	UNSUPPORTED_IMAGE_FORMAT("UNSUPPORTED_IMAGE_FORMAT", "Unsupported image format"),
+	INVALID_MULTIPART_REQUEST("INVALID_MULTIPART_REQUEST", "Invalid multipart request"),
+	INVALID_IMAGE_WIDTH("INVALID_IMAGE_WIDTH", "Invalid image width"),
+	INVALID_UPLOAD_OBJECT("INVALID_UPLOAD_OBJECT", "Invalid uploaded object"),
+	
+	// 403
+	INVALID_UPLOAD_SIGNATURE("INVALID_UPLOAD_SIGNATURE", "Upload URL is invalid or expired"),
+	
+	// 413
+	UPLOAD_TOO_LARGE("UPLOAD_TOO_LARGE", "Uploaded file is too large"),
+	IMAGE_DIMENSIONS_TOO_LARGE("IMAGE_DIMENSIONS_TOO_LARGE", "Image dimensions are too large"),
+	
 	// 409
+	UPLOAD_OFFSET_MISMATCH("UPLOAD_OFFSET_MISMATCH", "Upload offset does not match the received size"),
+	UPLOAD_INCOMPLETE("UPLOAD_INCOMPLETE", "Upload has not been fully received"),
+	UPLOAD_COMPLETING("UPLOAD_COMPLETING", "Upload is already being completed"),
 	CATEGORY_IN_USE("CATEGORY_IN_USE", "Category cannot be deleted because it is being used in projects"),
 	SUBCATEGORY_IN_USE("SUBCATEGORY_IN_USE", "Subcategory cannot be deleted because it is being used in projects"),
 	
@@ -12,10 +28,23 @@ public enum ErrorCode {
 	NOT_FIND_PROJECT("NOT_FIND_PROJECT", "Project not found"),
 	CATEGORY_NOT_FOUND("CATEGORY_NOT_FOUND", "Category not found"),
 	SUBCATEGORY_NOT_FOUND("SUBCATEGORY_NOT_FOUND", "Subcategory not found"),
+	PHOTO_NOT_FOUND("PHOTO_NOT_FOUND", "Photo not found"),
 	STORAGE_FILE_NOT_FOUND("STORAGE_FILE_NOT_FOUND", "File not found in storage"),
 	STORAGE_KEY_FILE_NOT_FOUND("STORAGE_KEY_FILE_NOT_FOUND", "Storage key file not found"),
 	STORAGE_BATCH_DELETE_ERROR("STORAGE_BATCH_DELETE_ERROR", "Failed to delete multiple files from storage"),
+	INGEST_JOB_NOT_FOUND("INGEST_JOB_NOT_FOUND", "Image upload job not found"),
+	UPLOAD_SESSION_NOT_FOUND("UPLOAD_SESSION_NOT_FOUND", "Upload session not found or expired"),
    
+	// 429
+	UPLOAD_SESSION_LIMIT("UPLOAD_SESSION_LIMIT", "Too many upload sessions are open"),
+
+	// 503
+	INGEST_QUEUE_FULL("INGEST_QUEUE_FULL", "Image upload queue is full"),
+	IMAGE_DECODE_BUSY("IMAGE_DECODE_BUSY", "Too many images are being processed"),
+   
+	// 507
+	UPLOAD_STORAGE_FULL("UPLOAD_STORAGE_FULL", "Not enough space reserved for uploads"),
+
 	// 500 Internal Server Error
     STORAGE_IO_ERROR("STORAGE_IO_ERROR", "Storage I/O operation failed"),
     DATABASE_ERROR("DATABASE_ERROR", "Database operation failed");
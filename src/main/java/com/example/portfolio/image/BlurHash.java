@@ -0,0 +1,125 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+
+// BlurHash 인코더 (https://blurha.sh) - 이미지를 받기 전에 보여줄 흐린 미리보기 문자열
+// 계산량이 픽셀 수 x 성분 수에 비례하므로 32px 정도로 줄인 이미지를 넘겨야 함
+public final class BlurHash {
+
+	private static final String CHARACTERS =
+			"0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+	private BlurHash() {
+	}
+
+	// 가로가 길면 4x3, 세로가 길면 3x4 성분
+	public static String encode(BufferedImage image) {
+		boolean landscape = image.getWidth() >= image.getHeight();
+		return encode(image, landscape ? 4 : 3, landscape ? 3 : 4);
+	}
+
+	public static String encode(BufferedImage image, int componentsX, int componentsY) {
+		if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+			throw new IllegalArgumentException("BlurHash components must be between 1 and 9");
+		}
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+		// 채널별 선형 RGB 값 (행 단위로 반복 계산하지 않도록 미리 변환)
+		double[] red = new double[pixels.length];
+		double[] green = new double[pixels.length];
+		double[] blue = new double[pixels.length];
+		for (int i = 0; i < pixels.length; i++) {
+			red[i] = srgbToLinear((pixels[i] >> 16) & 0xFF);
+			green[i] = srgbToLinear((pixels[i] >> 8) & 0xFF);
+			blue[i] = srgbToLinear(pixels[i] & 0xFF);
+		}
+
+		double[][] factors = new double[componentsX * componentsY][];
+		for (int j = 0; j < componentsY; j++) {
+			for (int i = 0; i < componentsX; i++) {
+				factors[j * componentsX + i] = multiplyBasis(i, j, width, height, red, green, blue);
+			}
+		}
+
+		StringBuilder hash = new StringBuilder();
+		encode83((componentsX - 1) + (componentsY - 1) * 9, 1, hash);
+
+		double maximumValue;
+		if (factors.length > 1) {
+			double actualMaximum = 0;
+			for (int i = 1; i < factors.length; i++) {
+				for (double value : factors[i]) {
+					actualMaximum = Math.max(actualMaximum, Math.abs(value));
+				}
+			}
+			int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+			maximumValue = (quantisedMaximum + 1) / 166.0;
+			encode83(quantisedMaximum, 1, hash);
+		} else {
+			maximumValue = 1;
+			encode83(0, 1, hash);
+		}
+
+		encode83(encodeDc(factors[0]), 4, hash);
+		for (int i = 1; i < factors.length; i++) {
+			encode83(encodeAc(factors[i], maximumValue), 2, hash);
+		}
+		return hash.toString();
+	}
+
+	private static double[] multiplyBasis(int componentX, int componentY, int width, int height,
+			double[] red, double[] green, double[] blue) {
+		double normalisation = componentX == 0 && componentY == 0 ? 1 : 2;
+		double r = 0;
+		double g = 0;
+		double b = 0;
+		for (int y = 0; y < height; y++) {
+			double basisY = Math.cos(Math.PI * componentY * y / height);
+			for (int x = 0; x < width; x++) {
+				double basis = normalisation * Math.cos(Math.PI * componentX * x / width) * basisY;
+				int index = y * width + x;
+				r += basis * red[index];
+				g += basis * green[index];
+				b += basis * blue[index];
+			}
+		}
+		double scale = 1.0 / (width * height);
+		return new double[] { r * scale, g * scale, b * scale };
+	}
+
+	private static int encodeDc(double[] value) {
+		return (linearToSrgb(value[0]) << 16) + (linearToSrgb(value[1]) << 8) + linearToSrgb(value[2]);
+	}
+
+	private static int encodeAc(double[] value, double maximumValue) {
+		int quantR = quantise(value[0] / maximumValue);
+		int quantG = quantise(value[1] / maximumValue);
+		int quantB = quantise(value[2] / maximumValue);
+		return quantR * 19 * 19 + quantG * 19 + quantB;
+	}
+
+	private static int quantise(double value) {
+		return (int) Math.max(0, Math.min(18, Math.floor(Math.copySign(Math.sqrt(Math.abs(value)), value) * 9 + 9.5)));
+	}
+
+	private static double srgbToLinear(int value) {
+		double v = value / 255.0;
+		return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+	}
+
+	private static int linearToSrgb(double value) {
+		double v = Math.max(0, Math.min(1, value));
+		return v <= 0.0031308
+				? (int) (v * 12.92 * 255 + 0.5)
+				: (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+	}
+
+	private static void encode83(int value, int length, StringBuilder out) {
+		for (int i = 1; i <= length; i++) {
+			int digit = (int) (value / Math.pow(83, length - i)) % 83;
+			out.append(CHARACTERS.charAt(digit));
+		}
+	}
+}
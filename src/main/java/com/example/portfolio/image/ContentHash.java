@@ -0,0 +1,35 @@
+package com.example.portfolio.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 원본 바이트 기준 SHA-256 (중복 업로드 판별용)
+public final class ContentHash {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private ContentHash() {
+	}
+
+	// 스트림을 끝까지 읽으면서 해시 계산
+	public static String sha256(InputStream in) throws IOException {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			digest.update(buffer, 0, read);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	public static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// cwebp 바이너리를 프로세스로 실행하는 기존 방식 (기본값)
+@Component
+@ConditionalOnProperty(name = "portfolio.image.encoder", havingValue = "cwebp", matchIfMissing = true)
+public class CwebpEncoder implements WebpEncoder {
+
+	private final int quality;
+
+	public CwebpEncoder(@Value("${portfolio.image.webp-quality:85}") int quality) {
+		this.quality = quality;
+	}
+
+	@Override
+	public int getDefaultQuality() {
+		return quality;
+	}
+
+	@Override
+	public void encode(BufferedImage image, OutputStream out, int quality) throws IOException {
+		// cwebp는 파일 입출력만 지원하므로 무손실 PNG 임시 파일 사용
+		Path sourceFile = Files.createTempFile("cwebp-", ".png");
+		Path webpFile = Files.createTempFile("cwebp-", ".webp");
+		try {
+			ImageIO.write(image, "png", sourceFile.toFile());
+
+			// cwebp 명령어 실행
+			Process process = new ProcessBuilder(
+					"cwebp", "-quiet", "-q", String.valueOf(quality), sourceFile.toString(), "-o", webpFile.toString())
+					.redirectErrorStream(true)
+					.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+					.start();
+
+			// 프로세스 종료 대기
+			int exitCode = process.waitFor();
+			if (exitCode != 0) {
+				throw new IOException("cwebp exited with code " + exitCode);
+			}
+
+			Files.copy(webpFile, out);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("cwebp was interrupted", e);
+		} finally {
+			// 성공/실패와 관계없이 임시 파일 삭제
+			Files.deleteIfExists(sourceFile);
+			Files.deleteIfExists(webpFile);
+		}
+	}
+}
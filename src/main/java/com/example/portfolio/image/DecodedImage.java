@@ -0,0 +1,35 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+
+// 디코딩된 원본 - close 하면 디코딩 메모리 예산 반환
+public class DecodedImage implements AutoCloseable {
+
+	private final BufferedImage image;
+	private final ImageFormat format;
+	private final Runnable release;
+
+	DecodedImage(BufferedImage image, ImageFormat format, Runnable release) {
+		this.image = image;
+		this.format = format;
+		this.release = release;
+	}
+
+	public BufferedImage getImage() {
+		return image;
+	}
+
+	// 회전 등으로 바뀐 래스터로 교체 (메모리 예산은 그대로 유지)
+	DecodedImage withImage(BufferedImage image) {
+		return new DecodedImage(image, format, release);
+	}
+
+	public ImageFormat getFormat() {
+		return format;
+	}
+
+	@Override
+	public void close() {
+		release.run();
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.portfolio.image;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+// 이미지 전송 형식 (서버 선호 순서: 작은 형식부터)
+public enum DeliveryFormat {
+	AVIF("image/avif", "avif"),
+	WEBP("image/webp", "webp"),
+	JPEG("image/jpeg", "jpg");
+
+	private final MediaType mediaType;
+	private final String extension;
+
+	DeliveryFormat(String mediaType, String extension) {
+		this.mediaType = MediaType.parseMediaType(mediaType);
+		this.extension = extension;
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	// fmt 쿼리 값 ("webp", "jpg" 등), 모르는 값이면 null
+	public static DeliveryFormat fromName(String name) {
+		for (DeliveryFormat format : values()) {
+			if (format.extension.equalsIgnoreCase(name) || format.name().equalsIgnoreCase(name)) {
+				return format;
+			}
+		}
+		return null;
+	}
+
+	// Accept 헤더에 명시된 형식 중 서버가 선호하는 형식, 없으면 JPEG
+	// 와일드카드(image/*, */*)만 보내는 클라이언트는 WebP/AVIF 지원을 보장할 수 없으므로 JPEG로 응답
+	public static DeliveryFormat negotiate(String accept, List<DeliveryFormat> available) {
+		if (accept == null || accept.isBlank()) {
+			return JPEG;
+		}
+		List<MediaType> accepted;
+		try {
+			accepted = MediaType.parseMediaTypes(accept);
+		} catch (IllegalArgumentException e) {
+			return JPEG;
+		}
+		for (DeliveryFormat format : available) {
+			for (MediaType mediaType : accepted) {
+				if (!mediaType.isWildcardSubtype() && mediaType.getQualityValue() > 0
+						&& mediaType.isCompatibleWith(format.mediaType)) {
+					return format;
+				}
+			}
+		}
+		return JPEG;
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.drew.imaging.jpeg.JpegMetadataReader;
+import com.drew.imaging.jpeg.JpegProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.MetadataException;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifReader;
+import com.sksamuel.scrimage.ImmutableImage;
+
+// EXIF Orientation 태그 (1~8) 읽기/적용
+// 인코더는 래스터만 기록하므로 회전을 픽셀에 반영하고 나면 EXIF 등 메타데이터는 출력에 남지 않음
+public final class ExifOrientation {
+
+	public static final int NORMAL = 1;
+
+	private ExifOrientation() {
+	}
+
+	// JPEG 세그먼트만 읽고 이미지 데이터 전에 멈춤, 읽을 수 없으면 NORMAL
+	public static int read(InputStream in) {
+		try {
+			Metadata metadata = JpegMetadataReader.readMetadata(in, List.of(new ExifReader()));
+			ExifIFD0Directory directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+			if (directory == null || !directory.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+				return NORMAL;
+			}
+			return directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);
+		} catch (IOException | JpegProcessingException | MetadataException e) {
+			return NORMAL;
+		}
+	}
+
+	public static BufferedImage apply(BufferedImage image, int orientation) {
+		if (orientation <= NORMAL || orientation > 8) {
+			return image;
+		}
+		ImmutableImage oriented = ImmutableImage.wrapAwt(image);
+		switch (orientation) {
+			case 2 -> oriented = oriented.flipX();
+			case 3 -> oriented = oriented.rotateRight().rotateRight();
+			case 4 -> oriented = oriented.flipY();
+			// transpose: 좌상단-우하단 대각선 기준 반전
+			case 5 -> oriented = oriented.rotateRight().flipX();
+			case 6 -> oriented = oriented.rotateRight();
+			// transverse: 우상단-좌하단 대각선 기준 반전
+			case 7 -> oriented = oriented.rotateRight().flipY();
+			case 8 -> oriented = oriented.rotateLeft();
+			default -> {
+			}
+		}
+		return oriented.awt();
+	}
+}
@@ -0,0 +1,223 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileCacheImageInputStream;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.ScaleMethod;
+
+// 헤더만 먼저 읽어서 형식/크기를 확인한 뒤 필요한 만큼만 디코딩
+// 1. 매직 바이트로 형식 판별, 읽을 수 없는 형식은 디코딩 전에 거절
+// 2. 헤더의 가로/세로로 픽셀 수 제한 확인
+// 3. 긴 변이 최대 크기보다 큰 원본은 서브샘플링으로 읽어서 처음부터 최대 크기 이하의 래스터만 만듦
+// 4. 동시에 디코딩되는 래스터 총량을 메모리 예산(세마포어)으로 제한, 예산보다 큰 이미지는 거절
+// 5. JPEG EXIF Orientation을 픽셀에 반영 (출력에는 메타데이터를 남기지 않음)
+// 압축된 입력은 힙에 올리지 않음 (디스크에 있는 원본은 파일에서 바로, 나머지는 임시 파일 캐시로 읽음)
+@Component
+public class ImageDecoder {
+
+	private static final int BYTES_PER_PIXEL = 4;
+	// 디코딩 중 리더 버퍼 + ARGB 변환/축소 중간 이미지
+	private static final int WORKING_COPIES = 2;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	// 긴 변 최대 크기 (portfolio.image.max-width)
+	private final int maxEdge;
+	private final long maxPixels;
+	private final Duration budgetWait;
+	private final int budgetKb;
+	private final Semaphore budget;
+
+	public ImageDecoder(@Value("${portfolio.image.max-width:4096}") int maxEdge,
+			@Value("${portfolio.image.max-pixels:0}") long maxPixels,
+			@Value("${portfolio.image.decode-memory-budget-mb:0}") long decodeMemoryBudgetMb,
+			@Value("${portfolio.image.decode-budget-wait:PT2M}") Duration budgetWait) {
+		this.maxEdge = maxEdge;
+		this.budgetWait = budgetWait;
+		// 0이면 힙의 절반
+		long budgetBytes = decodeMemoryBudgetMb > 0
+				? decodeMemoryBudgetMb * 1024 * 1024
+				: Runtime.getRuntime().maxMemory() / 2;
+		this.budgetKb = (int) Math.min(Integer.MAX_VALUE, budgetBytes / 1024);
+		this.budget = new Semaphore(budgetKb, true);
+		// 0이면 서브샘플링 없이 읽어도 예산 안에 들어오는 픽셀 수 (서브샘플링을 무시하는 리더도 있음)
+		this.maxPixels = maxPixels > 0 ? maxPixels : budgetBytes / (BYTES_PER_PIXEL * WORKING_COPIES);
+	}
+
+	public DecodedImage decode(ImageSource source) {
+		DecodedImage decoded = decodePixels(source);
+		if (decoded.getFormat() != ImageFormat.JPEG) {
+			return decoded;
+		}
+		int orientation = readOrientation(source);
+		if (orientation == ExifOrientation.NORMAL) {
+			return decoded;
+		}
+		try {
+			return decoded.withImage(ExifOrientation.apply(decoded.getImage(), orientation));
+		} catch (RuntimeException e) {
+			decoded.close();
+			throw e;
+		}
+	}
+
+	private int readOrientation(ImageSource source) {
+		try (InputStream in = source.openStream()) {
+			return ExifOrientation.read(in);
+		} catch (IOException e) {
+			return ExifOrientation.NORMAL;
+		}
+	}
+
+	private DecodedImage decodePixels(ImageSource source) {
+		ImageFormat format = sniff(source);
+		ImageReader reader = readerFor(format, source);
+		Path file = source.getFile();
+		try (InputStream in = file == null ? source.openStream() : null;
+				ImageInputStream input = file != null
+						? new FileImageInputStream(file.toFile())
+						: new FileCacheImageInputStream(in, null)) {
+			reader.setInput(input, true, true);
+			int width = reader.getWidth(0);
+			int height = reader.getHeight(0);
+			checkPixels(width, height, source);
+
+			// 올림으로 나눠서 서브샘플링 결과의 긴 변이 최대 크기를 넘지 않게 함 (가로/세로 중 긴 쪽 기준)
+			int subsampling = Math.max(1, ceilDiv(Math.max(width, height), maxEdge));
+			long decodedPixels = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling);
+			int permits = acquire(decodedPixels * BYTES_PER_PIXEL * WORKING_COPIES, source);
+			try {
+				BufferedImage image = read(reader, subsampling);
+				// 서브샘플링을 지원하지 않는 리더로 읽은 경우만 축소
+				if (Math.max(image.getWidth(), image.getHeight()) > maxEdge) {
+					ImmutableImage scaled = ImmutableImage.wrapAwt(image);
+					image = (image.getWidth() >= image.getHeight()
+							? scaled.scaleToWidth(maxEdge, ScaleMethod.Bicubic)
+							: scaled.scaleToHeight(maxEdge, ScaleMethod.Bicubic)).awt();
+				}
+				if (subsampling > 1) {
+					logger.info("Decoded {} ({}x{}) with subsampling {} to {}x{}", source.getOriginalFilename(),
+							width, height, subsampling, image.getWidth(), image.getHeight());
+				}
+				return new DecodedImage(image, format, () -> budget.release(permits));
+			} catch (IOException | RuntimeException e) {
+				budget.release(permits);
+				throw e;
+			}
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.UNSUPPORTED_IMAGE_FORMAT,
+					"Failed to read image " + source.getOriginalFilename() + ": " + e.getMessage());
+		} finally {
+			reader.dispose();
+		}
+	}
+
+	private ImageFormat sniff(ImageSource source) {
+		byte[] header;
+		try (InputStream in = source.openStream()) {
+			header = in.readNBytes(ImageFormat.SNIFF_LENGTH);
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.UNSUPPORTED_IMAGE_FORMAT,
+					"Failed to read image " + source.getOriginalFilename() + ": " + e.getMessage());
+		}
+
+		ImageFormat format = ImageFormat.sniff(header);
+		if (format == null || !format.isDecodable()) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.UNSUPPORTED_IMAGE_FORMAT,
+					"Unsupported image format" + (format != null ? " (" + format.getReaderFormatName() + ")" : "")
+							+ ": " + source.getOriginalFilename());
+		}
+		return format;
+	}
+
+	private ImageReader readerFor(ImageFormat format, ImageSource source) {
+		Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format.getReaderFormatName());
+		if (!readers.hasNext()) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.UNSUPPORTED_IMAGE_FORMAT,
+					"No decoder for " + format.getReaderFormatName() + ": " + source.getOriginalFilename());
+		}
+		return readers.next();
+	}
+
+	private void checkPixels(int width, int height, ImageSource source) {
+		if ((long) width * height > maxPixels) {
+			throw new CustomException(
+					HttpStatus.PAYLOAD_TOO_LARGE,
+					ErrorCode.IMAGE_DIMENSIONS_TOO_LARGE,
+					source.getOriginalFilename() + " is " + width + "x" + height + ", limit is " + maxPixels + " pixels");
+		}
+	}
+
+	private BufferedImage read(ImageReader reader, int subsampling) throws IOException {
+		ImageReadParam param = reader.getDefaultReadParam();
+		if (subsampling > 1) {
+			param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+		}
+		return reader.read(0, param);
+	}
+
+	// 예산 전체보다 큰 이미지는 혼자 디코딩해도 힙이 모자랄 수 있으므로 기다리지 않고 거절
+	private int acquire(long bytes, ImageSource source) {
+		long kb = Math.max(1, ceilDiv(bytes, 1024));
+		if (kb > budgetKb) {
+			throw new CustomException(
+					HttpStatus.PAYLOAD_TOO_LARGE,
+					ErrorCode.IMAGE_DIMENSIONS_TOO_LARGE,
+					source.getOriginalFilename() + " needs " + kb + " KB to decode, budget is " + budgetKb + " KB");
+		}
+		int permits = (int) kb;
+		try {
+			if (!budget.tryAcquire(permits, budgetWait.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new CustomException(
+						HttpStatus.SERVICE_UNAVAILABLE,
+						ErrorCode.IMAGE_DECODE_BUSY,
+						"Timed out waiting for decode memory: " + source.getOriginalFilename());
+			}
+			return permits;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(
+					HttpStatus.SERVICE_UNAVAILABLE,
+					ErrorCode.IMAGE_DECODE_BUSY,
+					"Interrupted while waiting for decode memory: " + source.getOriginalFilename());
+		}
+	}
+
+	private static int ceilDiv(int value, int divisor) {
+		return (value + divisor - 1) / divisor;
+	}
+
+	private static long ceilDiv(long value, long divisor) {
+		return (value + divisor - 1) / divisor;
+	}
+}
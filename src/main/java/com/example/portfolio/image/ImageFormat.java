@@ -0,0 +1,77 @@
+package com.example.portfolio.image;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 파일 앞부분(매직 바이트)으로 판별한 원본 형식 (확장자/Content-Type은 믿지 않음)
+public enum ImageFormat {
+
+	JPEG("jpeg", true),
+	PNG("png", true),
+	GIF("gif", true),
+	WEBP("webp", true),
+	BMP("bmp", true),
+	TIFF("tiff", true),
+	// 판별은 되지만 ImageIO로 읽을 수 없는 형식
+	HEIC("heic", false);
+
+	// 판별에 필요한 최대 바이트 수
+	public static final int SNIFF_LENGTH = 12;
+
+	private final String readerFormatName;
+	private final boolean decodable;
+
+	ImageFormat(String readerFormatName, boolean decodable) {
+		this.readerFormatName = readerFormatName;
+		this.decodable = decodable;
+	}
+
+	public String getReaderFormatName() {
+		return readerFormatName;
+	}
+
+	public boolean isDecodable() {
+		return decodable;
+	}
+
+	// 알 수 없는 형식이면 null
+	public static ImageFormat sniff(byte[] header) {
+		if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+			return JPEG;
+		}
+		if (startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+			return PNG;
+		}
+		if (startsWith(header, 0, 'G', 'I', 'F', '8')) {
+			return GIF;
+		}
+		if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) {
+			return WEBP;
+		}
+		if (startsWith(header, 0, 'B', 'M')) {
+			return BMP;
+		}
+		if (startsWith(header, 0, 'I', 'I', '*', 0) || startsWith(header, 0, 'M', 'M', 0, '*')) {
+			return TIFF;
+		}
+		if (startsWith(header, 4, 'f', 't', 'y', 'p') && header.length >= 12) {
+			String brand = new String(Arrays.copyOfRange(header, 8, 12), StandardCharsets.US_ASCII);
+			if (brand.startsWith("hei") || brand.startsWith("hev") || brand.equals("mif1") || brand.equals("msf1")) {
+				return HEIC;
+			}
+		}
+		return null;
+	}
+
+	private static boolean startsWith(byte[] header, int offset, int... expected) {
+		if (header.length < offset + expected.length) {
+			return false;
+		}
+		for (int i = 0; i < expected.length; i++) {
+			if ((header[offset + i] & 0xFF) != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// JVM 안에서 libwebp(ImageIO 플러그인)로 인코딩 - 프로세스 생성, 임시 파일 없음
+@Component
+@ConditionalOnProperty(name = "portfolio.image.encoder", havingValue = "imageio")
+public class ImageIoWebpEncoder implements WebpEncoder {
+
+	private static final String WEBP_MIME_TYPE = "image/webp";
+	private static final String LOSSY_COMPRESSION = "Lossy";
+
+	private final int quality;
+
+	public ImageIoWebpEncoder(@Value("${portfolio.image.webp-quality:85}") int quality) {
+		// 플러그인이 없으면 첫 업로드가 아니라 기동 시점에 실패하도록 확인
+		if (!ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE).hasNext()) {
+			throw new IllegalStateException("No ImageIO writer registered for " + WEBP_MIME_TYPE);
+		}
+		this.quality = quality;
+	}
+
+	@Override
+	public int getDefaultQuality() {
+		return quality;
+	}
+
+	@Override
+	public void encode(BufferedImage image, OutputStream out, int quality) throws IOException {
+		ImageWriter writer = newWriter();
+		// ImageIO 기본 캐시(임시 파일)를 쓰지 않도록 메모리 스트림을 직접 지정
+		try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionType(LOSSY_COMPRESSION);
+			param.setCompressionQuality(quality / 100f);
+
+			writer.setOutput(output);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	// ImageWriter는 스레드 안전하지 않으므로 인코딩마다 새로 생성
+	private ImageWriter newWriter() {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE);
+		return writers.next();
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.portfolio.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.springframework.web.multipart.MultipartFile;
+
+// 인코딩할 원본 이미지 (multipart 파트, 스풀 파일 등)
+public interface ImageSource {
+
+	// 호출할 때마다 처음부터 읽는 새 스트림
+	InputStream openStream() throws IOException;
+
+	String getOriginalFilename();
+
+	String getContentType();
+
+	// 읽으면서 미리 계산해둔 SHA-256 (없으면 null, 필요할 때 openStream으로 계산)
+	default String getContentHash() {
+		return null;
+	}
+
+	// 로컬 디스크에 있는 원본 파일 (메모리에 있거나 아직 받지 않았으면 null), 디코더가 파일에서 바로 읽음
+	default Path getFile() {
+		return null;
+	}
+
+	// 사진/썸네일로 저장된 뒤 호출 (실패한 원본에는 호출하지 않음)
+	default void ingested() {
+	}
+
+	// 처리가 끝난 원본 정리 (임시 파일 삭제 등), 성공 여부와 관계없이 호출
+	default void discard() {
+	}
+
+	static ImageSource of(MultipartFile multipartFile) {
+		return new ImageSource() {
+			@Override
+			public InputStream openStream() throws IOException {
+				return multipartFile.getInputStream();
+			}
+
+			@Override
+			public String getOriginalFilename() {
+				return multipartFile.getOriginalFilename();
+			}
+
+			@Override
+			public String getContentType() {
+				return multipartFile.getContentType();
+			}
+		};
+	}
+}
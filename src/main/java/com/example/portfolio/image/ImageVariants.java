@@ -0,0 +1,59 @@
+package com.example.portfolio.image;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 너비별 변형본 이름 규칙: 1/abc.webp -> 1/abc_w320.webp
+public final class ImageVariants {
+
+	private ImageVariants() {
+	}
+
+	// 원본 objectName(또는 URL)으로부터 변형본 이름 생성
+	public static String variantName(String original, int width) {
+		int dot = original.lastIndexOf('.');
+		if (dot < 0 || dot < original.lastIndexOf('/')) {
+			return original + "_w" + width;
+		}
+		return original.substring(0, dot) + "_w" + width + original.substring(dot);
+	}
+
+	// "320,640" -> [320, 640]
+	public static List<Integer> parseWidths(String widths) {
+		if (widths == null || widths.isBlank()) {
+			return List.of();
+		}
+		return Arrays.stream(widths.split(","))
+				.map(String::trim)
+				.filter(width -> !width.isEmpty())
+				.map(Integer::valueOf)
+				.toList();
+	}
+
+	public static String joinWidths(List<Integer> widths) {
+		return widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+	}
+
+	// <img srcset> 값 생성, 변형본이 없으면 null
+	public static String srcset(String url, String widths) {
+		List<Integer> parsed = parseWidths(widths);
+		if (url == null || parsed.isEmpty()) {
+			return null;
+		}
+		return parsed.stream()
+				.map(width -> variantName(url, width) + " " + width + "w")
+				.collect(Collectors.joining(", "));
+	}
+
+	// 원본 + 모든 변형본 URL (삭제용)
+	public static List<String> allUrls(String url, String widths) {
+		List<String> urls = new ArrayList<>();
+		urls.add(url);
+		for (Integer width : parseWidths(widths)) {
+			urls.add(variantName(url, width));
+		}
+		return urls;
+	}
+}
@@ -0,0 +1,151 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.ScaleMethod;
+
+// 이미지별 WebP 품질 선택 (portfolio.image.quality-mode)
+// fixed: 항상 portfolio.image.webp-quality
+// adaptive: 축소한 미리보기(probe)를 여러 품질로 인코딩해서 이진 탐색
+//   1. SSIM이 목표 이상인 가장 낮은 품질 (단순한 사진은 낮게, 질감이 많은 사진은 높게)
+//   2. max-bytes가 있으면 원본 픽셀 수로 환산한 예산 안에 들어가는 가장 높은 품질로 제한
+@Component
+public class QualitySelector {
+
+	private static final String ADAPTIVE_MODE = "adaptive";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final WebpEncoder webpEncoder;
+	private final boolean adaptive;
+	private final int minQuality;
+	private final int maxQuality;
+	private final double targetSsim;
+	private final long maxBytes;
+	private final int probeWidth;
+
+	public QualitySelector(WebpEncoder webpEncoder,
+			@Value("${portfolio.image.quality-mode:fixed}") String mode,
+			@Value("${portfolio.image.adaptive.min-quality:50}") int minQuality,
+			@Value("${portfolio.image.adaptive.max-quality:90}") int maxQuality,
+			@Value("${portfolio.image.adaptive.target-ssim:0.985}") double targetSsim,
+			@Value("${portfolio.image.adaptive.max-bytes:0}") DataSize maxBytes,
+			@Value("${portfolio.image.adaptive.probe-width:1024}") int probeWidth) {
+		if (minQuality < 0 || maxQuality > 100 || minQuality > maxQuality) {
+			throw new IllegalArgumentException(
+					"Invalid adaptive quality range: " + minQuality + ".." + maxQuality);
+		}
+		this.webpEncoder = webpEncoder;
+		this.adaptive = ADAPTIVE_MODE.equalsIgnoreCase(mode);
+		this.minQuality = minQuality;
+		this.maxQuality = maxQuality;
+		this.targetSsim = targetSsim;
+		this.maxBytes = maxBytes.toBytes();
+		this.probeWidth = probeWidth;
+	}
+
+	public int select(BufferedImage original) {
+		if (!adaptive) {
+			return webpEncoder.getDefaultQuality();
+		}
+		try {
+			return search(original);
+		} catch (IOException | RuntimeException e) {
+			// 품질 탐색 실패는 업로드 실패로 보지 않음
+			logger.warn("Adaptive quality search failed, using quality {}", webpEncoder.getDefaultQuality(), e);
+			return webpEncoder.getDefaultQuality();
+		}
+	}
+
+	private int search(BufferedImage original) throws IOException {
+		BufferedImage probe = original.getWidth() > probeWidth
+				? ImmutableImage.wrapAwt(original).scaleToWidth(probeWidth, ScaleMethod.Bicubic).awt()
+				: original;
+		Map<Integer, Trial> trials = new HashMap<>();
+
+		// SSIM은 품질에 대해 단조 증가한다고 보고 목표를 만족하는 가장 낮은 품질 탐색
+		int low = minQuality;
+		int high = maxQuality;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (trial(probe, mid, trials).ssim(probe) >= targetSsim) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		int quality = low;
+
+		if (maxBytes > 0) {
+			// 원본 바이트 예산을 픽셀당 비트로 바꿔서 probe 크기에 적용
+			double bytesPerPixel = (double) maxBytes / ((long) original.getWidth() * original.getHeight());
+			long probeBudget = (long) (bytesPerPixel * probe.getWidth() * probe.getHeight());
+			if (trial(probe, quality, trials).bytes > probeBudget) {
+				low = minQuality;
+				high = quality;
+				while (low < high) {
+					int mid = (low + high + 1) >>> 1;
+					if (trial(probe, mid, trials).bytes <= probeBudget) {
+						low = mid;
+					} else {
+						high = mid - 1;
+					}
+				}
+				quality = low;
+			}
+		}
+
+		logger.debug("Selected WebP quality {} for {}x{} ({} trial encodes)", quality, original.getWidth(),
+				original.getHeight(), trials.size());
+		return quality;
+	}
+
+	private Trial trial(BufferedImage probe, int quality, Map<Integer, Trial> trials) throws IOException {
+		Trial trial = trials.get(quality);
+		if (trial == null) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			webpEncoder.encode(probe, out, quality);
+			trial = new Trial(out.toByteArray());
+			trials.put(quality, trial);
+		}
+		return trial;
+	}
+
+	// 한 품질로 인코딩한 결과 (SSIM은 필요할 때만 디코딩해서 계산)
+	private static class Trial {
+
+		private final byte[] encoded;
+		private final long bytes;
+		private Double ssim;
+
+		Trial(byte[] encoded) {
+			this.encoded = encoded;
+			this.bytes = encoded.length;
+		}
+
+		double ssim(BufferedImage reference) throws IOException {
+			if (ssim == null) {
+				BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(encoded));
+				if (decoded == null) {
+					throw new IOException("No ImageIO reader for encoded WebP");
+				}
+				ssim = Ssim.compute(reference, decoded);
+			}
+			return ssim;
+		}
+	}
+}
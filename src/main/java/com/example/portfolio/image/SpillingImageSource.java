@@ -0,0 +1,132 @@
+package com.example.portfolio.image;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+// 업로드 스트림을 한 번만 읽어서 보관한 원본
+// spillThreshold 이하는 메모리에 두고, 넘으면 그때까지 읽은 내용과 나머지를 스풀 파일로 옮김
+// 읽는 동안 SHA-256도 함께 계산해서 중복 판별 시 다시 읽지 않음
+public class SpillingImageSource implements ImageSource {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String originalFilename;
+	private final String contentType;
+	private final String contentHash;
+	private final long size;
+	private final byte[] bytes;
+	private final Path path;
+
+	private SpillingImageSource(String originalFilename, String contentType, String contentHash, long size,
+			byte[] bytes, Path path) {
+		this.originalFilename = originalFilename;
+		this.contentType = contentType;
+		this.contentHash = contentHash;
+		this.size = size;
+		this.bytes = bytes;
+		this.path = path;
+	}
+
+	public static SpillingImageSource read(InputStream in, String originalFilename, String contentType,
+			long spillThreshold, Path spoolDir) throws IOException {
+		MessageDigest digest = ContentHash.newDigest();
+		ByteArrayOutputStream memory = new ByteArrayOutputStream();
+		OutputStream fileOut = null;
+		Path path = null;
+		long size = 0;
+		try {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+				size += read;
+				if (fileOut == null && size > spillThreshold) {
+					Files.createDirectories(spoolDir);
+					path = Files.createTempFile(spoolDir, "ingest-", ".src");
+					fileOut = Files.newOutputStream(path);
+					memory.writeTo(fileOut);
+					memory = null;
+				}
+				if (fileOut != null) {
+					fileOut.write(buffer, 0, read);
+				} else {
+					memory.write(buffer, 0, read);
+				}
+			}
+			if (fileOut != null) {
+				fileOut.close();
+			}
+		} catch (IOException | RuntimeException e) {
+			// 중간에 실패하면 (크기 제한 초과, 연결 끊김 등) 만들던 스풀 파일 삭제
+			if (fileOut != null) {
+				try {
+					fileOut.close();
+				} catch (IOException closeException) {
+					e.addSuppressed(closeException);
+				}
+			}
+			if (path != null) {
+				Files.deleteIfExists(path);
+			}
+			throw e;
+		}
+
+		String contentHash = HexFormat.of().formatHex(digest.digest());
+		byte[] bytes = memory != null ? memory.toByteArray() : null;
+		return new SpillingImageSource(originalFilename, contentType, contentHash, size, bytes, path);
+	}
+
+	@Override
+	public InputStream openStream() throws IOException {
+		return bytes != null ? new ByteArrayInputStream(bytes) : Files.newInputStream(path);
+	}
+
+	@Override
+	public String getOriginalFilename() {
+		return originalFilename;
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	@Override
+	public Path getFile() {
+		return path;
+	}
+
+	@Override
+	public void discard() {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			// 지금 지울 수 없으면 JVM 종료 시 삭제
+			path.toFile().deleteOnExit();
+		}
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	// 스풀 파일로 옮겨졌는지 여부
+	public boolean isSpilled() {
+		return path != null;
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.portfolio.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 요청이 끝난 뒤에도 처리할 수 있도록 로컬 디스크에 옮겨둔 원본
+public class SpooledImageSource implements ImageSource {
+
+	private final Path path;
+	private final String originalFilename;
+	private final String contentType;
+
+	public SpooledImageSource(Path path, String originalFilename, String contentType) {
+		this.path = path;
+		this.originalFilename = originalFilename;
+		this.contentType = contentType;
+	}
+
+	@Override
+	public InputStream openStream() throws IOException {
+		return Files.newInputStream(path);
+	}
+
+	@Override
+	public String getOriginalFilename() {
+		return originalFilename;
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	public Path getFile() {
+		return path;
+	}
+
+	@Override
+	public void discard() {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			// 지금 지울 수 없으면 JVM 종료 시 삭제
+			path.toFile().deleteOnExit();
+		}
+	}
+
+	public Path getPath() {
+		return path;
+	}
+}
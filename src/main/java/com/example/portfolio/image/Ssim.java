@@ -0,0 +1,86 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+
+// 구조적 유사도(SSIM): 휘도(luma)만 8x8 블록 단위로 계산한 평균값 (1.0 = 동일)
+// 품질 선택용 근사치라 가우시안 창 대신 겹치지 않는 블록 사용
+public final class Ssim {
+
+	private static final int BLOCK_SIZE = 8;
+	// 8비트 기준 안정화 상수 (K1 = 0.01, K2 = 0.03)
+	private static final double C1 = Math.pow(0.01 * 255, 2);
+	private static final double C2 = Math.pow(0.03 * 255, 2);
+
+	private Ssim() {}
+
+	public static double compute(BufferedImage reference, BufferedImage distorted) {
+		int width = reference.getWidth();
+		int height = reference.getHeight();
+		if (distorted.getWidth() != width || distorted.getHeight() != height) {
+			throw new IllegalArgumentException("Image sizes differ: " + width + "x" + height + " vs "
+					+ distorted.getWidth() + "x" + distorted.getHeight());
+		}
+		double[] x = luma(reference);
+		double[] y = luma(distorted);
+
+		// 8픽셀보다 작은 이미지는 전체를 한 블록으로 계산
+		int blockWidth = Math.min(BLOCK_SIZE, width);
+		int blockHeight = Math.min(BLOCK_SIZE, height);
+		double sum = 0;
+		int blocks = 0;
+		for (int top = 0; top + blockHeight <= height; top += blockHeight) {
+			for (int left = 0; left + blockWidth <= width; left += blockWidth) {
+				sum += block(x, y, width, left, top, blockWidth, blockHeight);
+				blocks++;
+			}
+		}
+		return sum / blocks;
+	}
+
+	private static double block(double[] x, double[] y, int stride, int left, int top, int blockWidth,
+			int blockHeight) {
+		int n = blockWidth * blockHeight;
+		double meanX = 0;
+		double meanY = 0;
+		for (int row = top; row < top + blockHeight; row++) {
+			for (int i = row * stride + left; i < row * stride + left + blockWidth; i++) {
+				meanX += x[i];
+				meanY += y[i];
+			}
+		}
+		meanX /= n;
+		meanY /= n;
+
+		double varX = 0;
+		double varY = 0;
+		double covariance = 0;
+		for (int row = top; row < top + blockHeight; row++) {
+			for (int i = row * stride + left; i < row * stride + left + blockWidth; i++) {
+				double dx = x[i] - meanX;
+				double dy = y[i] - meanY;
+				varX += dx * dx;
+				varY += dy * dy;
+				covariance += dx * dy;
+			}
+		}
+		varX /= n;
+		varY /= n;
+		covariance /= n;
+
+		return ((2 * meanX * meanY + C1) * (2 * covariance + C2))
+				/ ((meanX * meanX + meanY * meanY + C1) * (varX + varY + C2));
+	}
+
+	// BT.601 휘도 (알파는 무시)
+	private static double[] luma(BufferedImage image) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+		double[] luma = new double[argb.length];
+		for (int i = 0; i < argb.length; i++) {
+			int pixel = argb[i];
+			luma[i] = 0.299 * ((pixel >> 16) & 0xFF) + 0.587 * ((pixel >> 8) & 0xFF) + 0.114 * (pixel & 0xFF);
+		}
+		return luma;
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.portfolio.image;
+
+// 업로드가 끝난 이미지 정보 (원본 URL + 생성된 변형본 너비 + 원본 크기)
+public class StoredImage {
+
+	private String url;
+	private String variantWidths;
+	private Integer width;
+	private Integer height;
+	private Long byteSize; // 업로드된 원본 WebP 크기
+	private String blurHash; // 로딩 전 미리보기
+	private Integer quality; // 인코딩에 사용한 WebP 품질
+	private Double compressionRatio; // RGB 크기 / 원본 WebP 크기
+
+	public StoredImage() {}
+
+	public StoredImage(String url, String variantWidths) {
+		this.url = url;
+		this.variantWidths = variantWidths;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public String getVariantWidths() {
+		return variantWidths;
+	}
+
+	public void setVariantWidths(String variantWidths) {
+		this.variantWidths = variantWidths;
+	}
+
+	public Integer getWidth() {
+		return width;
+	}
+
+	public void setWidth(Integer width) {
+		this.width = width;
+	}
+
+	public Integer getHeight() {
+		return height;
+	}
+
+	public void setHeight(Integer height) {
+		this.height = height;
+	}
+
+	public Long getByteSize() {
+		return byteSize;
+	}
+
+	public void setByteSize(Long byteSize) {
+		this.byteSize = byteSize;
+	}
+
+	public String getBlurHash() {
+		return blurHash;
+	}
+
+	public void setBlurHash(String blurHash) {
+		this.blurHash = blurHash;
+	}
+
+	public Integer getQuality() {
+		return quality;
+	}
+
+	public void setQuality(Integer quality) {
+		this.quality = quality;
+	}
+
+	public Double getCompressionRatio() {
+		return compressionRatio;
+	}
+
+	public void setCompressionRatio(Double compressionRatio) {
+		this.compressionRatio = compressionRatio;
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.portfolio.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.storage.ObjectStore;
+
+// 클라이언트가 저장소에 직접 올린 원본 (처음 읽을 때 로컬 임시 파일로 한 번만 받음)
+// 디코더가 스트림을 여러 번 열기 때문에 매번 저장소에서 받지 않도록 함
+public class StoredObjectSource implements ImageSource {
+
+	private final ObjectStore objectStore;
+	private final String objectName;
+	private final String contentType;
+	private final long maxBytes;
+	private Path spooled;
+
+	public StoredObjectSource(ObjectStore objectStore, String objectName, String contentType, long maxBytes) {
+		this.objectStore = objectStore;
+		this.objectName = objectName;
+		this.contentType = contentType;
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public synchronized InputStream openStream() throws IOException {
+		if (spooled == null) {
+			// 서명 URL의 크기 제한을 지원하지 않는 저장소도 있으므로 받기 전에 한 번 더 확인
+			long size = objectStore.size(objectName);
+			if (size > maxBytes) {
+				throw new CustomException(
+						HttpStatus.PAYLOAD_TOO_LARGE,
+						ErrorCode.UPLOAD_TOO_LARGE,
+						"Uploaded object " + objectName + " is " + size + " bytes, limit is " + maxBytes);
+			}
+			Path file = Files.createTempFile("direct-upload-", ".img");
+			try (OutputStream out = Files.newOutputStream(file)) {
+				objectStore.download(objectName, out);
+			} catch (IOException | RuntimeException e) {
+				Files.deleteIfExists(file);
+				throw e;
+			}
+			spooled = file;
+		}
+		return Files.newInputStream(spooled);
+	}
+
+	// 처음 openStream에서 받은 임시 파일 (중복 판별용 해시 계산에서 먼저 읽음)
+	@Override
+	public synchronized Path getFile() {
+		return spooled;
+	}
+
+	@Override
+	public String getOriginalFilename() {
+		return objectName.substring(objectName.lastIndexOf('/') + 1);
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getObjectName() {
+		return objectName;
+	}
+
+	// 사진으로 저장된 뒤에만 업로드된 원본 객체 삭제 (변형본은 새 이름으로 저장됨)
+	@Override
+	public void ingested() {
+		objectStore.deleteObjects(List.of(objectStore.getUrl(objectName)));
+	}
+
+	// 임시 파일만 삭제, 처리에 실패한 원본 객체는 남겨두고 OrphanBlobReconciler가 유예 기간 뒤 정리
+	@Override
+	public synchronized void discard() {
+		if (spooled != null) {
+			try {
+				Files.deleteIfExists(spooled);
+			} catch (IOException e) {
+				spooled.toFile().deleteOnExit();
+			}
+			spooled = null;
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.portfolio.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// WebP 인코더 (portfolio.image.encoder 설정값으로 구현체 선택)
+public interface WebpEncoder {
+
+	// 디코딩된 이미지를 설정된 품질(portfolio.image.webp-quality)의 WebP로 인코딩해서 out에 기록
+	default void encode(BufferedImage image, OutputStream out) throws IOException {
+		encode(image, out, getDefaultQuality());
+	}
+
+	// 품질(0~100)을 지정해서 인코딩 (이미지별 품질 선택용)
+	void encode(BufferedImage image, OutputStream out, int quality) throws IOException;
+
+	int getDefaultQuality();
+}
@@ -0,0 +1,205 @@
+package com.example.portfolio.job;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.portfolio.dto.IngestJobDto;
+
+// 프로젝트 생성/수정 후 백그라운드에서 처리되는 썸네일, 사진 인코딩/업로드 작업
+public class IngestJob {
+
+	public enum Status {
+		QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED
+	}
+
+	public enum ItemStatus {
+		PENDING, PROCESSING, DONE, FAILED
+	}
+
+	public enum ItemType {
+		THUMBNAIL, PHOTO
+	}
+
+	// 상태가 바뀐 뒤 호출 (잠금 밖에서 호출되므로 DB 기록 등 느린 작업도 가능)
+	public interface Observer {
+
+		Observer NONE = new Observer() {
+		};
+
+		default void statusChanged(IngestJob job) {
+		}
+
+		default void itemChanged(IngestJob job, int index, ItemStatus status, String error) {
+		}
+	}
+
+	private final String id = UUID.randomUUID().toString();
+	private final Long projectId;
+	private final List<Item> items = new ArrayList<>();
+	private final Instant createdAt = Instant.now();
+	private final Observer observer;
+
+	private Status status = Status.QUEUED;
+	private String error;
+	private Instant finishedAt;
+
+	public IngestJob(Long projectId) {
+		this(projectId, Observer.NONE);
+	}
+
+	public IngestJob(Long projectId, Observer observer) {
+		this.projectId = projectId;
+		this.observer = observer;
+	}
+
+	// 작업 대상 추가 (작업 제출 전에만 호출), 추가된 항목의 인덱스 반환
+	public synchronized int addItem(ItemType type, String name) {
+		items.add(new Item(type, name));
+		return items.size() - 1;
+	}
+
+	public void start() {
+		synchronized (this) {
+			status = Status.RUNNING;
+		}
+		observer.statusChanged(this);
+	}
+
+	public void itemStarted(int index) {
+		setItemStatus(index, ItemStatus.PROCESSING, null);
+	}
+
+	public void itemCompleted(int index) {
+		setItemStatus(index, ItemStatus.DONE, null);
+	}
+
+	public void itemFailed(int index, String message) {
+		setItemStatus(index, ItemStatus.FAILED, message);
+	}
+
+	private void setItemStatus(int index, ItemStatus itemStatus, String message) {
+		synchronized (this) {
+			items.get(index).status = itemStatus;
+			items.get(index).error = message;
+		}
+		observer.itemChanged(this, index, itemStatus, message);
+	}
+
+	public synchronized boolean isItemDone(int index) {
+		return items.get(index).status == ItemStatus.DONE;
+	}
+
+	public void finish() {
+		synchronized (this) {
+			boolean anyFailed = items.stream().anyMatch(item -> item.status == ItemStatus.FAILED);
+			status = anyFailed ? Status.COMPLETED_WITH_ERRORS : Status.COMPLETED;
+			finishedAt = Instant.now();
+		}
+		observer.statusChanged(this);
+	}
+
+	// 처리되지 못한 항목도 실패로 표시 (PENDING/PROCESSING으로 남지 않도록)
+	public void fail(String message) {
+		synchronized (this) {
+			for (Item item : items) {
+				if (item.status == ItemStatus.PENDING || item.status == ItemStatus.PROCESSING) {
+					item.status = ItemStatus.FAILED;
+					item.error = message;
+				}
+			}
+			status = Status.FAILED;
+			error = message;
+			finishedAt = Instant.now();
+		}
+		observer.statusChanged(this);
+	}
+
+	// 사진 목록 기준 인덱스를 작업 항목 인덱스로 바꿔서 기록
+	public PhotoProgressListener photoListener(int firstPhotoIndex) {
+		return new PhotoProgressListener() {
+			@Override
+			public void started(int index) {
+				itemStarted(firstPhotoIndex + index);
+			}
+
+			@Override
+			public void completed(int index) {
+				itemCompleted(firstPhotoIndex + index);
+			}
+
+			@Override
+			public void failed(int index, String message) {
+				itemFailed(firstPhotoIndex + index, message);
+			}
+		};
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public synchronized Status getStatus() {
+		return status;
+	}
+
+	public synchronized String getError() {
+		return error;
+	}
+
+	public synchronized boolean isFinished() {
+		return finishedAt != null;
+	}
+
+	public synchronized Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public synchronized IngestJobDto toDto() {
+		List<IngestJobDto.Item> itemDtos = new ArrayList<>();
+		int completed = 0;
+		int failed = 0;
+		for (Item item : items) {
+			itemDtos.add(new IngestJobDto.Item(item.type.name(), item.name, item.status.name(), item.error));
+			if (item.status == ItemStatus.DONE) {
+				completed++;
+			} else if (item.status == ItemStatus.FAILED) {
+				failed++;
+			}
+		}
+
+		IngestJobDto dto = new IngestJobDto();
+		dto.setJobId(id);
+		dto.setProjectId(projectId);
+		dto.setStatus(status.name());
+		dto.setTotal(items.size());
+		dto.setCompleted(completed);
+		dto.setFailed(failed);
+		dto.setError(error);
+		dto.setCreatedAt(createdAt.toString());
+		dto.setFinishedAt(finishedAt != null ? finishedAt.toString() : null);
+		dto.setItems(itemDtos);
+		return dto;
+	}
+
+	private static class Item {
+		private final ItemType type;
+		private final String name;
+		private ItemStatus status = ItemStatus.PENDING;
+		private String error;
+
+		private Item(ItemType type, String name) {
+			this.type = type;
+			this.name = name;
+		}
+	}
+}
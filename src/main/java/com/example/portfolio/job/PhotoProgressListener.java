@@ -0,0 +1,17 @@
+package com.example.portfolio.job;
+
+// 사진 한 장 단위 처리 상황 전달 (index는 요청한 사진 목록 기준)
+public interface PhotoProgressListener {
+
+	PhotoProgressListener NONE = new PhotoProgressListener() {
+	};
+
+	default void started(int index) {
+	}
+
+	default void completed(int index) {
+	}
+
+	default void failed(int index, String message) {
+	}
+}
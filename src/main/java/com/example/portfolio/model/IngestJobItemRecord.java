@@ -0,0 +1,83 @@
+package com.example.portfolio.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import com.example.portfolio.job.IngestJob;
+
+// 이미지 처리 작업의 썸네일/사진 한 장 상태 (item_index는 작업 안에서의 순서)
+@Entity
+@Table(name = "ingest_job_item",
+		indexes = @Index(name = "idx_ingest_job_item_job", columnList = "job_id, item_index"))
+public class IngestJobItemRecord {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingest_job_item_seq")
+	@SequenceGenerator(name = "ingest_job_item_seq", sequenceName = "ingest_job_item_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(name = "job_id", nullable = false, length = 36)
+	private String jobId;
+
+	@Column(name = "item_index", nullable = false)
+	private int itemIndex;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private IngestJob.ItemType type;
+
+	private String name;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private IngestJob.ItemStatus status;
+
+	@Column(length = 1000)
+	private String error;
+
+	public IngestJobItemRecord() {}
+
+	public IngestJobItemRecord(String jobId, int itemIndex, IngestJob.ItemType type, String name) {
+		this.jobId = jobId;
+		this.itemIndex = itemIndex;
+		this.type = type;
+		this.name = name;
+		this.status = IngestJob.ItemStatus.PENDING;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	public int getItemIndex() {
+		return itemIndex;
+	}
+
+	public IngestJob.ItemType getType() {
+		return type;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public IngestJob.ItemStatus getStatus() {
+		return status;
+	}
+
+	public String getError() {
+		return error;
+	}
+}
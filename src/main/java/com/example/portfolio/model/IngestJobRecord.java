@@ -0,0 +1,83 @@
+package com.example.portfolio.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import com.example.portfolio.job.IngestJob;
+
+// 이미지 처리 작업 상태 (다른 인스턴스/재시작 후에도 조회), 실행 중인 인스턴스가 heartbeat_at을 주기적으로 갱신
+@Entity
+@Table(name = "ingest_job",
+		indexes = {
+				@Index(name = "idx_ingest_job_status_heartbeat", columnList = "status, heartbeat_at"),
+				@Index(name = "idx_ingest_job_finished_at", columnList = "finished_at") })
+public class IngestJobRecord {
+
+	@Id
+	@Column(length = 36)
+	private String id;
+
+	@Column(name = "project_id")
+	private Long projectId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private IngestJob.Status status;
+
+	@Column(length = 1000)
+	private String error;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	@Column(name = "finished_at")
+	private Instant finishedAt;
+
+	@Column(name = "heartbeat_at", nullable = false)
+	private Instant heartbeatAt;
+
+	public IngestJobRecord() {}
+
+	public IngestJobRecord(String id, Long projectId, IngestJob.Status status, Instant createdAt) {
+		this.id = id;
+		this.projectId = projectId;
+		this.status = status;
+		this.createdAt = createdAt;
+		this.heartbeatAt = createdAt;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public IngestJob.Status getStatus() {
+		return status;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public Instant getHeartbeatAt() {
+		return heartbeatAt;
+	}
+}
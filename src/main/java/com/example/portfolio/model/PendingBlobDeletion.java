@@ -0,0 +1,79 @@
+package com.example.portfolio.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+// 아직 삭제되지 않은 스토리지 객체 (원본 URL + 변형본), 삭제에 성공하면 행도 삭제
+@Entity
+@Table(name = "pending_blob_deletion",
+		indexes = @Index(name = "idx_pending_blob_deletion_next_attempt", columnList = "next_attempt_at"))
+public class PendingBlobDeletion {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_blob_deletion_seq")
+	@SequenceGenerator(name = "pending_blob_deletion_seq", sequenceName = "pending_blob_deletion_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(name = "image_url", nullable = false)
+	private String imageUrl;
+
+	@Column(name = "variant_widths")
+	private String variantWidths;
+
+	private int attempts;
+
+	@Column(name = "last_error", length = 1000)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	// 재시도 작업은 이 시각 이후에만 처리 (커밋 직후 삭제와 겹치지 않도록)
+	@Column(name = "next_attempt_at", nullable = false)
+	private Instant nextAttemptAt;
+
+	public PendingBlobDeletion() {}
+
+	public PendingBlobDeletion(String imageUrl, String variantWidths, Instant nextAttemptAt) {
+		this.imageUrl = imageUrl;
+		this.variantWidths = variantWidths;
+		this.createdAt = Instant.now();
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getImageUrl() {
+		return imageUrl;
+	}
+
+	public String getVariantWidths() {
+		return variantWidths;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public Instant getNextAttemptAt() {
+		return nextAttemptAt;
+	}
+}
@@ -7,12 +7,18 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = @Index(name = "idx_photo_content_hash", columnList = "content_hash"))
 public class Photo {
 
+	// IDENTITY는 insert마다 키를 받아와야 해서 배치가 꺼지므로 시퀀스를 50개씩 미리 할당
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "photo_seq")
+	@SequenceGenerator(name = "photo_seq", sequenceName = "photo_seq", allocationSize = 50)
 	private Long id;
 	
 	@Column(name = "image_url")
@@ -24,6 +30,33 @@ public class Photo {
 	private String imgoname;
 	private String imgtype;
 	
+	// 생성된 변형본 너비 목록 ("320,640,1280")
+	@Column(name = "variant_widths")
+	private String variantWidths;
+	
+	// 저장된 원본 크기 (EXIF 회전 반영 후), 바이트 수는 업로드된 WebP 기준
+	private Integer width;
+	private Integer height;
+	
+	// 저장된 원본 크기 WebP 파일 크기 (업로드된 원본 파일 크기가 아님)
+	@Column(name = "byte_size")
+	private Long byteSize;
+	
+	// 이미지를 받기 전에 보여줄 흐린 미리보기 (BlurHash)
+	@Column(name = "blur_hash", length = 100)
+	private String blurHash;
+	
+	// 인코딩에 사용한 WebP 품질과 압축률 (24비트 RGB 크기 / 원본 WebP 크기)
+	@Column(name = "webp_quality")
+	private Integer quality;
+	
+	@Column(name = "compression_ratio")
+	private Double compressionRatio;
+	
+	// 원본 바이트 SHA-256 (중복 업로드 판별)
+	@Column(name = "content_hash", length = 64)
+	private String contentHash;
+	
 	public Photo() {}
 
 	public Long getId() {
@@ -67,6 +100,70 @@ public class Photo {
 		this.imgtype = imgtype;
 	}
 	
+	public String getVariantWidths() {
+		return variantWidths;
+	}
+	
+	public void setVariantWidths(String variantWidths) {
+		this.variantWidths = variantWidths;
+	}
+	
+	public Integer getWidth() {
+		return width;
+	}
+	
+	public void setWidth(Integer width) {
+		this.width = width;
+	}
+	
+	public Integer getHeight() {
+		return height;
+	}
+	
+	public void setHeight(Integer height) {
+		this.height = height;
+	}
+	
+	public Long getByteSize() {
+		return byteSize;
+	}
+	
+	public void setByteSize(Long byteSize) {
+		this.byteSize = byteSize;
+	}
+	
+	public String getBlurHash() {
+		return blurHash;
+	}
+	
+	public void setBlurHash(String blurHash) {
+		this.blurHash = blurHash;
+	}
+	
+	public Integer getQuality() {
+		return quality;
+	}
+	
+	public void setQuality(Integer quality) {
+		this.quality = quality;
+	}
+	
+	public Double getCompressionRatio() {
+		return compressionRatio;
+	}
+	
+	public void setCompressionRatio(Double compressionRatio) {
+		this.compressionRatio = compressionRatio;
+	}
+	
+	public String getContentHash() {
+		return contentHash;
+	}
+	
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+	
 	// hashcode 비교를 위해서 재구성
 	@Override
 	public int hashCode() {
@@ -19,12 +19,15 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 
 @Entity
 @DynamicUpdate
 public class Project {
+    // 시퀀스 50개씩 미리 할당 (JDBC 배치 insert 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -33,6 +36,24 @@ public class Project {
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
+    // 썸네일 변형본 너비 목록 ("320,640,1280")
+    @Column(name = "thumbnail_variant_widths")
+    private String thumbnailVariantWidths;
+
+    // 썸네일 원본 크기 (EXIF 회전 반영 후), 바이트 수는 업로드된 WebP 기준
+    @Column(name = "thumbnail_width")
+    private Integer thumbnailWidth;
+
+    @Column(name = "thumbnail_height")
+    private Integer thumbnailHeight;
+
+    @Column(name = "thumbnail_byte_size")
+    private Long thumbnailByteSize;
+
+    // 썸네일 로딩 전 미리보기 (BlurHash)
+    @Column(name = "thumbnail_blur_hash", length = 100)
+    private String thumbnailBlurHash;
+
     @CreationTimestamp
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
     @Column(name = "created_at")
@@ -112,6 +133,46 @@ public class Project {
         this.thumbnailUrl = thumbnailUrl;
     }
 
+    public String getThumbnailVariantWidths() {
+        return thumbnailVariantWidths;
+    }
+
+    public void setThumbnailVariantWidths(String thumbnailVariantWidths) {
+        this.thumbnailVariantWidths = thumbnailVariantWidths;
+    }
+
+    public Integer getThumbnailWidth() {
+        return thumbnailWidth;
+    }
+
+    public void setThumbnailWidth(Integer thumbnailWidth) {
+        this.thumbnailWidth = thumbnailWidth;
+    }
+
+    public Integer getThumbnailHeight() {
+        return thumbnailHeight;
+    }
+
+    public void setThumbnailHeight(Integer thumbnailHeight) {
+        this.thumbnailHeight = thumbnailHeight;
+    }
+
+    public Long getThumbnailByteSize() {
+        return thumbnailByteSize;
+    }
+
+    public void setThumbnailByteSize(Long thumbnailByteSize) {
+        this.thumbnailByteSize = thumbnailByteSize;
+    }
+
+    public String getThumbnailBlurHash() {
+        return thumbnailBlurHash;
+    }
+
+    public void setThumbnailBlurHash(String thumbnailBlurHash) {
+        this.thumbnailBlurHash = thumbnailBlurHash;
+    }
+
     public Category getCategory() {
         return category;
     }
@@ -0,0 +1,84 @@
+package com.example.portfolio.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// 스토리지 정리 작업 진행 위치 (작업 이름별 한 행), 재시작/다른 인스턴스에서 이어서 처리
+@Entity
+@Table(name = "reconcile_checkpoint")
+public class ReconcileCheckpoint {
+
+	@Id
+	@Column(length = 50)
+	private String name;
+
+	// 마지막으로 확인한 객체 이름 (null이면 처음부터)
+	@Column(name = "last_object_name", length = 1024)
+	private String lastObjectName;
+
+	// 현재 회차 시작 시각과 지금까지 삭제한 객체 수
+	@Column(name = "pass_started_at")
+	private Instant passStartedAt;
+
+	@Column(name = "deleted_count", nullable = false)
+	private long deletedCount;
+
+	@Column(name = "last_completed_at")
+	private Instant lastCompletedAt;
+
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+
+	public ReconcileCheckpoint() {}
+
+	public ReconcileCheckpoint(String name) {
+		this.name = name;
+	}
+
+	// 다음 객체부터 이어서 처리하도록 위치 기록
+	public void advance(String lastObjectName, int deleted) {
+		if (this.lastObjectName == null && passStartedAt == null) {
+			passStartedAt = Instant.now();
+		}
+		this.lastObjectName = lastObjectName;
+		this.deletedCount += deleted;
+		this.updatedAt = Instant.now();
+	}
+
+	// 목록 끝까지 확인함, 다음 회차는 처음부터
+	public void complete() {
+		lastObjectName = null;
+		passStartedAt = null;
+		deletedCount = 0;
+		lastCompletedAt = Instant.now();
+		updatedAt = lastCompletedAt;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getLastObjectName() {
+		return lastObjectName;
+	}
+
+	public Instant getPassStartedAt() {
+		return passStartedAt;
+	}
+
+	public long getDeletedCount() {
+		return deletedCount;
+	}
+
+	public Instant getLastCompletedAt() {
+		return lastCompletedAt;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+}
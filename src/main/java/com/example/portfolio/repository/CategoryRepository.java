@@ -1,10 +1,17 @@
 package com.example.portfolio.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.example.portfolio.model.Category;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+	// 서브카테고리까지 한 번에 조회 (카테고리마다 지연 로딩하지 않음)
+	@Query("SELECT DISTINCT c FROM Category c LEFT JOIN FETCH c.subCategories ORDER BY c.id")
+	List<Category> findAllWithSubCategories();
 }
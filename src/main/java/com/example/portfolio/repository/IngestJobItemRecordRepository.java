@@ -0,0 +1,41 @@
+package com.example.portfolio.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.portfolio.job.IngestJob;
+import com.example.portfolio.model.IngestJobItemRecord;
+
+@Repository
+public interface IngestJobItemRecordRepository extends JpaRepository<IngestJobItemRecord, Long> {
+
+	List<IngestJobItemRecord> findAllByJobIdOrderByItemIndexAsc(String jobId);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE IngestJobItemRecord i SET i.status = :status, i.error = :error "
+			+ "WHERE i.jobId = :jobId AND i.itemIndex = :itemIndex")
+	void updateStatus(@Param("jobId") String jobId, @Param("itemIndex") int itemIndex,
+			@Param("status") IngestJob.ItemStatus status, @Param("error") String error);
+
+	// 처리되지 못한 항목을 실패로 표시 (PENDING/PROCESSING으로 남지 않도록)
+	@Modifying
+	@Transactional
+	@Query("UPDATE IngestJobItemRecord i SET i.status = :failed, i.error = :error "
+			+ "WHERE i.jobId IN :jobIds AND i.status IN :statuses")
+	void failAll(@Param("jobIds") Collection<String> jobIds,
+			@Param("statuses") Collection<IngestJob.ItemStatus> statuses,
+			@Param("failed") IngestJob.ItemStatus failed, @Param("error") String error);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM IngestJobItemRecord i WHERE i.jobId IN :jobIds")
+	void deleteAllByJobIdIn(@Param("jobIds") Collection<String> jobIds);
+}
@@ -0,0 +1,48 @@
+package com.example.portfolio.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.portfolio.job.IngestJob;
+import com.example.portfolio.model.IngestJobRecord;
+
+@Repository
+public interface IngestJobRecordRepository extends JpaRepository<IngestJobRecord, String> {
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE IngestJobRecord j SET j.status = :status, j.error = :error, j.finishedAt = :finishedAt, "
+			+ "j.heartbeatAt = :now WHERE j.id = :id")
+	void updateStatus(@Param("id") String id, @Param("status") IngestJob.Status status, @Param("error") String error,
+			@Param("finishedAt") Instant finishedAt, @Param("now") Instant now);
+
+	// 이 인스턴스에서 대기/실행 중인 작업이 살아 있다고 기록
+	@Modifying
+	@Transactional
+	@Query("UPDATE IngestJobRecord j SET j.heartbeatAt = :now WHERE j.id IN :ids")
+	void heartbeat(@Param("ids") Collection<String> ids, @Param("now") Instant now);
+
+	// 대기/실행 중인데 heartbeat가 끊긴 작업 (실행하던 인스턴스가 종료됨)
+	@Query("SELECT j.id FROM IngestJobRecord j WHERE j.status IN :statuses AND j.heartbeatAt < :before")
+	List<String> findInterruptedIds(@Param("statuses") Collection<IngestJob.Status> statuses,
+			@Param("before") Instant before);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE IngestJobRecord j SET j.status = :failed, j.error = :error, j.finishedAt = :now "
+			+ "WHERE j.id IN :ids AND j.status IN :statuses")
+	void failAll(@Param("ids") Collection<String> ids, @Param("statuses") Collection<IngestJob.Status> statuses,
+			@Param("failed") IngestJob.Status failed, @Param("error") String error, @Param("now") Instant now);
+
+	// 보관 시간이 지난 완료 작업
+	@Query("SELECT j.id FROM IngestJobRecord j WHERE j.finishedAt < :before")
+	List<String> findFinishedIdsBefore(@Param("before") Instant before);
+}
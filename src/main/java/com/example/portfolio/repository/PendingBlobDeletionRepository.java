@@ -0,0 +1,29 @@
+package com.example.portfolio.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.portfolio.model.PendingBlobDeletion;
+
+@Repository
+public interface PendingBlobDeletionRepository extends JpaRepository<PendingBlobDeletion, Long> {
+
+	// 재시도 대상 (오래된 순)
+	List<PendingBlobDeletion> findTop100ByNextAttemptAtBeforeOrderByIdAsc(Instant now);
+
+	// 삭제 실패 기록 (다른 인스턴스가 먼저 처리해서 행이 없으면 아무것도 하지 않음)
+	@Modifying
+	@Transactional
+	@Query("UPDATE PendingBlobDeletion d SET d.attempts = d.attempts + 1, d.lastError = :error, "
+			+ "d.nextAttemptAt = :nextAttemptAt WHERE d.id IN :ids")
+	void markFailed(@Param("ids") Collection<Long> ids, @Param("error") String error,
+			@Param("nextAttemptAt") Instant nextAttemptAt);
+}
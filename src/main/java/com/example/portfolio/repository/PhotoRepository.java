@@ -1,15 +1,24 @@
 package com.example.portfolio.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 import com.example.portfolio.dto.PhotoListDto;
+import com.example.portfolio.image.StoredImage;
 import com.example.portfolio.model.Photo;
 import com.example.portfolio.model.Project;
 
@@ -17,13 +26,30 @@ public interface PhotoRepository extends JpaRepository<Photo, Long>{
 	List<Photo> findByProjectId(Long id);
 	List<Photo> findAllByProjectId(Long id);
 	
-	@Query("SELECT new com.example.portfolio.dto.PhotoListDto(ph.id, ph.imageUrl) "
+	// 같은 내용(해시)의 사진 조회 (중복 업로드 시 스토리지 객체 재사용)
+	Optional<Photo> findFirstByContentHash(String contentHash);
+	
+	// 재사용할 원본 사진 행에 공유 잠금 (FOR SHARE) - 잠금을 잡은 트랜잭션이 끝날 때까지 원본 삭제가 대기
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	Optional<Photo> findLockedById(Long id);
+	
+	// 주어진 URL 중 아직 사진이 참조하고 있는 URL
+	@Query("SELECT DISTINCT ph.imageUrl FROM Photo ph WHERE ph.imageUrl IN :imageUrls")
+	List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+	
+	// URL이 prefix로 시작하는 사진 이미지 (다른 프로젝트가 재사용한 객체 포함), 트랜잭션 안에서 스트리밍
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new com.example.portfolio.image.StoredImage(ph.imageUrl, ph.variantWidths) "
+			+ "FROM Photo ph WHERE ph.imageUrl LIKE CONCAT(:urlPrefix, '%')")
+	Stream<StoredImage> streamImagesByUrlPrefix(@Param("urlPrefix") String urlPrefix);
+	
+	@Query("SELECT new com.example.portfolio.dto.PhotoListDto(ph.id, ph.imageUrl, ph.variantWidths, ph.width, ph.height, ph.byteSize, ph.blurHash) "
 			+ "FROM Photo ph "
 			+ "LEFT JOIN Project p ON p.id = ph.projectId "
 			+ "WHERE ph.projectId = :projectId")
 	Slice<PhotoListDto> findByPhotosProjectId(@Param("projectId") Long projectId, Pageable pageable);
 	
-	@Query("SELECT new com.example.portfolio.dto.PhotoListDto(ph.id, ph.imageUrl) " +
+	@Query("SELECT new com.example.portfolio.dto.PhotoListDto(ph.id, ph.imageUrl, ph.variantWidths, ph.width, ph.height, ph.byteSize, ph.blurHash) " +
 		       "FROM Photo ph " +
 		       "WHERE ph.projectId = :projectId")
 		List<PhotoListDto> findDetailPhotoByProjectId(@Param("projectId") Long projectId);
@@ -1,6 +1,9 @@
 package com.example.portfolio.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,15 +11,18 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+
+import com.example.portfolio.dto.CategoryProjectCountDto;
 import com.example.portfolio.dto.ProjectDetailDto;
 import com.example.portfolio.dto.ProjectListDto;
-import com.example.portfolio.model.Category;
+import com.example.portfolio.image.StoredImage;
 import com.example.portfolio.model.Project;
-import com.example.portfolio.model.SubCategory;
 
 
 @Repository
@@ -24,20 +30,23 @@ public interface ProjectRepository extends JpaRepository<Project, Long>{
 
 	   @Query("SELECT new com.example.portfolio.dto.ProjectListDto(" +
 	           "p.id, p.title, p.thumbnailUrl, p.createdAt, p.view, " +
-	           "p.category.name, p.subCategory.name, NULL) " +
+	           "p.category.name, p.subCategory.name, NULL, p.thumbnailVariantWidths, " +
+	           "p.thumbnailWidth, p.thumbnailHeight, p.thumbnailByteSize, p.thumbnailBlurHash) " +
 	           "FROM Project p ")
 	    Slice<ProjectListDto> findAllProject(Pageable pageable);
 
 	    @Query("SELECT new com.example.portfolio.dto.ProjectListDto(" +
 	           "p.id, p.title, p.thumbnailUrl, p.createdAt, p.view, " +
-	           "p.category.name, p.subCategory.name, NULL) " +
+	           "p.category.name, p.subCategory.name, NULL, p.thumbnailVariantWidths, " +
+	           "p.thumbnailWidth, p.thumbnailHeight, p.thumbnailByteSize, p.thumbnailBlurHash) " +
 	           "FROM Project p " +
 	           "WHERE p.category.id = :categoryId")
 	    Slice<ProjectListDto> findByCategory_id(Pageable pageable, @Param("categoryId") Long categoryId);
 
 	    @Query("SELECT new com.example.portfolio.dto.ProjectListDto(" +
 	           "p.id, p.title, p.thumbnailUrl, p.createdAt, p.view, " +
-	           "p.category.name, p.subCategory.name, NULL) " +
+	           "p.category.name, p.subCategory.name, NULL, p.thumbnailVariantWidths, " +
+	           "p.thumbnailWidth, p.thumbnailHeight, p.thumbnailByteSize, p.thumbnailBlurHash) " +
 	           "FROM Project p " +
 	           "WHERE p.subCategory.id = :subCategoryId")
 	    Slice<ProjectListDto> findBySubCategory_id(Pageable pageable, @Param("subCategoryId") Long subCategoryId);
@@ -49,11 +58,10 @@ public interface ProjectRepository extends JpaRepository<Project, Long>{
 	        + "GROUP BY p.id,p.category.name ,p.subCategory.name")
 	Page<ProjectListDto> findByKeyWord(Pageable pageable, @Param("keyWord") String keyWord);
 	
-	@Query("SELECT DISTINCT p.category FROM Project p WHERE p.category IS NOT NULL")
-	List<Category> findCategoriesWithProjects();
-
-	@Query("SELECT DISTINCT p.subCategory FROM Project p WHERE p.subCategory IS NOT NULL AND p.category.id = :categoryId")
-	List<SubCategory> findSubCategoriesWithProjects(@Param("categoryId") Long categoryId);
+	// 카테고리 트리 스냅샷용: 카테고리/서브카테고리 조합별 프로젝트 수
+	@Query("SELECT new com.example.portfolio.dto.CategoryProjectCountDto(c.id, s.id, COUNT(p)) "
+			+ "FROM Project p JOIN p.category c LEFT JOIN p.subCategory s GROUP BY c.id, s.id")
+	List<CategoryProjectCountDto> countProjectsByCategory();
 
 	
 	//List<Project> findByCategory_Id(Long categoryId);
@@ -78,6 +86,18 @@ public interface ProjectRepository extends JpaRepository<Project, Long>{
 	List<ProjectListDto> findByProjectId(@Param("projectId") Long projectId);
 	
 	
+	// 백그라운드 작업에서 썸네일 업로드가 끝나면 반영
+	@Modifying
+	@Transactional
+	@Query("UPDATE Project p SET p.thumbnailUrl = :#{#thumbnail.url}, "
+			+ "p.thumbnailVariantWidths = :#{#thumbnail.variantWidths}, "
+			+ "p.thumbnailWidth = :#{#thumbnail.width}, "
+			+ "p.thumbnailHeight = :#{#thumbnail.height}, "
+			+ "p.thumbnailByteSize = :#{#thumbnail.byteSize}, "
+			+ "p.thumbnailBlurHash = :#{#thumbnail.blurHash} "
+			+ "WHERE p.id = :projectId")
+	void updateThumbnail(@Param("projectId") Long projectId, @Param("thumbnail") StoredImage thumbnail);
+	
 	// 프로젝트 detail 정보 가져오기
 	@Query("SELECT new com.example.portfolio.dto.ProjectDetailDto(p.id, p.title, p.thumbnailUrl, c.id, s.id) "
 			+ "FROM Project p "
@@ -85,6 +105,10 @@ public interface ProjectRepository extends JpaRepository<Project, Long>{
 			+ "JOIN p.subCategory s "
 			+ "where p.id= :projectId ")
 	ProjectDetailDto findProjectDetailByProjectId(@Param("projectId") Long projectId);
-	
+
+	// URL이 prefix로 시작하는 썸네일, 트랜잭션 안에서 스트리밍
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new com.example.portfolio.image.StoredImage(p.thumbnailUrl, p.thumbnailVariantWidths) "
+			+ "FROM Project p WHERE p.thumbnailUrl LIKE CONCAT(:urlPrefix, '%')")
+	Stream<StoredImage> streamThumbnailsByUrlPrefix(@Param("urlPrefix") String urlPrefix);
 }
- 
\ No newline at end of file
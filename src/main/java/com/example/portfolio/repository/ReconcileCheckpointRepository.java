@@ -0,0 +1,10 @@
+package com.example.portfolio.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.portfolio.model.ReconcileCheckpoint;
+
+@Repository
+public interface ReconcileCheckpointRepository extends JpaRepository<ReconcileCheckpoint, String> {
+}
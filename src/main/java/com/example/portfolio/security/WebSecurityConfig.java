@@ -42,6 +42,9 @@ public class WebSecurityConfig {
 	        .requestMatchers("/h2-console/**").permitAll()
 	        // 특정 요청 보안 설정
 	        .requestMatchers("/Admin/**").authenticated()
+	        // actuator는 health만 공개
+	        .requestMatchers("/actuator/health").permitAll()
+	        .requestMatchers("/actuator/**").authenticated()
 	        // permitAll() : 인증 없이 접근 허용 
 	        .anyRequest().permitAll()	
 	    )
@@ -64,8 +67,11 @@ public class WebSecurityConfig {
 		CorsConfiguration config = new CorsConfiguration();
 		config.setAllowCredentials(true); // 쿠키 허용
 		config.setAllowedOrigins(List.of("https://minography.vercel.app"));  // 프론트 port
-		config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS")); // 허용 메소드
+		// PATCH/HEAD: 이어 올리기 업로드 (/api/resumable)
+		config.setAllowedMethods(List.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")); // 허용 메소드
 		config.setAllowedHeaders(List.of("*"));
+		// 이어 올리기 진행 위치/세션 주소를 브라우저 JS에서 읽을 수 있도록 노출
+		config.setExposedHeaders(List.of("Upload-Offset", "Upload-Length", "Upload-Expires", "Location"));
 		
 		// url 경로마다 cors 적용 가능
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
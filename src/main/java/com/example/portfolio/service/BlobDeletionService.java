@@ -0,0 +1,144 @@
+package com.example.portfolio.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.portfolio.image.ImageVariants;
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.model.PendingBlobDeletion;
+import com.example.portfolio.repository.PendingBlobDeletionRepository;
+import com.example.portfolio.repository.PhotoRepository;
+import com.example.portfolio.storage.ObjectStore;
+
+// 스토리지 객체 삭제 - 삭제 기록을 DB에 남기고 커밋 이후 배치 요청으로 삭제, 실패하면 주기적으로 재시도
+@Service
+public class BlobDeletionService {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ObjectStore objectStore;
+	private final PendingBlobDeletionRepository pendingBlobDeletionRepository;
+	private final PhotoRepository photoRepository;
+	private final Executor blobDeletionExecutor;
+	private final Duration retryInterval;
+
+	public BlobDeletionService(ObjectStore objectStore, PendingBlobDeletionRepository pendingBlobDeletionRepository,
+			PhotoRepository photoRepository, @Qualifier("blobDeletionExecutor") Executor blobDeletionExecutor,
+			@Value("${portfolio.storage.deletion-retry-interval:PT5M}") Duration retryInterval) {
+		this.objectStore = objectStore;
+		this.pendingBlobDeletionRepository = pendingBlobDeletionRepository;
+		this.photoRepository = photoRepository;
+		this.blobDeletionExecutor = blobDeletionExecutor;
+		this.retryInterval = retryInterval;
+	}
+
+	// 호출한 트랜잭션과 함께 삭제 기록을 저장하고 커밋된 후에 삭제 (롤백되면 기록도 없어지므로 삭제하지 않음)
+	public void deleteAfterCommit(List<StoredImage> images) {
+		if (images.isEmpty()) {
+			return;
+		}
+		Instant nextAttemptAt = Instant.now().plus(retryInterval);
+		List<PendingBlobDeletion> pending = images.stream()
+				.map(image -> new PendingBlobDeletion(image.getUrl(), image.getVariantWidths(), nextAttemptAt))
+				.collect(Collectors.toList());
+		pendingBlobDeletionRepository.saveAll(pending);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					execute(pending);
+				}
+			});
+		} else {
+			execute(pending);
+		}
+	}
+
+	// 전용 스레드 풀에서 실행, 거절되면 (대기열 가득 참, 종료 중) 호출한 스레드에서 실행하지 않고 재시도 작업에 맡김
+	private void execute(List<PendingBlobDeletion> pending) {
+		try {
+			blobDeletionExecutor.execute(() -> deletePending(pending));
+		} catch (RejectedExecutionException e) {
+			logger.warn("Deferred deletion of {} images to the retry job", pending.size());
+		}
+	}
+
+	// 커밋 직후 삭제에 실패했거나 실행되지 못한 기록 재시도
+	@Scheduled(initialDelayString = "${portfolio.storage.deletion-retry-interval:PT5M}",
+			fixedDelayString = "${portfolio.storage.deletion-retry-interval:PT5M}")
+	public void retryPending() {
+		List<PendingBlobDeletion> pending =
+				pendingBlobDeletionRepository.findTop100ByNextAttemptAtBeforeOrderByIdAsc(Instant.now());
+		if (!pending.isEmpty()) {
+			logger.info("Retrying deletion of {} images", pending.size());
+			deletePending(pending);
+		}
+	}
+
+	void deletePending(List<PendingBlobDeletion> pending) {
+		try {
+			// 그 사이 같은 객체를 재사용한 사진이 생겼으면 (중복 업로드) 객체는 남기고 기록만 정리
+			// 재사용하는 쪽은 원본 행을 잠근 트랜잭션에서 사진을 저장하므로 여기서 못 본 재사용은 새로 업로드됨 (PhotoService.reuse)
+			Set<String> referencedUrls = new HashSet<>(photoRepository.findReferencedImageUrls(
+					pending.stream().map(PendingBlobDeletion::getImageUrl).collect(Collectors.toSet())));
+
+			List<String> urls = pending.stream()
+					.filter(deletion -> !referencedUrls.contains(deletion.getImageUrl()))
+					.flatMap(deletion -> ImageVariants.allUrls(deletion.getImageUrl(), deletion.getVariantWidths()).stream())
+					.collect(Collectors.toList());
+			Map<String, String> failures = urls.isEmpty() ? Map.of() : objectStore.deleteObjects(urls);
+
+			List<Long> completedIds = new ArrayList<>();
+			List<Long> failedIds = new ArrayList<>();
+			String lastError = null;
+			for (PendingBlobDeletion deletion : pending) {
+				String error = referencedUrls.contains(deletion.getImageUrl()) ? null
+						: ImageVariants.allUrls(deletion.getImageUrl(), deletion.getVariantWidths()).stream()
+								.map(failures::get)
+								.filter(Objects::nonNull)
+								.findFirst()
+								.orElse(null);
+				if (error == null) {
+					completedIds.add(deletion.getId());
+				} else {
+					failedIds.add(deletion.getId());
+					lastError = error;
+				}
+			}
+
+			if (!completedIds.isEmpty()) {
+				pendingBlobDeletionRepository.deleteAllByIdInBatch(completedIds);
+			}
+			if (!failedIds.isEmpty()) {
+				logger.warn("Failed to delete {} of {} images, will retry: {}", failedIds.size(), pending.size(), lastError);
+				pendingBlobDeletionRepository.markFailed(failedIds, truncate(lastError), Instant.now().plus(retryInterval));
+			}
+		} catch (RuntimeException e) {
+			// 기록은 그대로 남아 있으므로 재시도 작업에서 다시 처리
+			logger.warn("Failed to delete {} images, will retry", pending.size(), e);
+		}
+	}
+
+	private String truncate(String error) {
+		return error.length() > 1000 ? error.substring(0, 1000) : error;
+	}
+}
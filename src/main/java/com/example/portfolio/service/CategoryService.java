@@ -1,11 +1,7 @@
 package com.example.portfolio.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -33,60 +29,46 @@ public class CategoryService {
 	private final SubCategoryRepository subCategoryRepository;
 	private final CategoryMapper categoryMapper;
 	private final ProjectRepository projectRepository;
+	private final CategoryTreeService categoryTreeService;
 
 	// 생성자
 	public CategoryService(CategoryRepository categoryRepository, SubCategoryRepository subCategoryRepository,
-			ProjectRepository projectRepository, CategoryMapper categoryMapper) {
+			ProjectRepository projectRepository, CategoryMapper categoryMapper, CategoryTreeService categoryTreeService) {
 		this.categoryRepository = categoryRepository;
 		this.subCategoryRepository = subCategoryRepository;
 		this.projectRepository = projectRepository;
 		this.categoryMapper = categoryMapper;
+		this.categoryTreeService = categoryTreeService;
 	}
 
 	public List<Category> getCategory() {
 		return categoryRepository.findAll();
 	}
 
-	// 카테고리 전체 목록 가져오기
+	// 카테고리 전체 목록 가져오기 (메모리 스냅샷)
 	public List<CategoryDto> getAllCategories() {
-		List<Category> categories = categoryRepository.findAll();
-		return categories.stream().map(this::mapEntityToDto).toList();
+		return categoryTreeService.getAllCategories();
 	}
-	
-	//@Cacheable(value = "category", key = "'categoryList'")
-	 public List<CategoryDto> getCategoriesWithProjects() {
-	       List<Category> categoriesWithProjects = projectRepository.findCategoriesWithProjects();
-	       return categoriesWithProjects.stream()
-	               .map(categoryMapper::categoryToDto) // Category 엔티티를 CategoryDto로 매핑
-	               .collect(Collectors.toList());
-	   }
-	
-	//@Cacheable(value = "subCategory", key = "#categoryId")
+
+	// 프로젝트가 있는 카테고리 (메모리 스냅샷)
+	public List<CategoryDto> getCategoriesWithProjects() {
+		return categoryTreeService.getCategoriesWithProjects();
+	}
+
+	// 카테고리 안에서 프로젝트가 있는 서브카테고리 (메모리 스냅샷)
 	public List<SubCategoryDto> getSubCategoriesWithProjects(Long categoryId) {
-		categoryRepository.findById(categoryId).orElseThrow(() -> new CustomException(
-            HttpStatus.NOT_FOUND,
-            ErrorCode.CATEGORY_NOT_FOUND,
-            "Category with ID: " + categoryId + " not found when retrieving subcategories")
-				);
-		
-		List<SubCategory> subCategories = projectRepository.findSubCategoriesWithProjects(categoryId);
-		return subCategories.stream().map(this::subCategoryEntityToDto).toList();
+		return categoryTreeService.getSubCategoriesWithProjects(categoryId);
 	}
 
 	@Transactional
-	//@CacheEvict(value = "category", key = "'categoryList'")
 	public CategoryCreateDto createCategories(CategoryCreateDto categoryCreateDto) {
 		Category category = categoryMapper.createDtoToEntity(categoryCreateDto);
-		return CategoryMapper.INSTANCE.categoryToCreateDto(categoryRepository.save(category));
+		CategoryCreateDto created = CategoryMapper.INSTANCE.categoryToCreateDto(categoryRepository.save(category));
+		categoryTreeService.rebuildAfterCommit();
+		return created;
 	}
 
 	@Transactional
-//	@Caching(
-//			evict = {
-//					@CacheEvict(value = "category", key = "'categoryList'"),
-//					@CacheEvict(value = "subCategory", key = "#categoryId")
-//			}
-//	)
 	public void deleteCategory(Long categoryId) {
 		if (isCategoryUsed(categoryId)) {
 			throw new CustomException(
@@ -102,6 +84,7 @@ public class CategoryService {
 		                "Category with ID: " + categoryId + " does not exist")
 						);
 		categoryRepository.delete(category);
+		categoryTreeService.rebuildAfterCommit();
 	}
 
 	@Transactional
@@ -109,34 +92,17 @@ public class CategoryService {
 		return projectRepository.existsByCategory_Id(categoryId);
 	}
 
-	// Entity -> DTO 변환
-	private CategoryDto mapEntityToDto(Category category) {
-		CategoryDto categoryDto = new CategoryDto();
-		categoryDto.setId(category.getId());
-		categoryDto.setName(category.getName());
-		List<SubCategoryDto> subCategories = category.getSubCategories().stream().map(this::subCategoryEntityToDto)
-				.toList();
-		categoryDto.setSubCategories(subCategories);
-		return categoryDto;
-	}
-
-	private SubCategoryDto subCategoryEntityToDto(SubCategory subCategory) {
-		SubCategoryDto subCategoryDto = new SubCategoryDto();
-		subCategoryDto.setId(subCategory.getId());
-		subCategoryDto.setName(subCategory.getName());
-		return subCategoryDto;
-	}
-
 	@Transactional
-	//@CacheEvict(value = "subCategory", key = "#subCategoryCreateDto.id")
 	public SubCategoryCreateDto createSubCategory(Long categoryId, SubCategoryCreateDto subCategoryCreateDto) {
 		subCategoryCreateDto.setCategoryId(categoryId);
 		SubCategory subCategory = categoryMapper.createSubCategoryToSubCategory(subCategoryCreateDto);
-		return CategoryMapper.INSTANCE.createSubCategoryToSubCategoryDto(subCategoryRepository.save(subCategory));
+		SubCategoryCreateDto created = CategoryMapper.INSTANCE
+				.createSubCategoryToSubCategoryDto(subCategoryRepository.save(subCategory));
+		categoryTreeService.rebuildAfterCommit();
+		return created;
 	}
 
 	@Transactional
-	//@CacheEvict(value = "subCategory", key = "#subCategoryId")
 	public void deleteSubCategory(Long subCategoryId) {
 		if (isSubCategoryUsed(subCategoryId)) {
 			throw new CustomException(
@@ -146,6 +112,7 @@ public class CategoryService {
 		        );
 		}
 		subCategoryRepository.deleteById(subCategoryId);
+		categoryTreeService.rebuildAfterCommit();
 	}
 
 	@Transactional
@@ -154,13 +121,6 @@ public class CategoryService {
 	}
 
 	@Transactional
-//	@Caching(
-//			evict = {
-//					@CacheEvict(value = "category", key = "'categoryList'"),
-//					@CacheEvict(value = "projectList", allEntries = true),
-//					@CacheEvict(value = "adminProjectList", allEntries = true)
-//			}
-//	)
 	public void updateCategory(CategoryUpdateDto categoryUpdateDto) {
 		Category category = categoryRepository.findById(categoryUpdateDto.getId()).orElseThrow(
 				() -> new CustomException(
@@ -171,11 +131,11 @@ public class CategoryService {
 		category.setName(categoryUpdateDto.getName());
 		// subCategories 리스트를 변경하지 않음
 		categoryRepository.save(category);
+		categoryTreeService.rebuildAfterCommit();
 	}
 
     // 서브 카테고리 수정
     @Transactional
-    //@CacheEvict(value = "subCategory", key = "#subCategoryId")
     public void updateSubCategory(Long subCategoryId, SubCategoryUpdateDto subCategoryUpdateDto) {
         SubCategory subCategory = subCategoryRepository.findById(subCategoryId)
                 .orElseThrow(() -> new CustomException(
@@ -185,6 +145,7 @@ public class CategoryService {
                 		);
         subCategory.setName(subCategoryUpdateDto.getName());
         subCategoryRepository.save(subCategory);
+        categoryTreeService.rebuildAfterCommit();
     }
 
 }
\ No newline at end of file
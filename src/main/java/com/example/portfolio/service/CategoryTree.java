@@ -0,0 +1,122 @@
+package com.example.portfolio.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.portfolio.dto.CategoryDto;
+import com.example.portfolio.dto.CategoryProjectCountDto;
+import com.example.portfolio.dto.SubCategoryDto;
+import com.example.portfolio.model.Category;
+import com.example.portfolio.model.SubCategory;
+
+// 카테고리 트리의 불변 스냅샷 (카테고리/서브카테고리 이름과 프로젝트 수)
+// 조회할 때마다 새 DTO를 만들어 반환하므로 호출한 쪽에서 수정해도 스냅샷은 바뀌지 않음
+final class CategoryTree {
+
+	private final Map<Long, CategoryNode> categories;
+
+	private CategoryTree(Map<Long, CategoryNode> categories) {
+		this.categories = categories;
+	}
+
+	// categories: 서브카테고리까지 로딩된 전체 카테고리, counts: 카테고리/서브카테고리별 프로젝트 수
+	static CategoryTree build(List<Category> categories, List<CategoryProjectCountDto> counts) {
+		Map<Long, Long> categoryCounts = new HashMap<>();
+		// 카테고리 id -> (서브카테고리 id -> 프로젝트 수), 서브카테고리는 id 순
+		Map<Long, Map<Long, Long>> subCategoryCounts = new HashMap<>();
+		for (CategoryProjectCountDto count : counts) {
+			categoryCounts.merge(count.getCategoryId(), count.getCount(), Long::sum);
+			if (count.getSubCategoryId() != null) {
+				subCategoryCounts.computeIfAbsent(count.getCategoryId(), id -> new TreeMap<>())
+						.merge(count.getSubCategoryId(), count.getCount(), Long::sum);
+			}
+		}
+
+		Map<Long, String> subCategoryNames = new HashMap<>();
+		for (Category category : categories) {
+			for (SubCategory subCategory : subCategories(category)) {
+				subCategoryNames.put(subCategory.getId(), subCategory.getName());
+			}
+		}
+
+		Map<Long, CategoryNode> nodes = new LinkedHashMap<>();
+		for (Category category : categories) {
+			Map<Long, Long> subCounts = subCategoryCounts.getOrDefault(category.getId(), Map.of());
+			List<SubCategoryNode> subCategories = new ArrayList<>();
+			for (SubCategory subCategory : subCategories(category)) {
+				subCategories.add(new SubCategoryNode(subCategory.getId(), subCategory.getName(),
+						subCounts.getOrDefault(subCategory.getId(), 0L)));
+			}
+			// 프로젝트에서 참조하는 서브카테고리 기준 (기존 DISTINCT p.subCategory 조회와 같음)
+			List<SubCategoryNode> withProjects = new ArrayList<>();
+			subCounts.forEach((id, count) -> withProjects.add(
+					new SubCategoryNode(id, subCategoryNames.get(id), count)));
+			nodes.put(category.getId(), new CategoryNode(category.getId(), category.getName(),
+					categoryCounts.getOrDefault(category.getId(), 0L),
+					List.copyOf(subCategories), List.copyOf(withProjects)));
+		}
+		// 카테고리 순서(id 순) 유지
+		return new CategoryTree(Collections.unmodifiableMap(nodes));
+	}
+
+	List<CategoryDto> allCategories() {
+		return categories.values().stream().map(CategoryTree::categoryDto).toList();
+	}
+
+	List<CategoryDto> categoriesWithProjects() {
+		return categories.values().stream()
+				.filter(CategoryNode::hasProjects)
+				.map(CategoryTree::categoryDto)
+				.toList();
+	}
+
+	// 없는 카테고리면 null
+	List<SubCategoryDto> subCategoriesWithProjects(Long categoryId) {
+		CategoryNode category = categories.get(categoryId);
+		if (category == null) {
+			return null;
+		}
+		return category.subCategoriesWithProjects().stream().map(CategoryTree::subCategoryDto).toList();
+	}
+
+	int size() {
+		return categories.size();
+	}
+
+	private static List<SubCategory> subCategories(Category category) {
+		return category.getSubCategories() != null ? category.getSubCategories() : List.of();
+	}
+
+	private static CategoryDto categoryDto(CategoryNode node) {
+		CategoryDto dto = new CategoryDto();
+		dto.setId(node.id());
+		dto.setName(node.name());
+		dto.setProjectCount(node.projectCount());
+		dto.setSubCategories(node.subCategories().stream().map(CategoryTree::subCategoryDto).toList());
+		return dto;
+	}
+
+	private static SubCategoryDto subCategoryDto(SubCategoryNode node) {
+		SubCategoryDto dto = new SubCategoryDto();
+		dto.setId(node.id());
+		dto.setName(node.name());
+		dto.setProjectCount(node.projectCount());
+		return dto;
+	}
+
+	private record CategoryNode(Long id, String name, long projectCount, List<SubCategoryNode> subCategories,
+			List<SubCategoryNode> subCategoriesWithProjects) {
+
+		boolean hasProjects() {
+			return projectCount > 0;
+		}
+	}
+
+	private record SubCategoryNode(Long id, String name, long projectCount) {
+	}
+}
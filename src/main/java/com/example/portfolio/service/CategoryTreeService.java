@@ -0,0 +1,178 @@
+package com.example.portfolio.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.portfolio.dto.CategoryDto;
+import com.example.portfolio.dto.SubCategoryDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.repository.CategoryRepository;
+import com.example.portfolio.repository.ProjectRepository;
+
+// 카테고리 트리 스냅샷을 메모리에 두고 조회 요청은 DB 없이 응답
+// 카테고리/서브카테고리/프로젝트가 바뀌면 커밋 후 별도 스레드에서 다시 만들어 한 번에 교체
+// 여러 변경이 몰리면 한 번만 다시 만듦, 다른 인스턴스에는 Redis pub/sub(CHANNEL)으로 알림
+// pub/sub 메시지가 유실되어도 refresh-interval마다 다시 만듦
+@Service
+public class CategoryTreeService implements MessageListener {
+
+	public static final String CHANNEL = "portfolio:category-tree";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final CategoryRepository categoryRepository;
+	private final ProjectRepository projectRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final TaskExecutor categoryTreeExecutor;
+	private final StringRedisTemplate redisTemplate;
+	// 이 인스턴스가 보낸 메시지 구분용
+	private final String origin = UUID.randomUUID().toString();
+
+	private final AtomicReference<CategoryTree> snapshot = new AtomicReference<>();
+	private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+	public CategoryTreeService(CategoryRepository categoryRepository, ProjectRepository projectRepository,
+			PlatformTransactionManager transactionManager,
+			@Qualifier("categoryTreeExecutor") TaskExecutor categoryTreeExecutor,
+			StringRedisTemplate redisTemplate, RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+		this.categoryRepository = categoryRepository;
+		this.projectRepository = projectRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.categoryTreeExecutor = categoryTreeExecutor;
+		this.redisTemplate = redisTemplate;
+		cacheInvalidationListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	public List<CategoryDto> getAllCategories() {
+		return current().allCategories();
+	}
+
+	public List<CategoryDto> getCategoriesWithProjects() {
+		return current().categoriesWithProjects();
+	}
+
+	public List<SubCategoryDto> getSubCategoriesWithProjects(Long categoryId) {
+		List<SubCategoryDto> subCategories = current().subCategoriesWithProjects(categoryId);
+		if (subCategories == null) {
+			throw new CustomException(
+					HttpStatus.NOT_FOUND,
+					ErrorCode.CATEGORY_NOT_FOUND,
+					"Category with ID: " + categoryId + " not found when retrieving subcategories");
+		}
+		return subCategories;
+	}
+
+	// 변경한 트랜잭션이 커밋된 뒤 다시 만들고 다른 인스턴스에도 알림
+	public void rebuildAfterCommit() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					requestRebuild();
+					publish();
+				}
+			});
+		} else {
+			requestRebuild();
+			publish();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		rebuild();
+	}
+
+	@Scheduled(initialDelayString = "${portfolio.category-tree.refresh-interval:PT10M}",
+			fixedDelayString = "${portfolio.category-tree.refresh-interval:PT10M}")
+	public void refresh() {
+		requestRebuild();
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		if (!origin.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+			requestRebuild();
+		}
+	}
+
+	// 이미 대기 중인 재생성이 있으면 그 작업이 이번 변경까지 반영함
+	void requestRebuild() {
+		if (!rebuildQueued.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			categoryTreeExecutor.execute(this::runQueuedRebuild);
+		} catch (TaskRejectedException e) {
+			rebuildQueued.set(false);
+			logger.warn("Could not schedule category tree rebuild: {}", e.getMessage());
+		}
+	}
+
+	private void runQueuedRebuild() {
+		// 조회 전에 해제해야 이후 커밋된 변경이 다음 재생성을 예약할 수 있음
+		rebuildQueued.set(false);
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			// 기존 스냅샷 유지, 다음 변경이나 주기 재생성 때 다시 시도
+			logger.warn("Category tree rebuild failed", e);
+		}
+	}
+
+	// 카테고리(서브카테고리 포함) 조회 1번 + 프로젝트 수 집계 1번
+	CategoryTree rebuild() {
+		CategoryTree tree = transactionTemplate.execute(status -> CategoryTree.build(
+				categoryRepository.findAllWithSubCategories(),
+				projectRepository.countProjectsByCategory()));
+		snapshot.set(tree);
+		logger.debug("Category tree rebuilt with {} categories", tree.size());
+		return tree;
+	}
+
+	// 기동 직후 스냅샷이 아직 없을 때만 요청 스레드에서 직접 만듦
+	private CategoryTree current() {
+		CategoryTree tree = snapshot.get();
+		if (tree != null) {
+			return tree;
+		}
+		synchronized (this) {
+			tree = snapshot.get();
+			return tree != null ? tree : rebuild();
+		}
+	}
+
+	private void publish() {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, origin);
+		} catch (RuntimeException e) {
+			// 다른 인스턴스는 주기 재생성 때 반영됨
+			logger.warn("Failed to publish category tree change: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.portfolio.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.dto.DirectUploadDto;
+import com.example.portfolio.dto.DirectUploadFinalizeDto;
+import com.example.portfolio.dto.DirectUploadRequestDto;
+import com.example.portfolio.dto.IngestJobDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.StoredObjectSource;
+import com.example.portfolio.repository.ProjectRepository;
+import com.example.portfolio.storage.ObjectStore;
+
+// 클라이언트가 서버를 거치지 않고 저장소에 원본을 올리고, 완료 후 등록하면 인코딩 작업 시작
+@Service
+public class DirectUploadService {
+
+	// 직접 업로드 원본 위치 (uploads/{projectId}/{uuid}.{ext}), 인코딩 후 삭제
+	private static final String UPLOAD_PREFIX = "uploads/";
+
+	private final ObjectStore objectStore;
+	private final ProjectRepository projectRepository;
+	private final IngestJobService ingestJobService;
+	private final Duration urlExpiry;
+	private final long maxFileSize;
+	private final int maxFiles;
+
+	public DirectUploadService(ObjectStore objectStore, ProjectRepository projectRepository,
+			IngestJobService ingestJobService,
+			@Value("${portfolio.upload.signed-url-expiry:PT15M}") Duration urlExpiry,
+			@Value("${portfolio.upload.direct.max-file-size:30MB}") DataSize maxFileSize,
+			@Value("${portfolio.upload.max-files:100}") int maxFiles) {
+		this.objectStore = objectStore;
+		this.projectRepository = projectRepository;
+		this.ingestJobService = ingestJobService;
+		this.urlExpiry = urlExpiry;
+		this.maxFileSize = maxFileSize.toBytes();
+		this.maxFiles = maxFiles;
+	}
+
+	// 파일마다 서명된 업로드 URL 발급
+	public List<DirectUploadDto> createUploads(DirectUploadRequestDto request) {
+		Long projectId = request.getProjectId();
+		checkProject(projectId);
+		List<DirectUploadRequestDto.File> files = request.getFiles() != null ? request.getFiles() : List.of();
+		checkCount(files.size());
+
+		return files.stream()
+				.map(file -> {
+					String contentType = file.getContentType();
+					if (contentType == null || !contentType.startsWith("image/")) {
+						throw new CustomException(
+								HttpStatus.BAD_REQUEST,
+								ErrorCode.UNSUPPORTED_IMAGE_FORMAT,
+								"Not an image: " + file.getFilename() + " (" + contentType + ")");
+					}
+					String objectName = uploadPrefix(projectId) + UUID.randomUUID() + extension(file.getFilename());
+					return objectStore.signUpload(objectName, contentType, maxFileSize, urlExpiry);
+				})
+				.toList();
+	}
+
+	// 업로드가 끝난 원본을 사진으로 등록하는 작업 시작 (원본은 작업 스레드에서 받아서 처리)
+	public IngestJobDto finalizeUploads(DirectUploadFinalizeDto request) {
+		Long projectId = request.getProjectId();
+		checkProject(projectId);
+		List<String> objectNames = request.getObjectNames() != null ? request.getObjectNames() : List.of();
+		checkCount(objectNames.size());
+		ingestJobService.checkCapacity();
+
+		// 발급한 경로 밖의 객체(다른 프로젝트, 이미 저장된 사진 등)는 등록하지 않음
+		String prefix = uploadPrefix(projectId);
+		List<ImageSource> photos = objectNames.stream()
+				.map(objectName -> {
+					if (!objectName.startsWith(prefix) || objectName.contains("..")) {
+						throw new CustomException(
+								HttpStatus.BAD_REQUEST,
+								ErrorCode.INVALID_UPLOAD_OBJECT,
+								"Object was not issued for project " + projectId + ": " + objectName);
+					}
+					String contentType = MediaTypeFactory.getMediaType(objectName)
+							.orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+					return (ImageSource) new StoredObjectSource(objectStore, objectName, contentType, maxFileSize);
+				})
+				.toList();
+		return ingestJobService.submitUpdate(projectId, null, photos, List.of());
+	}
+
+	private void checkProject(Long projectId) {
+		if (projectId == null || !projectRepository.existsById(projectId)) {
+			throw new CustomException(
+					HttpStatus.NOT_FOUND,
+					ErrorCode.NOT_FIND_PROJECT,
+					"Project not found with id: " + projectId);
+		}
+	}
+
+	private void checkCount(int count) {
+		if (count == 0 || count > maxFiles) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.INVALID_UPLOAD_OBJECT,
+					"Expected 1 to " + maxFiles + " files but got " + count);
+		}
+	}
+
+	private String uploadPrefix(Long projectId) {
+		return UPLOAD_PREFIX + projectId + "/";
+	}
+
+	// 원본 확장자 유지 (형식 판별은 디코더가 내용으로 함)
+	private String extension(String filename) {
+		String extension = StringUtils.getFilenameExtension(filename);
+		return extension != null && extension.matches("[A-Za-z0-9]{1,5}") ? "." + extension.toLowerCase() : "";
+	}
+}
@@ -1,138 +0,0 @@
-package com.example.portfolio.service;
-
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
-import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-
-import com.example.portfolio.exception.CustomException;
-import com.example.portfolio.exception.ErrorCode;
-import com.example.portfolio.model.Photo;
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageOptions;
-
-@Service
-public class GcsService {
-
-    @Value("${spring.cloud.gcp.storage.bucket}")
-    private String bucketName;
-
-    private final Storage storage;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
-
-
-    public GcsService() {
-        try {
-            GoogleCredentials credentials = GoogleCredentials.getApplicationDefault();
-            this.storage = StorageOptions.newBuilder().setCredentials(credentials).build().getService();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to initialize GCS credentials", e);
-        }
-    }
-
-
-    public String uploadWebpFile(MultipartFile multipartFile, Long projectId) {
-        try {
-
-            String uuid = UUID.randomUUID().toString();
-            String objectName = projectId + "/" + uuid + ".webp";
-            File tempFile = File.createTempFile(uuid, ".png"); // 원본 이미지를 임시 파일로 저장
-            multipartFile.transferTo(tempFile);
-
-            // WebP 변환을 위한 출력 파일 경로 설정
-            File webpFile = new File(tempFile.getParent(), uuid + ".webp");
-
-            // cwebp 명령어 실행 
-            ProcessBuilder processBuilder = new ProcessBuilder(
-                "cwebp", "-q", "85", tempFile.getAbsolutePath(), "-o", webpFile.getAbsolutePath()
-            );
-            
-            // 프로세스 실행 
-            Process process = processBuilder.start();
-            // 프로세스 종료 대기
-            int exitCode = process.waitFor();
-           
-            BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName)
-                    .setContentType("image/webp")
-                    .build();
-            
-            byte[] webpBytes = Files.readAllBytes(webpFile.toPath());
-            storage.create(blobInfo, webpBytes);
-
-            // 임시 파일 삭제
-            tempFile.delete();
-            webpFile.delete();
-
-            return "https://storage.googleapis.com/" + bucketName + "/" + objectName;
-
-        } catch (IOException e) {
-            throw new CustomException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    ErrorCode.STORAGE_IO_ERROR,
-                    "Failed to upload file: " + e.getMessage()
-            );
-        } catch (Exception e) {
-            throw new CustomException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    ErrorCode.STORAGE_IO_ERROR,
-                    "File upload failed due to async exception: " + e.getMessage()
-            );
-        }
-    }
-
-    // 썸네일 파일 삭제
-    public void deleteThumbnailFile(String thumbnailUrl) {
-        String objectName = getObjectNameFromUrl(thumbnailUrl);
-        Blob blob = storage.get(bucketName, objectName);
-
-        if (blob != null) {
-            storage.delete(bucketName, objectName);
-        } else {
-            throw new CustomException(
-                    HttpStatus.NOT_FOUND,
-                    ErrorCode.STORAGE_FILE_NOT_FOUND,
-                    "Blob not found: " + objectName
-            );
-        }
-    }
-
-    // photo 파일 삭제
-    public void deletePhotoToGcs(List<Photo> photos) {
-        List<String> urls = photos.stream()
-                .map(Photo::getImageUrl)
-                .collect(Collectors.toList());
-
-        for (String url : urls) {
-            String objectName = getObjectNameFromUrl(url);
-            Blob blob = storage.get(bucketName, objectName);
-
-            if (blob != null) {
-                storage.delete(bucketName, objectName);
-            } else {
-                throw new CustomException(
-                        HttpStatus.NOT_FOUND,
-                        ErrorCode.STORAGE_FILE_NOT_FOUND,
-                        "File not found in storage: " + objectName
-                );
-            }
-        }
-    }
-
-    // url로 object 이름 가져오는 메서드
-    public String getObjectNameFromUrl(String url) {
-        int index = url.indexOf("minography_gcs/") + "minography_gcs/".length();
-        return url.substring(index);
-    }
-}
@@ -0,0 +1,231 @@
+package com.example.portfolio.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ContentHash;
+import com.example.portfolio.image.DecodedImage;
+import com.example.portfolio.image.DeliveryFormat;
+import com.example.portfolio.image.ImageDecoder;
+import com.example.portfolio.image.ImageVariants;
+import com.example.portfolio.image.SpooledImageSource;
+import com.example.portfolio.model.Photo;
+import com.example.portfolio.repository.PhotoRepository;
+import com.example.portfolio.storage.ObjectStore;
+
+// /img/{projectId}/{id} 전송용: 형식/너비 결정 후 저장된 WebP를 요청 형식으로 변환해서 로컬 캐시에 보관
+@Service
+public class ImageDeliveryService {
+
+	private static final String ORIGINAL_WIDTH = "orig";
+	// ETag/캐시 키에 쓰는 해시 길이 (hex)
+	private static final int ETAG_LENGTH = 32;
+
+	private final PhotoRepository photoRepository;
+	private final ObjectStore objectStore;
+	private final ImageDecoder imageDecoder;
+	private final TranscodeCache transcodeCache;
+	private final int jpegQuality;
+	// 인코더가 있는 형식만 (AVIF는 ImageIO 플러그인이 등록된 경우에만 사용)
+	private final List<DeliveryFormat> availableFormats;
+
+	public ImageDeliveryService(PhotoRepository photoRepository, ObjectStore objectStore, ImageDecoder imageDecoder,
+			TranscodeCache transcodeCache, @Value("${portfolio.delivery.jpeg-quality:85}") int jpegQuality) {
+		this.photoRepository = photoRepository;
+		this.objectStore = objectStore;
+		this.imageDecoder = imageDecoder;
+		this.transcodeCache = transcodeCache;
+		this.jpegQuality = jpegQuality;
+		this.availableFormats = Arrays.stream(DeliveryFormat.values())
+				.filter(format -> format != DeliveryFormat.AVIF || hasWriter(format))
+				.toList();
+	}
+
+	// 요청을 전송할 객체/형식/ETag로 변환 (변환은 하지 않음, 304 판단용)
+	public ImageDelivery resolve(Long projectId, Long photoId, Integer width, String fmt, String accept) {
+		Photo photo = photoRepository.findById(photoId)
+				.filter(found -> projectId.equals(found.getProjectId()))
+				.orElseThrow(() -> new CustomException(
+						HttpStatus.NOT_FOUND,
+						ErrorCode.PHOTO_NOT_FOUND,
+						"Photo " + photoId + " not found in project " + projectId));
+
+		DeliveryFormat format = chooseFormat(fmt, accept);
+		Integer variantWidth = chooseWidth(photo, width);
+		String url = variantWidth != null
+				? ImageVariants.variantName(photo.getImageUrl(), variantWidth)
+				: photo.getImageUrl();
+
+		// 저장된 객체는 UUID 이름이라 내용이 바뀌지 않으므로 (URL, 형식, 품질)로 강한 ETag를 만들 수 있음
+		String hash = hash(url + "|" + format + "|" + jpegQuality);
+		String cacheKey = photoId + "-" + (variantWidth != null ? variantWidth : ORIGINAL_WIDTH) + "-" + hash
+				+ "." + format.getExtension();
+		return new ImageDelivery(objectStore.getObjectNameFromUrl(url), format, "\"" + hash + "\"", cacheKey,
+				fmt == null);
+	}
+
+	// 캐시된 파일을 열어서 반환 (없으면 처음 요청에서 변환해서 채움)
+	public TranscodeCache.CachedImage load(ImageDelivery delivery) {
+		return transcodeCache.get(delivery.getCacheKey(), out -> write(delivery, out));
+	}
+
+	private DeliveryFormat chooseFormat(String fmt, String accept) {
+		if (fmt == null) {
+			return DeliveryFormat.negotiate(accept, availableFormats);
+		}
+		DeliveryFormat format = DeliveryFormat.fromName(fmt);
+		if (format == null || !availableFormats.contains(format)) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.UNSUPPORTED_IMAGE_FORMAT,
+					"Unsupported delivery format: " + fmt);
+		}
+		return format;
+	}
+
+	// 요청 너비 이상인 가장 작은 변형본 (없거나 원본보다 크면 원본, null)
+	// 임의 너비를 그대로 만들면 캐시가 너비 수만큼 늘어나므로 저장된 너비로 맞춤
+	private Integer chooseWidth(Photo photo, Integer width) {
+		if (width == null) {
+			return null;
+		}
+		if (width <= 0) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.INVALID_IMAGE_WIDTH,
+					"Width must be positive: " + width);
+		}
+		if (photo.getWidth() != null && width >= photo.getWidth()) {
+			return null;
+		}
+		return ImageVariants.parseWidths(photo.getVariantWidths()).stream()
+				.sorted()
+				.filter(variant -> variant >= width)
+				.findFirst()
+				.orElse(null);
+	}
+
+	private void write(ImageDelivery delivery, OutputStream out) throws IOException {
+		// 저장 형식 그대로면 변환 없이 복사
+		if (delivery.getFormat() == DeliveryFormat.WEBP) {
+			objectStore.download(delivery.getObjectName(), out);
+			return;
+		}
+		SpooledImageSource source = new SpooledImageSource(Files.createTempFile("delivery-", ".webp"),
+				delivery.getObjectName(), DeliveryFormat.WEBP.getMediaType().toString());
+		try {
+			try (OutputStream sourceOut = Files.newOutputStream(source.getPath())) {
+				objectStore.download(delivery.getObjectName(), sourceOut);
+			}
+			try (DecodedImage decoded = imageDecoder.decode(source)) {
+				encode(decoded.getImage(), delivery.getFormat(), out);
+			}
+		} finally {
+			source.discard();
+		}
+	}
+
+	private void encode(BufferedImage image, DeliveryFormat format, OutputStream out) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByMIMEType(format.getMediaType().toString()).next();
+		try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			BufferedImage encoded = image;
+			if (format == DeliveryFormat.JPEG) {
+				// JPEG는 알파 채널이 없으므로 흰 배경에 합성
+				encoded = toRgb(image);
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(jpegQuality / 100f);
+			}
+			writer.setOutput(output);
+			writer.write(null, new IIOImage(encoded, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	private BufferedImage toRgb(BufferedImage image) {
+		if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+			return image;
+		}
+		BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = rgb.createGraphics();
+		try {
+			graphics.drawImage(image, 0, 0, Color.WHITE, null);
+		} finally {
+			graphics.dispose();
+		}
+		return rgb;
+	}
+
+	private static boolean hasWriter(DeliveryFormat format) {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(format.getMediaType().toString());
+		return writers.hasNext();
+	}
+
+	private static String hash(String value) {
+		byte[] digest = ContentHash.newDigest().digest(value.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(digest).substring(0, ETAG_LENGTH);
+	}
+
+	// 전송할 이미지 정보
+	public static class ImageDelivery {
+
+		private final String objectName;
+		private final DeliveryFormat format;
+		private final String etag;
+		private final String cacheKey;
+		// Accept 헤더로 형식을 고른 경우 (Vary: Accept 필요)
+		private final boolean negotiated;
+
+		public ImageDelivery(String objectName, DeliveryFormat format, String etag, String cacheKey,
+				boolean negotiated) {
+			this.objectName = objectName;
+			this.format = format;
+			this.etag = etag;
+			this.cacheKey = cacheKey;
+			this.negotiated = negotiated;
+		}
+
+		public String getObjectName() {
+			return objectName;
+		}
+
+		public DeliveryFormat getFormat() {
+			return format;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+
+		public String getCacheKey() {
+			return cacheKey;
+		}
+
+		public boolean isNegotiated() {
+			return negotiated;
+		}
+	}
+}
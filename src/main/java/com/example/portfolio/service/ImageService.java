@@ -0,0 +1,108 @@
+package com.example.portfolio.service;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.portfolio.image.BlurHash;
+import com.example.portfolio.image.DecodedImage;
+import com.example.portfolio.image.ImageDecoder;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.ImageVariants;
+import com.example.portfolio.image.QualitySelector;
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.image.WebpEncoder;
+import com.example.portfolio.storage.ObjectStore;
+import com.google.common.io.CountingOutputStream;
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.ScaleMethod;
+
+@Service
+public class ImageService {
+
+	private static final String WEBP_CONTENT_TYPE = "image/webp";
+	// BlurHash 계산용 축소 크기 (긴 변 기준)
+	private static final int BLUR_HASH_SIZE = 32;
+
+	private final ObjectStore objectStore;
+	private final WebpEncoder webpEncoder;
+	private final ImageDecoder imageDecoder;
+	private final QualitySelector qualitySelector;
+	// 큰 너비부터 내림차순
+	private final int[] variantWidths;
+
+	public ImageService(ObjectStore objectStore, WebpEncoder webpEncoder, ImageDecoder imageDecoder,
+			QualitySelector qualitySelector, @Value("${portfolio.image.variant-widths:320,640,1280,2048}") int[] variantWidths) {
+		this.objectStore = objectStore;
+		this.webpEncoder = webpEncoder;
+		this.imageDecoder = imageDecoder;
+		this.qualitySelector = qualitySelector;
+		this.variantWidths = Arrays.stream(variantWidths).boxed()
+				.sorted(Collections.reverseOrder())
+				.mapToInt(Integer::intValue)
+				.toArray();
+	}
+
+	// 원본을 한 번만 디코딩해서 원본 크기 + 설정된 너비별 WebP 업로드
+	// 업로드가 끝날 때까지 디코딩 메모리 예산을 잡고 있음
+	public StoredImage storeImage(ImageSource source, Long projectId) {
+		try (DecodedImage decoded = imageDecoder.decode(source)) {
+			return storeImage(decoded.getImage(), projectId);
+		}
+	}
+
+	private StoredImage storeImage(BufferedImage original, Long projectId) {
+		String objectName = projectId + "/" + UUID.randomUUID() + ".webp";
+		// 원본 기준으로 한 번 고른 품질을 변형본에도 사용
+		int quality = qualitySelector.select(original);
+
+		// 저장된 원본 크기 WebP 파일 크기 (업로드된 원본 파일 크기가 아님, 용량 표시와 압축률에 사용)
+		AtomicLong byteSize = new AtomicLong();
+		StoredImage storedImage = new StoredImage();
+		storedImage.setUrl(objectStore.upload(objectName, WEBP_CONTENT_TYPE, out -> {
+			CountingOutputStream counting = new CountingOutputStream(out);
+			webpEncoder.encode(original, counting, quality);
+			byteSize.set(counting.getCount());
+		}));
+		storedImage.setWidth(original.getWidth());
+		storedImage.setHeight(original.getHeight());
+		storedImage.setByteSize(byteSize.get());
+		storedImage.setQuality(quality);
+		// 압축률 = 24비트 RGB 크기 / 인코딩된 크기
+		storedImage.setCompressionRatio((double) original.getWidth() * original.getHeight() * 3 / byteSize.get());
+
+		// 직전에 줄인 이미지를 다시 줄여서 큰 원본을 반복해서 읽지 않음 (원본보다 큰 너비는 생략)
+		List<Integer> widths = new ArrayList<>();
+		ImmutableImage current = ImmutableImage.wrapAwt(original);
+		for (int width : variantWidths) {
+			if (width >= original.getWidth()) {
+				continue;
+			}
+			current = current.scaleToWidth(width, ScaleMethod.Bicubic);
+			BufferedImage variant = current.awt();
+			objectStore.upload(ImageVariants.variantName(objectName, width), WEBP_CONTENT_TYPE,
+					out -> webpEncoder.encode(variant, out, quality));
+			widths.add(width);
+		}
+
+		Collections.reverse(widths);
+		storedImage.setVariantWidths(ImageVariants.joinWidths(widths));
+		// 가장 작게 줄인 이미지에서 계산 (다시 디코딩하지 않음)
+		storedImage.setBlurHash(blurHash(current));
+		return storedImage;
+	}
+
+	private String blurHash(ImmutableImage image) {
+		double scale = (double) BLUR_HASH_SIZE / Math.max(image.width, image.height);
+		int width = Math.max(1, (int) Math.round(image.width * scale));
+		int height = Math.max(1, (int) Math.round(image.height * scale));
+		return BlurHash.encode(image.scaleTo(width, height, ScaleMethod.FastScale).awt());
+	}
+}
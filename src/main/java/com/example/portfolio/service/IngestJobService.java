@@ -0,0 +1,231 @@
+package com.example.portfolio.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.portfolio.dto.IngestJobDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.job.IngestJob;
+import com.example.portfolio.model.Project;
+import com.example.portfolio.repository.ProjectRepository;
+
+// 프로젝트 저장 후 썸네일/사진 인코딩과 업로드를 백그라운드에서 처리하고 진행 상황을 보관
+// 진행 상황은 IngestJobStore가 DB에 기록하고, 이 인스턴스에서 실행한 작업은 메모리에서 바로 조회
+@Service
+public class IngestJobService {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, IngestJob> jobs = new ConcurrentHashMap<>();
+
+	private final ThreadPoolTaskExecutor ingestJobExecutor;
+	private final ImageService imageService;
+	private final PhotoService photoService;
+	private final BlobDeletionService blobDeletionService;
+	private final ProjectRepository projectRepository;
+	private final ProjectListCache projectListCache;
+	private final IngestJobStore ingestJobStore;
+	private final Duration jobRetention;
+
+	public IngestJobService(@Qualifier("ingestJobExecutor") ThreadPoolTaskExecutor ingestJobExecutor,
+			ImageService imageService, PhotoService photoService, BlobDeletionService blobDeletionService,
+			ProjectRepository projectRepository, ProjectListCache projectListCache, IngestJobStore ingestJobStore,
+			@Value("${portfolio.ingest.job-retention-minutes:60}") long jobRetentionMinutes) {
+		this.ingestJobExecutor = ingestJobExecutor;
+		this.imageService = imageService;
+		this.photoService = photoService;
+		this.blobDeletionService = blobDeletionService;
+		this.projectRepository = projectRepository;
+		this.projectListCache = projectListCache;
+		this.ingestJobStore = ingestJobStore;
+		this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+	}
+
+	// 대기열이 가득 찼으면 프로젝트를 저장하기 전에 거절
+	public void checkCapacity() {
+		if (ingestJobExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+			throw new CustomException(
+					HttpStatus.SERVICE_UNAVAILABLE,
+					ErrorCode.INGEST_QUEUE_FULL,
+					"Too many pending image jobs, try again later");
+		}
+	}
+
+	// 새 프로젝트: 썸네일 + 사진 전체 업로드
+	public IngestJobDto submitCreate(Long projectId, ImageSource thumbnail, List<ImageSource> photos) {
+		return submit(new IngestTask(projectId, thumbnail, photos, List.of()));
+	}
+
+	// 프로젝트 수정: 새 썸네일/사진 업로드 후 선택한 사진 삭제
+	public IngestJobDto submitUpdate(Long projectId, ImageSource thumbnail, List<ImageSource> photos,
+			List<Long> deletedPhotoIds) {
+		return submit(new IngestTask(projectId, thumbnail, photos,
+				deletedPhotoIds != null ? deletedPhotoIds : List.of()));
+	}
+
+	// 다른 인스턴스에서 실행했거나 재시작 전에 제출된 작업은 DB 기록으로 조회
+	public IngestJobDto getJob(String jobId) {
+		IngestJob job = jobs.get(jobId);
+		if (job != null) {
+			return job.toDto();
+		}
+		return ingestJobStore.find(jobId).orElseThrow(() -> new CustomException(
+				HttpStatus.NOT_FOUND,
+				ErrorCode.INGEST_JOB_NOT_FOUND,
+				"Ingest job not found: " + jobId));
+	}
+
+	private IngestJobDto submit(IngestTask task) {
+		removeExpiredJobs();
+		ingestJobStore.created(task.job);
+		jobs.put(task.job.getId(), task.job);
+
+		// 트랜잭션 안에서 호출되면 커밋 이후에 실행 (작업 스레드에서 프로젝트가 보이도록)
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_COMMITTED) {
+						execute(task);
+					} else {
+						task.job.fail("Project was not saved");
+						task.discardSources();
+					}
+				}
+			});
+		} else {
+			execute(task);
+		}
+		return task.job.toDto();
+	}
+
+	private void execute(IngestTask task) {
+		try {
+			ingestJobExecutor.execute(task);
+		} catch (TaskRejectedException e) {
+			task.job.fail("Ingest queue is full");
+			task.discardSources();
+		}
+	}
+
+	private void removeExpiredJobs() {
+		Instant expiredBefore = Instant.now().minus(jobRetention);
+		jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiredBefore));
+	}
+
+	private void storeThumbnail(IngestJob job, int index, ImageSource thumbnail) {
+		job.itemStarted(index);
+		try {
+			Project project = projectRepository.findById(job.getProjectId())
+					.orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_FIND_PROJECT,
+							"Project not found with id: " + job.getProjectId()));
+			String oldThumbnailUrl = project.getThumbnailUrl();
+			String oldVariantWidths = project.getThumbnailVariantWidths();
+
+			StoredImage storedImage = imageService.storeImage(thumbnail, job.getProjectId());
+			projectRepository.updateThumbnail(job.getProjectId(), storedImage);
+
+			// 새 썸네일로 교체된 후에 기존 썸네일 삭제
+			if (oldThumbnailUrl != null) {
+				blobDeletionService.deleteAfterCommit(List.of(new StoredImage(oldThumbnailUrl, oldVariantWidths)));
+			}
+			job.itemCompleted(index);
+			thumbnail.ingested();
+		} catch (RuntimeException e) {
+			// 썸네일만 실패로 표시하고 사진은 계속 처리 (던지면 사진 항목이 PENDING으로 남음)
+			logger.warn("Thumbnail for project {} failed in ingest job {}", job.getProjectId(), job.getId(), e);
+			job.itemFailed(index, e.getMessage());
+		}
+	}
+
+	// 썸네일/사진이 바뀐 프로젝트가 보이는 목록만 삭제 (작업 중 삭제된 프로젝트는 이미 삭제됨)
+	private void evictProjectList(Long projectId) {
+		projectRepository.findById(projectId).ifPresent(projectListCache::evictAfterCommit);
+	}
+
+	private class IngestTask implements Runnable {
+		private final IngestJob job;
+		private final ImageSource thumbnail;
+		private final List<ImageSource> photos;
+		private final List<Long> deletedPhotoIds;
+		private final int thumbnailIndex;
+		private final int firstPhotoIndex;
+
+		private IngestTask(Long projectId, ImageSource thumbnail, List<ImageSource> photos,
+				List<Long> deletedPhotoIds) {
+			this.job = new IngestJob(projectId, ingestJobStore);
+			this.thumbnail = thumbnail;
+			this.photos = photos;
+			this.deletedPhotoIds = deletedPhotoIds;
+			this.thumbnailIndex = thumbnail != null
+					? job.addItem(IngestJob.ItemType.THUMBNAIL, thumbnail.getOriginalFilename())
+					: -1;
+			int firstIndex = -1;
+			for (ImageSource photo : photos) {
+				int index = job.addItem(IngestJob.ItemType.PHOTO, photo.getOriginalFilename());
+				if (firstIndex < 0) {
+					firstIndex = index;
+				}
+			}
+			this.firstPhotoIndex = firstIndex;
+		}
+
+		@Override
+		public void run() {
+			job.start();
+			try {
+				if (thumbnail != null) {
+					storeThumbnail(job, thumbnailIndex, thumbnail);
+				}
+				if (!photos.isEmpty()) {
+					photoService.createPhotos(photos, job.getProjectId(), job.photoListener(firstPhotoIndex));
+					markIngested();
+				}
+				// 새 사진이 저장된 후에 삭제해야 같은 내용의 스토리지 객체를 재사용할 수 있음
+				if (!deletedPhotoIds.isEmpty()) {
+					photoService.deleteSelectedPhotos(deletedPhotoIds);
+				}
+				job.finish();
+			} catch (RuntimeException e) {
+				logger.warn("Ingest job {} for project {} failed", job.getId(), job.getProjectId(), e);
+				job.fail(e.getMessage());
+			} finally {
+				discardSources();
+				evictProjectList(job.getProjectId());
+			}
+		}
+
+		// 저장에 성공한 사진만 원본 정리 (직접 업로드 객체 삭제 등)
+		private void markIngested() {
+			for (int i = 0; i < photos.size(); i++) {
+				if (job.isItemDone(firstPhotoIndex + i)) {
+					photos.get(i).ingested();
+				}
+			}
+		}
+
+		private void discardSources() {
+			if (thumbnail != null) {
+				thumbnail.discard();
+			}
+			photos.forEach(ImageSource::discard);
+		}
+	}
+}
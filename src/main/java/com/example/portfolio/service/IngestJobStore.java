@@ -0,0 +1,184 @@
+package com.example.portfolio.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.portfolio.dto.IngestJobDto;
+import com.example.portfolio.job.IngestJob;
+import com.example.portfolio.model.IngestJobItemRecord;
+import com.example.portfolio.model.IngestJobRecord;
+import com.example.portfolio.repository.IngestJobItemRecordRepository;
+import com.example.portfolio.repository.IngestJobRecordRepository;
+
+// 이미지 처리 작업 상태를 DB에 기록 (다른 인스턴스에서 조회, 재시작으로 중단된 작업은 실패로 표시)
+// 대기/실행 중인 작업은 heartbeat_at을 주기적으로 갱신하고, 갱신이 끊긴 작업은 실행하던 인스턴스가 종료된 것으로 봄
+@Component
+public class IngestJobStore implements IngestJob.Observer {
+
+	private static final Set<IngestJob.Status> UNFINISHED = EnumSet.of(IngestJob.Status.QUEUED, IngestJob.Status.RUNNING);
+	private static final Set<IngestJob.ItemStatus> UNFINISHED_ITEMS =
+			EnumSet.of(IngestJob.ItemStatus.PENDING, IngestJob.ItemStatus.PROCESSING);
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	// 이 인스턴스에서 대기/실행 중인 작업
+	private final Set<String> activeJobIds = ConcurrentHashMap.newKeySet();
+
+	private final IngestJobRecordRepository jobRepository;
+	private final IngestJobItemRecordRepository itemRepository;
+	private final TransactionTemplate newTransaction;
+	private final Duration staleAfter;
+	private final Duration jobRetention;
+
+	public IngestJobStore(IngestJobRecordRepository jobRepository, IngestJobItemRecordRepository itemRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${portfolio.ingest.stale-after:PT2M}") Duration staleAfter,
+			@Value("${portfolio.ingest.job-retention-minutes:60}") long jobRetentionMinutes) {
+		this.jobRepository = jobRepository;
+		this.itemRepository = itemRepository;
+		// 커밋 이후(afterCompletion)에 호출되어도 기록되도록 항상 새 트랜잭션에서 갱신
+		this.newTransaction = new TransactionTemplate(transactionManager);
+		this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.staleAfter = staleAfter;
+		this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+	}
+
+	// 호출한 트랜잭션과 함께 저장 (프로젝트 저장이 롤백되면 작업 기록도 없어짐)
+	public void created(IngestJob job) {
+		IngestJobDto dto = job.toDto();
+		jobRepository.save(new IngestJobRecord(job.getId(), job.getProjectId(), job.getStatus(), job.getCreatedAt()));
+		List<IngestJobItemRecord> items = new ArrayList<>();
+		for (int i = 0; i < dto.getItems().size(); i++) {
+			IngestJobDto.Item item = dto.getItems().get(i);
+			items.add(new IngestJobItemRecord(job.getId(), i, IngestJob.ItemType.valueOf(item.getType()), item.getName()));
+		}
+		itemRepository.saveAll(items);
+		activeJobIds.add(job.getId());
+	}
+
+	public Optional<IngestJobDto> find(String jobId) {
+		return jobRepository.findById(jobId)
+				.map(job -> toDto(job, itemRepository.findAllByJobIdOrderByItemIndexAsc(jobId)));
+	}
+
+	@Override
+	public void statusChanged(IngestJob job) {
+		if (job.isFinished()) {
+			activeJobIds.remove(job.getId());
+		}
+		write(() -> {
+			jobRepository.updateStatus(job.getId(), job.getStatus(), truncate(job.getError()), job.getFinishedAt(),
+					Instant.now());
+			if (job.getStatus() == IngestJob.Status.FAILED) {
+				itemRepository.failAll(List.of(job.getId()), UNFINISHED_ITEMS, IngestJob.ItemStatus.FAILED,
+						truncate(job.getError()));
+			}
+		});
+	}
+
+	@Override
+	public void itemChanged(IngestJob job, int index, IngestJob.ItemStatus status, String error) {
+		write(() -> itemRepository.updateStatus(job.getId(), index, status, truncate(error)));
+	}
+
+	// 기동 직후 한 번: 이전 실행에서 중단된 작업을 실패로 표시
+	@EventListener(ApplicationReadyEvent.class)
+	public void failInterruptedJobsOnStartup() {
+		failInterruptedJobs();
+	}
+
+	// 실행 중인 작업 heartbeat 갱신, 다른 인스턴스에서 중단된 작업 실패 처리, 보관 시간이 지난 작업 삭제
+	@Scheduled(initialDelayString = "${portfolio.ingest.heartbeat-interval:PT30S}",
+			fixedDelayString = "${portfolio.ingest.heartbeat-interval:PT30S}")
+	public void heartbeat() {
+		try {
+			if (!activeJobIds.isEmpty()) {
+				jobRepository.heartbeat(new ArrayList<>(activeJobIds), Instant.now());
+			}
+			failInterruptedJobs();
+
+			List<String> expiredIds = jobRepository.findFinishedIdsBefore(Instant.now().minus(jobRetention));
+			if (!expiredIds.isEmpty()) {
+				newTransaction.executeWithoutResult(status -> {
+					itemRepository.deleteAllByJobIdIn(expiredIds);
+					jobRepository.deleteAllByIdInBatch(expiredIds);
+				});
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Failed to update ingest job records", e);
+		}
+	}
+
+	private void failInterruptedJobs() {
+		List<String> interruptedIds = new ArrayList<>(
+				jobRepository.findInterruptedIds(UNFINISHED, Instant.now().minus(staleAfter)));
+		interruptedIds.removeAll(activeJobIds);
+		if (interruptedIds.isEmpty()) {
+			return;
+		}
+		logger.warn("Marking {} interrupted ingest jobs as failed", interruptedIds.size());
+		String error = "Interrupted by server shutdown";
+		newTransaction.executeWithoutResult(status -> {
+			itemRepository.failAll(interruptedIds, UNFINISHED_ITEMS, IngestJob.ItemStatus.FAILED, error);
+			jobRepository.failAll(interruptedIds, UNFINISHED, IngestJob.Status.FAILED, error, Instant.now());
+		});
+	}
+
+	// 기록 실패로 작업 자체를 멈추지 않음 (메모리의 상태는 그대로 조회됨)
+	private void write(Runnable update) {
+		try {
+			newTransaction.executeWithoutResult(status -> update.run());
+		} catch (RuntimeException e) {
+			logger.warn("Failed to record ingest job state", e);
+		}
+	}
+
+	private IngestJobDto toDto(IngestJobRecord job, List<IngestJobItemRecord> items) {
+		List<IngestJobDto.Item> itemDtos = new ArrayList<>();
+		int completed = 0;
+		int failed = 0;
+		for (IngestJobItemRecord item : items) {
+			itemDtos.add(new IngestJobDto.Item(item.getType().name(), item.getName(), item.getStatus().name(),
+					item.getError()));
+			if (item.getStatus() == IngestJob.ItemStatus.DONE) {
+				completed++;
+			} else if (item.getStatus() == IngestJob.ItemStatus.FAILED) {
+				failed++;
+			}
+		}
+
+		IngestJobDto dto = new IngestJobDto();
+		dto.setJobId(job.getId());
+		dto.setProjectId(job.getProjectId());
+		dto.setStatus(job.getStatus().name());
+		dto.setTotal(items.size());
+		dto.setCompleted(completed);
+		dto.setFailed(failed);
+		dto.setError(job.getError());
+		dto.setCreatedAt(job.getCreatedAt().toString());
+		dto.setFinishedAt(job.getFinishedAt() != null ? job.getFinishedAt().toString() : null);
+		dto.setItems(itemDtos);
+		return dto;
+	}
+
+	private String truncate(String error) {
+		return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+	}
+}
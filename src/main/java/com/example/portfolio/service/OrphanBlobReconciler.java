@@ -0,0 +1,186 @@
+package com.example.portfolio.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.portfolio.image.ImageVariants;
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.model.ReconcileCheckpoint;
+import com.example.portfolio.repository.PhotoRepository;
+import com.example.portfolio.repository.ProjectRepository;
+import com.example.portfolio.repository.ReconcileCheckpointRepository;
+import com.example.portfolio.storage.ObjectStore;
+
+// 어떤 사진/썸네일도 참조하지 않는 스토리지 객체 정리
+// (createProject 도중 실패해서 남은 업로드, 등록되지 않은 직접 업로드 원본 등)
+// 1. 버킷을 이름 순으로 페이지 단위 조회 ({projectId}/ 접두사별로 묶여서 나옴)
+// 2. 접두사가 바뀔 때마다 그 접두사를 참조하는 URL을 DB에서 스트리밍으로 읽어서 비교
+// 3. 생성 후 유예 기간이 지난 미참조 객체만 배치로 삭제 (업로드 직후 DB 저장 전인 객체 보호)
+// 4. 페이지마다 마지막 객체 이름을 저장해서 다음 실행/재시작 후 이어서 처리
+@Service
+public class OrphanBlobReconciler {
+
+	static final String CHECKPOINT_NAME = "orphan-blobs";
+	// {projectId}/... 사진/썸네일, uploads/{projectId}/... 등록 전 직접 업로드 원본
+	private static final Pattern PROJECT_OBJECT = Pattern.compile("^(\\d+)/");
+	private static final String UPLOAD_PREFIX = "uploads/";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ObjectStore objectStore;
+	private final PhotoRepository photoRepository;
+	private final ProjectRepository projectRepository;
+	private final ReconcileCheckpointRepository checkpointRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final boolean enabled;
+	private final Duration gracePeriod;
+	private final int pageSize;
+	private final int maxPagesPerRun;
+	private final int deleteBatchSize;
+
+	public OrphanBlobReconciler(ObjectStore objectStore, PhotoRepository photoRepository,
+			ProjectRepository projectRepository, ReconcileCheckpointRepository checkpointRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${portfolio.storage.reconcile.enabled:true}") boolean enabled,
+			@Value("${portfolio.storage.reconcile.grace-period:PT24H}") Duration gracePeriod,
+			@Value("${portfolio.storage.reconcile.page-size:1000}") int pageSize,
+			@Value("${portfolio.storage.reconcile.max-pages-per-run:20}") int maxPagesPerRun,
+			@Value("${portfolio.storage.reconcile.delete-batch-size:100}") int deleteBatchSize) {
+		this.objectStore = objectStore;
+		this.photoRepository = photoRepository;
+		this.projectRepository = projectRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.enabled = enabled;
+		this.gracePeriod = gracePeriod;
+		this.pageSize = pageSize;
+		this.maxPagesPerRun = maxPagesPerRun;
+		this.deleteBatchSize = deleteBatchSize;
+	}
+
+	// 한 번에 max-pages-per-run 페이지까지만 처리 (목록이 커져도 실행 시간 제한)
+	@Scheduled(initialDelayString = "${portfolio.storage.reconcile.interval:PT1H}",
+			fixedDelayString = "${portfolio.storage.reconcile.interval:PT1H}")
+	public void reconcile() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			run();
+		} catch (RuntimeException e) {
+			// 저장된 위치부터 다음 실행에서 다시 처리
+			logger.warn("Orphan blob reconciliation failed, will resume from checkpoint", e);
+		}
+	}
+
+	// 삭제한 객체 수 반환
+	int run() {
+		ReconcileCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_NAME)
+				.orElseGet(() -> new ReconcileCheckpoint(CHECKPOINT_NAME));
+		Instant cutoff = Instant.now().minus(gracePeriod);
+		PrefixReferences references = new PrefixReferences();
+		int deleted = 0;
+
+		for (int pages = 0; pages < maxPagesPerRun; pages++) {
+			ObjectStore.ObjectPage page = objectStore.list(checkpoint.getLastObjectName(), pageSize);
+			List<String> orphans = new ArrayList<>();
+			for (ObjectStore.StoredObject object : page.objects()) {
+				if (object.createdAt().isAfter(cutoff)) {
+					continue;
+				}
+				String url = objectStore.getUrl(object.name());
+				if (isOrphan(object.name(), url, references)) {
+					orphans.add(url);
+				}
+			}
+
+			// 삭제를 마친 뒤에 위치를 저장 (중간에 멈추면 이 페이지를 다시 확인)
+			int pageDeleted = delete(orphans);
+			deleted += pageDeleted;
+			if (page.last() || page.objects().isEmpty()) {
+				logger.info("Orphan blob reconciliation pass finished: {} objects deleted since {}",
+						checkpoint.getDeletedCount() + pageDeleted, checkpoint.getPassStartedAt());
+				checkpoint.complete();
+				checkpointRepository.save(checkpoint);
+				break;
+			}
+			checkpoint.advance(page.objects().get(page.objects().size() - 1).name(), pageDeleted);
+			checkpointRepository.save(checkpoint);
+		}
+		return deleted;
+	}
+
+	private boolean isOrphan(String objectName, String url, PrefixReferences references) {
+		// 유예 기간이 지나도록 등록되지 않은 직접 업로드 원본
+		if (objectName.startsWith(UPLOAD_PREFIX)) {
+			return true;
+		}
+		Matcher matcher = PROJECT_OBJECT.matcher(objectName);
+		if (!matcher.find()) {
+			// 이 서비스가 만들지 않은 객체는 건드리지 않음
+			return false;
+		}
+		return !references.load(matcher.group()).contains(url);
+	}
+
+	private int delete(List<String> orphans) {
+		int deleted = 0;
+		for (int from = 0; from < orphans.size(); from += deleteBatchSize) {
+			List<String> batch = orphans.subList(from, Math.min(from + deleteBatchSize, orphans.size()));
+			Map<String, String> failures = objectStore.deleteObjects(batch);
+			deleted += batch.size() - failures.size();
+			if (!failures.isEmpty()) {
+				// 다음 회차에서 다시 발견되어 삭제됨
+				logger.warn("Failed to delete {} of {} orphan blobs: {}", failures.size(), batch.size(),
+						failures.values().iterator().next());
+			}
+		}
+		if (deleted > 0) {
+			logger.info("Deleted {} orphan blobs", deleted);
+		}
+		return deleted;
+	}
+
+	// 현재 접두사를 참조하는 원본/변형본 URL (접두사가 바뀔 때만 다시 조회)
+	private class PrefixReferences {
+
+		private String prefix;
+		private Set<String> urls = Set.of();
+
+		Set<String> load(String objectPrefix) {
+			if (!objectPrefix.equals(prefix)) {
+				String urlPrefix = objectStore.getUrl(objectPrefix);
+				urls = readOnlyTransaction.execute(status -> {
+					Set<String> referenced = new HashSet<>();
+					// 중복 업로드로 다른 프로젝트 사진이 이 접두사의 객체를 재사용할 수 있으므로 URL 접두사로 조회
+					try (Stream<StoredImage> photos = photoRepository.streamImagesByUrlPrefix(urlPrefix);
+							Stream<StoredImage> thumbnails = projectRepository.streamThumbnailsByUrlPrefix(urlPrefix)) {
+						Stream.concat(photos, thumbnails)
+								.forEach(image -> referenced.addAll(
+										ImageVariants.allUrls(image.getUrl(), image.getVariantWidths())));
+					}
+					return referenced;
+				});
+				prefix = objectPrefix;
+			}
+			return urls;
+		}
+	}
+}
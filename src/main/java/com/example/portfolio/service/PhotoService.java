@@ -1,17 +1,32 @@
 package com.example.portfolio.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-
-import com.example.portfolio.dto.ProjectCreateDto;
-import com.example.portfolio.dto.ProjectUpdateDto;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ContentHash;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.job.PhotoProgressListener;
 import com.example.portfolio.model.Photo;
 import com.example.portfolio.repository.PhotoRepository;
 import com.example.portfolio.repository.ProjectRepository;
@@ -19,90 +34,178 @@ import com.example.portfolio.repository.ProjectRepository;
 @Service
 public class PhotoService {
 
-	private final GcsService gcsService;
+	private final BlobDeletionService blobDeletionService;
+	private final ImageService imageService;
 	private final PhotoRepository photoRepository;
 	private final ProjectRepository projectRepository;
-	private final ExecutorService executorService = Executors.newFixedThreadPool(4); // 스레드 풀을 필드에 선언하여 재사용
+	private final Executor mediaExecutor; // 공용 이미지 처리 스레드 풀
+	private final TransactionTemplate transactionTemplate;
+	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	//생성자 주입
-	public PhotoService(GcsService gcsService, PhotoRepository photoRepository, ProjectRepository projectRepository) {
-		this.gcsService = gcsService;
+	public PhotoService(BlobDeletionService blobDeletionService, ImageService imageService, PhotoRepository photoRepository,
+			ProjectRepository projectRepository, @Qualifier("mediaExecutor") Executor mediaExecutor,
+			PlatformTransactionManager transactionManager) {
+		this.blobDeletionService = blobDeletionService;
+		this.imageService = imageService;
 		this.photoRepository = photoRepository;
 		this.projectRepository = projectRepository;
+		this.mediaExecutor = mediaExecutor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
 
-    public void createPhotos(ProjectCreateDto projectCreateDto, Long projectId) {
-        MultipartFile[] multipartFiles = projectCreateDto.getPhotoMultipartFiles();
+    // 사진들을 병렬로 업로드한 후 한번에 저장 (프로젝트 생성/수정 공통)
+    // 실패한 파일은 listener에 알리고 나머지 사진만 저장
+    public void createPhotos(List<ImageSource> sources, Long projectId, PhotoProgressListener listener) {
         List<CompletableFuture<Photo>> futures = new ArrayList<>();
 
-        for (MultipartFile multipartFile : multipartFiles) {
+        for (int i = 0; i < sources.size(); i++) {
+            int index = i;
+            ImageSource source = sources.get(i);
             // CompletableFuture를 사용하여 비동기 처리
-            CompletableFuture<Photo> future = CompletableFuture.supplyAsync(() -> {
-                Photo photo = new Photo();
-                String url = gcsService.uploadWebpFile(multipartFile, projectId);
-                photo.setImageUrl(url);
-                photo.setImgoname(multipartFile.getOriginalFilename());
-                photo.setImgtype("image/webp"); 
-                photo.setProjectId(projectId);
-                return photo;
-            }, executorService);
+            CompletableFuture<Photo> future;
+            try {
+                future = CompletableFuture.supplyAsync(
+                        () -> tracked(index, listener, () -> storePhoto(source, projectId)), mediaExecutor);
+            } catch (RejectedExecutionException e) {
+                // 스레드 풀이 종료 중이거나 대기열이 가득 참 (abort 정책) - 실행되지 못한 사진은 실패로 처리
+                future = CompletableFuture.failedFuture(e);
+            }
 
             futures.add(future);
         }
 
-        List<Photo> photos = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        List<Photo> photos = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                Photo photo = futures.get(i).join();
+                // 재사용하면서 이미 저장한 사진(id 있음)은 다시 merge하지 않도록 제외
+                if (photo != null && photo.getId() == null) {
+                    photos.add(photo);
+                }
+            } catch (CompletionException e) {
+                logger.warn("Photo #{} was not processed", i, e.getCause());
+                listener.failed(i, "Image processing is unavailable, try again later");
+            }
+        }
+        if (photos.isEmpty()) {
+            return;
+        }
 
         // 한번에 저장
         photoRepository.saveAll(photos);
     }
 
-	// 사진 업데이트
-	public void updatePhotos(ProjectUpdateDto projectUpdateDto) {
-		MultipartFile[] multipartFiles = projectUpdateDto.getPhotoMultipartFiles();
-
-		for (MultipartFile multipartFile : multipartFiles) {
-			Photo newPhoto = createPhoto(multipartFile, projectUpdateDto.getId());
-			String url = gcsService.uploadWebpFile(multipartFile, projectUpdateDto.getId());
-			newPhoto.setImageUrl(url);
-			newPhoto.setImgoname(multipartFile.getOriginalFilename());
-			newPhoto.setImgtype(multipartFile.getContentType());
-			photoRepository.save(newPhoto);
-		
+	// 사진 한 장 처리 결과를 listener에 전달, 실패하면 null 반환
+	private Photo tracked(int index, PhotoProgressListener listener, Supplier<Photo> work) {
+		listener.started(index);
+		try {
+			Photo photo = work.get();
+			listener.completed(index);
+			return photo;
+		} catch (RuntimeException e) {
+			logger.warn("Failed to store photo #{}", index, e);
+			listener.failed(index, e.getMessage());
+			return null;
 		}
 	}
 
-	// 사진 삭제
-	public void deletePhotosByProjectId(Long projectId) {
-		List<Photo> photos = photoRepository.findAllByProjectId(projectId);
-		photoRepository.deleteAll(photos);
-		gcsService.deletePhotoToGcs(photos);
+	// 같은 내용의 사진이 이미 저장되어 있으면 인코딩/업로드 없이 기존 스토리지 객체 재사용
+	private Photo storePhoto(ImageSource source, Long projectId) {
+		String contentHash = contentHash(source);
+
+		Optional<Photo> existingPhoto = photoRepository.findFirstByContentHash(contentHash);
+		if (existingPhoto.isPresent()) {
+			Photo reused = reuse(existingPhoto.get(), newPhoto(source, projectId, contentHash));
+			if (reused != null) {
+				return reused;
+			}
+		}
+
+		Photo photo = newPhoto(source, projectId, contentHash);
+		StoredImage storedImage = imageService.storeImage(source, projectId);
+		photo.setImageUrl(storedImage.getUrl());
+		photo.setVariantWidths(storedImage.getVariantWidths());
+		photo.setWidth(storedImage.getWidth());
+		photo.setHeight(storedImage.getHeight());
+		photo.setByteSize(storedImage.getByteSize());
+		photo.setBlurHash(storedImage.getBlurHash());
+		photo.setQuality(storedImage.getQuality());
+		photo.setCompressionRatio(storedImage.getCompressionRatio());
+		return photo;
 	}
 
-	// 있다면 true, 없다면 false
-	private boolean isPhotoInFiles(Photo existingPhoto, MultipartFile[] multipartFiles, Long projectId) {
-		for (MultipartFile multipartFile : multipartFiles) {
-			Photo newPhoto = createPhoto(multipartFile, projectId);
-			if (existingPhoto.equals(newPhoto)) {
-				return true;
+	// 재사용하는 객체는 참조하는 사진을 바로 저장해서 고정 (마지막 saveAll까지 기다리면 그 사이 원본 사진이 삭제될 때
+	// BlobDeletionService가 참조가 없다고 보고 객체를 지움)
+	// 원본 사진 행에 공유 잠금을 잡은 트랜잭션 안에서 저장하므로, 원본 삭제는 이 저장이 커밋된 뒤에 커밋되고
+	// 커밋 후 삭제 시점 확인에서 이 사진이 보임
+	// 원본이 이미 삭제되었으면 객체가 지워졌을 수 있으므로 저장하지 않고 null 반환 (새로 인코딩/업로드)
+	private Photo reuse(Photo existing, Photo photo) {
+		photo.setImageUrl(existing.getImageUrl());
+		photo.setVariantWidths(existing.getVariantWidths());
+		photo.setWidth(existing.getWidth());
+		photo.setHeight(existing.getHeight());
+		photo.setByteSize(existing.getByteSize());
+		photo.setBlurHash(existing.getBlurHash());
+		photo.setQuality(existing.getQuality());
+		photo.setCompressionRatio(existing.getCompressionRatio());
+
+		Photo pinned = transactionTemplate.execute(status -> {
+			if (photoRepository.findLockedById(existing.getId()).isEmpty()) {
+				return null;
 			}
+			return photoRepository.save(photo);
+		});
+		if (pinned == null) {
+			logger.info("Photo {} was deleted while its object was being reused, storing a new copy", existing.getId());
 		}
-		return false;
+		return pinned;
 	}
 
-	// 기존에 사진이 존재하는지 확인
-	private Photo createPhoto(MultipartFile file, Long projectId) {
+	private Photo newPhoto(ImageSource source, Long projectId, String contentHash) {
 		Photo photo = new Photo();
-		photo.setImgoname(file.getOriginalFilename());
+		photo.setContentHash(contentHash);
+		photo.setImgoname(source.getOriginalFilename());
+		photo.setImgtype("image/webp");
 		photo.setProjectId(projectId);
-		photo.setImgtype(file.getContentType());
 		return photo;
 	}
+
+	private String contentHash(ImageSource source) {
+		if (source.getContentHash() != null) {
+			return source.getContentHash();
+		}
+		try (InputStream in = source.openStream()) {
+			return ContentHash.sha256(in);
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to read file: " + e.getMessage());
+		}
+	}
+
+	// 사진 삭제
+	public void deletePhotosByProjectId(Long projectId) {
+		List<Photo> photos = photoRepository.findAllByProjectId(projectId);
+		photoRepository.deleteAll(photos);
+		blobDeletionService.deleteAfterCommit(storedImages(photos));
+	}
 	
 	// edit에서 삭제
 	public void deleteSelectedPhotos(List<Long> deletedPhotoIds) {
 		List<Photo> selecetedPhotos = photoRepository.findAllById(deletedPhotoIds);
 		photoRepository.deleteAll(selecetedPhotos);
-		gcsService.deletePhotoToGcs(selecetedPhotos);
+		blobDeletionService.deleteAfterCommit(storedImages(selecetedPhotos));
+	}
+
+	// 삭제된 사진의 스토리지 객체 (URL 기준 중복 제거, 다른 사진의 참조 여부는 실제 삭제 시점에 확인)
+	private List<StoredImage> storedImages(List<Photo> deletedPhotos) {
+		Map<String, StoredImage> imagesByUrl = new LinkedHashMap<>();
+		for (Photo photo : deletedPhotos) {
+			imagesByUrl.putIfAbsent(photo.getImageUrl(), new StoredImage(photo.getImageUrl(), photo.getVariantWidths()));
+		}
+		return new ArrayList<>(imagesByUrl.values());
 	}
 }
@@ -0,0 +1,123 @@
+package com.example.portfolio.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.portfolio.config.TwoLevelCache;
+import com.example.portfolio.model.Project;
+
+// projectList 캐시의 키 생성과 태그 단위 삭제
+// 키: {태그}|{페이지 번호}|{페이지 크기}|{정렬}, 태그는 all(전체), cat:{id}(카테고리), sub:{id}(서브카테고리)
+// 프로젝트가 바뀌면 그 프로젝트가 보이는 목록(all, 카테고리, 서브카테고리)만 삭제
+@Component("projectListCache")
+public class ProjectListCache {
+
+	public static final String CACHE_NAME = "projectList";
+	private static final String SEPARATOR = "|";
+
+	private final CacheManager cacheManager;
+
+	public ProjectListCache(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	// ProjectService.getProjectList의 @Cacheable 키 (조회 조건과 같은 기준으로 태그 선택)
+	public String key(Pageable pageable, Long categoryId, Long subCategoryId) {
+		return tag(categoryId, subCategoryId) + SEPARATOR + page(pageable);
+	}
+
+	static String tag(Long categoryId, Long subCategoryId) {
+		if (subCategoryId != null) {
+			return "sub:" + subCategoryId;
+		}
+		if (categoryId != null) {
+			return "cat:" + categoryId;
+		}
+		return "all";
+	}
+
+	// 같은 조건이면 항상 같은 문자열 (정렬 순서, 대소문자 무시, null 순서 포함)
+	static String page(Pageable pageable) {
+		if (pageable == null || pageable.isUnpaged()) {
+			return "unpaged" + SEPARATOR + sort(pageable != null ? pageable.getSort() : Sort.unsorted());
+		}
+		return pageable.getPageNumber() + SEPARATOR + pageable.getPageSize() + SEPARATOR + sort(pageable.getSort());
+	}
+
+	private static String sort(Sort sort) {
+		if (sort.isUnsorted()) {
+			return "unsorted";
+		}
+		return sort.stream()
+				.map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase()
+						+ (order.isIgnoreCase() ? ",ignorecase" : "")
+						+ (order.getNullHandling() != Sort.NullHandling.NATIVE
+								? "," + order.getNullHandling().name().toLowerCase()
+								: ""))
+				.collect(Collectors.joining(";"));
+	}
+
+	// 프로젝트가 보이는 목록을 커밋 후 삭제 (null은 무시)
+	public void evictAfterCommit(Project... projects) {
+		evictTagsAfterCommit(tags(projects));
+	}
+
+	// 수정 전 태그는 save 전에 tags()로 구해서 넘겨야 함 (save가 관리 중인 엔티티에 새 카테고리를 병합함)
+	public void evictTagsAfterCommit(Set<String> tags) {
+		if (tags.isEmpty()) {
+			return;
+		}
+		// 커밋 전에 지우면 그 사이 조회가 변경 전 데이터를 다시 캐시할 수 있음
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictTags(tags);
+				}
+			});
+		} else {
+			evictTags(tags);
+		}
+	}
+
+	public static Set<String> tags(Project... projects) {
+		Set<String> tags = new LinkedHashSet<>();
+		for (Project project : projects) {
+			if (project == null) {
+				continue;
+			}
+			tags.add(tag(null, null));
+			if (project.getCategory() != null && project.getCategory().getId() != null) {
+				tags.add(tag(project.getCategory().getId(), null));
+			}
+			if (project.getSubCategory() != null && project.getSubCategory().getId() != null) {
+				tags.add(tag(null, project.getSubCategory().getId()));
+			}
+		}
+		return tags;
+	}
+
+	private void evictTags(Set<String> tags) {
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		if (cache == null) {
+			return;
+		}
+		if (!(cache instanceof TwoLevelCache twoLevelCache)) {
+			// 접두사 삭제를 지원하지 않는 캐시는 전체 삭제
+			cache.clear();
+			return;
+		}
+		for (String tag : tags) {
+			twoLevelCache.evictByPrefix(tag + SEPARATOR);
+		}
+	}
+}
@@ -1,10 +1,10 @@
 package com.example.portfolio.service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -12,9 +12,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.portfolio.dto.IngestJobDto;
 import com.example.portfolio.dto.PhotoListDto;
 import com.example.portfolio.dto.ProjectCreateDto;
 import com.example.portfolio.dto.ProjectDetailDto;
@@ -24,6 +27,8 @@ import com.example.portfolio.dto.ProjectListDto;
 import com.example.portfolio.dto.ProjectUpdateDto;
 import com.example.portfolio.exception.CustomException;
 import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.StoredImage;
 import com.example.portfolio.mapper.ProjectMapper;
 import com.example.portfolio.model.Project;
 import com.example.portfolio.repository.PhotoRepository;
@@ -33,98 +38,143 @@ import com.example.portfolio.repository.ProjectRepository;
 public class ProjectService {
 
 	private final ProjectRepository projectRepository;
-	private final GcsService gcsService;
+	private final BlobDeletionService blobDeletionService;
+	private final IngestJobService ingestJobService;
+	private final UploadSpooler uploadSpooler;
 	private final PhotoService photoService;
 	private final ProjectMapper projectMapper;
 	private final PhotoRepository photoRepository;
+	private final ProjectListCache projectListCache;
+	private final CategoryTreeService categoryTreeService;
+	private final TransactionTemplate transactionTemplate;
 
 	// 여러 의존성을 생성자로 주입
-	public ProjectService(ProjectRepository projectRepository, GcsService gcsService, PhotoService photoService,
-			ProjectMapper projectMapper, PhotoRepository photoRepository) {
+	public ProjectService(ProjectRepository projectRepository, BlobDeletionService blobDeletionService, IngestJobService ingestJobService,
+			UploadSpooler uploadSpooler, PhotoService photoService, ProjectMapper projectMapper, PhotoRepository photoRepository,
+			ProjectListCache projectListCache, CategoryTreeService categoryTreeService,
+			PlatformTransactionManager transactionManager) {
 		this.projectRepository = projectRepository;
-		this.gcsService = gcsService;
+		this.blobDeletionService = blobDeletionService;
+		this.ingestJobService = ingestJobService;
+		this.uploadSpooler = uploadSpooler;
 		this.photoService = photoService;
 		this.projectMapper = projectMapper;
 		this.photoRepository = photoRepository;
+		this.projectListCache = projectListCache;
+		this.categoryTreeService = categoryTreeService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
-	@Transactional
-//	@Caching(evict = { 
-	@CacheEvict(value = "projectList", allEntries = true)
-//			@CacheEvict(value = "adminProjectList", allEntries = true) })
-	public void createProject(ProjectCreateDto projectCreateDtos) {
-		Project project = projectMapper.createDtoToProject(projectCreateDtos);
-
-		Long projectId = projectRepository.save(project).getId();
+	// 업로드 원본 보관(스풀)은 트랜잭션 밖에서 먼저 처리 (파일 복사 동안 DB 커넥션을 잡지 않도록)
+	public IngestJobDto createProject(ProjectCreateDto projectCreateDtos) {
+		ingestJobService.checkCapacity();
 
-		MultipartFile multipartFile = projectCreateDtos.getThumbnailMultipartFile();
-		String url = gcsService.uploadWebpFile(multipartFile, projectId);
-		project.setThumbnailUrl(url);
+		// 썸네일/사진 인코딩과 업로드는 커밋 후 백그라운드 작업으로 처리
+		ImageSource thumbnail = spoolThumbnail(projectCreateDtos.getThumbnailMultipartFile());
+		List<ImageSource> photos = spoolPhotos(projectCreateDtos.getPhotoMultipartFiles(), thumbnail);
 
-		photoService.createPhotos(projectCreateDtos, projectId);
-
-		projectRepository.save(project);
+		return createProject(projectCreateDtos, thumbnail, photos);
 	}
 
-	// 프로젝트 업데이트
-	@Transactional
-//	@Caching(evict = { @CacheEvict(value = "project", allEntries = true),
-			@CacheEvict(value = "projectList", allEntries = true)
-//			@CacheEvict(value = "adminProjectList", allEntries = true),
-//			@CacheEvict(value = "adminProject", key = "#projectUpdateDto.id") })
-	public void updateProject(ProjectUpdateDto projectUpdateDto) {
+	// 요청 스트림에서 이미 읽어둔 원본으로 생성 (스트리밍 업로드)
+	public IngestJobDto createProject(ProjectCreateDto projectCreateDto, ImageSource thumbnail, List<ImageSource> photos) {
+		return inTransaction(thumbnail, photos, () -> {
+			ingestJobService.checkCapacity();
 
-		Project existingProject = projectRepository.findById(projectUpdateDto.getId())
-				.orElseThrow(() -> new RuntimeException("Project not found"));
+			Project project = projectMapper.createDtoToProject(projectCreateDto);
+			Long projectId = projectRepository.save(project).getId();
+			projectListCache.evictAfterCommit(project);
+			categoryTreeService.rebuildAfterCommit();
 
-		Project project = projectMapper.upadateDtoToProject(projectUpdateDto);
-		project.setCreatedAt(existingProject.getCreatedAt());
-		project.setThumbnailUrl(existingProject.getThumbnailUrl());
+			return ingestJobService.submitCreate(projectId, thumbnail, photos);
+		});
+	}
 
-		// 썸네일이 있는 경우에만 업데이트
-		if (projectUpdateDto.getThumbnailMultipartFile() != null
-				&& !projectUpdateDto.getThumbnailMultipartFile().isEmpty()) {
+	// 프로젝트 업데이트
+	public IngestJobDto updateProject(ProjectUpdateDto projectUpdateDto) {
+		ingestJobService.checkCapacity();
+
+		// 썸네일이 있는 경우에만 교체 (기존 썸네일은 새 썸네일 업로드 후 작업에서 삭제)
+		ImageSource thumbnail = spoolThumbnail(projectUpdateDto.getThumbnailMultipartFile());
+		List<ImageSource> photos = spoolPhotos(projectUpdateDto.getPhotoMultipartFiles(), thumbnail);
+
+		return inTransaction(thumbnail, photos, () -> {
+			Project existingProject = projectRepository.findById(projectUpdateDto.getId())
+					.orElseThrow(() -> new RuntimeException("Project not found"));
+			// save가 existingProject에 새 카테고리를 병합하므로 이전 목록 태그는 먼저 구해둠
+			Set<String> listTags = ProjectListCache.tags(existingProject);
+
+			Project project = projectMapper.upadateDtoToProject(projectUpdateDto);
+			project.setCreatedAt(existingProject.getCreatedAt());
+			project.setThumbnailUrl(existingProject.getThumbnailUrl());
+			project.setThumbnailVariantWidths(existingProject.getThumbnailVariantWidths());
+			project.setThumbnailWidth(existingProject.getThumbnailWidth());
+			project.setThumbnailHeight(existingProject.getThumbnailHeight());
+			project.setThumbnailByteSize(existingProject.getThumbnailByteSize());
+			project.setThumbnailBlurHash(existingProject.getThumbnailBlurHash());
+			projectRepository.save(project);
+			// 카테고리가 바뀌었으면 이전 목록과 새 목록 모두 삭제
+			listTags.addAll(ProjectListCache.tags(project));
+			projectListCache.evictTagsAfterCommit(listTags);
+			categoryTreeService.rebuildAfterCommit();
+
+			// 새 사진 업로드 후 선택한 사진 삭제까지 백그라운드 작업으로 처리
+			return ingestJobService.submitUpdate(project.getId(), thumbnail, photos, projectUpdateDto.getDeletedPhotoIds());
+		});
+	}
 
-			// 기존 썸네일 삭제
-			gcsService.deleteThumbnailFile(project.getThumbnailUrl());
+	private ImageSource spoolThumbnail(MultipartFile multipartFile) {
+		return multipartFile != null && !multipartFile.isEmpty() ? uploadSpooler.spool(multipartFile) : null;
+	}
 
-			// 새 썸네일 업로드
-			String url = gcsService.uploadWebpFile(projectUpdateDto.getThumbnailMultipartFile(), project.getId());
-			project.setThumbnailUrl(url);
+	// 사진 보관에 실패하면 먼저 보관한 썸네일도 정리
+	private List<ImageSource> spoolPhotos(MultipartFile[] multipartFiles, ImageSource thumbnail) {
+		try {
+			return uploadSpooler.spool(multipartFiles);
+		} catch (RuntimeException e) {
+			discard(thumbnail, List.of());
+			throw e;
 		}
+	}
 
-		// 기존 사진 삭제
-		if (projectUpdateDto.getDeletedPhotoIds() != null && !projectUpdateDto.getDeletedPhotoIds().isEmpty()) {
-			photoService.deleteSelectedPhotos(projectUpdateDto.getDeletedPhotoIds());
+	// 프로젝트 저장과 작업 등록을 한 트랜잭션으로 처리, 작업에 넘기기 전에 실패하거나 롤백되면 보관한 원본 정리
+	// (작업에 넘긴 뒤 롤백되면 작업 쪽에서도 정리하지만 discard는 여러 번 호출해도 됨)
+	private IngestJobDto inTransaction(ImageSource thumbnail, List<ImageSource> photos, Supplier<IngestJobDto> work) {
+		try {
+			return transactionTemplate.execute(status -> work.get());
+		} catch (RuntimeException e) {
+			discard(thumbnail, photos);
+			throw e;
 		}
+	}
 
-		// 사진이 있는 경우 업데이트
-		if (projectUpdateDto.getPhotoMultipartFiles() != null && projectUpdateDto.getPhotoMultipartFiles().length > 0) {
-			photoService.updatePhotos(projectUpdateDto);
+	private void discard(ImageSource thumbnail, List<ImageSource> photos) {
+		if (thumbnail != null) {
+			thumbnail.discard();
 		}
-
-		projectRepository.save(project);
+		photos.forEach(ImageSource::discard);
 	}
 
 	// 프로젝트 삭제
 	@Transactional
-//	@Caching(evict = { @CacheEvict(value = "project", allEntries = true),
-			@CacheEvict(value = "projectList", allEntries = true)
-//			@CacheEvict(value = "adminProjectList", allEntries = true),
-//			@CacheEvict(value = "adminProject", key = "#id") })
 	public void deleteProject(Long id) {
 		Project project = projectRepository.findById(id).orElseThrow(() -> new RuntimeException("Project not found"));
-		// GCS 썸네일과 관련 사진들 삭제
-		gcsService.deleteThumbnailFile(project.getThumbnailUrl());
+		// GCS 썸네일과 관련 사진들 삭제 (썸네일 업로드 작업이 끝나기 전이면 썸네일 없음)
+		if (project.getThumbnailUrl() != null) {
+			blobDeletionService.deleteAfterCommit(
+					List.of(new StoredImage(project.getThumbnailUrl(), project.getThumbnailVariantWidths())));
+		}
 		photoService.deletePhotosByProjectId(id);
 
 		projectRepository.delete(project);
+		projectListCache.evictAfterCommit(project);
+		categoryTreeService.rebuildAfterCommit();
 	}
 
 	@Transactional
 	@Cacheable(
-	    value = "projectList", 
-	    key = "#categoryId + '_' + (#subCategoryId != null ? #subCategoryId : 'all') + '_' + #pageable.pageNumber + '_' + #pageable.pageSize"
+	    value = ProjectListCache.CACHE_NAME,
+	    key = "@projectListCache.key(#pageable, #categoryId, #subCategoryId)"
 	)
 	public Slice<ProjectListDto> getProjectList(Pageable pageable, Long categoryId, Long subCategoryId) {
 	    if (categoryId == null && subCategoryId == null) {
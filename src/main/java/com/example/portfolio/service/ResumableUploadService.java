@@ -0,0 +1,469 @@
+package com.example.portfolio.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.dto.IngestJobDto;
+import com.example.portfolio.dto.ResumableUploadCompleteDto;
+import com.example.portfolio.dto.ResumableUploadCreateDto;
+import com.example.portfolio.dto.ResumableUploadDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.SpooledImageSource;
+import com.example.portfolio.repository.ProjectRepository;
+
+// 끊겨도 받은 위치부터 다시 보낼 수 있는 업로드 (tus 방식)
+// 세션 = 스풀 디렉터리의 {id}.info(파일 정보) + {id}.part(받은 바이트), 받은 크기가 곧 offset이라 재시작해도 이어서 받음
+// 다 받은 파일은 complete에서 기존 이미지 처리 작업으로 넘김
+@Service
+public class ResumableUploadService {
+
+	private static final String INFO_SUFFIX = ".info";
+	private static final String PART_SUFFIX = ".part";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ProjectRepository projectRepository;
+	private final IngestJobService ingestJobService;
+	private final Path directory;
+	private final long maxFileSize;
+	private final long maxChunkSize;
+	private final Duration expiry;
+	private final int maxFiles;
+	private final int maxSessions;
+	private final long maxReservedSize;
+
+	// 같은 세션에 청크가 동시에 들어오면 하나만 기록
+	// 잠금은 세션이 끝날 때(complete, abort, 만료)까지 유지, 대기 중인 요청이 있는데 새 잠금이 만들어지면 안 됨
+	private final Map<String, Object> sessionLocks = new ConcurrentHashMap<>();
+	// complete가 처리 중인 세션, 같은 세션이 두 번 등록되지 않도록 먼저 차지한 요청만 진행
+	private final Set<String> completing = ConcurrentHashMap.newKeySet();
+	// 열려 있는 세션별로 예약한 크기(length), 세션 수와 합계로 스풀 디렉터리 사용량을 제한 (reservations로 동기화)
+	private final Map<String, Long> reservations = new HashMap<>();
+	private long reservedSize;
+
+	public ResumableUploadService(ProjectRepository projectRepository, IngestJobService ingestJobService,
+			@Value("${portfolio.upload.resumable.dir:${java.io.tmpdir}/portfolio-resumable}") Path directory,
+			@Value("${portfolio.upload.resumable.max-file-size:200MB}") DataSize maxFileSize,
+			@Value("${portfolio.upload.resumable.max-chunk-size:16MB}") DataSize maxChunkSize,
+			@Value("${portfolio.upload.resumable.expiry:PT24H}") Duration expiry,
+			@Value("${portfolio.upload.max-files:100}") int maxFiles,
+			@Value("${portfolio.upload.resumable.max-sessions:200}") int maxSessions,
+			@Value("${portfolio.upload.resumable.max-reserved-size:10GB}") DataSize maxReservedSize) throws IOException {
+		this.projectRepository = projectRepository;
+		this.ingestJobService = ingestJobService;
+		this.directory = directory;
+		this.maxFileSize = maxFileSize.toBytes();
+		this.maxChunkSize = maxChunkSize.toBytes();
+		this.expiry = expiry;
+		this.maxFiles = maxFiles;
+		this.maxSessions = maxSessions;
+		this.maxReservedSize = maxReservedSize.toBytes();
+		Files.createDirectories(directory);
+		// 재시작 전에 만든 세션도 이어서 받을 수 있으므로 예약에 포함
+		for (String id : sessionIds()) {
+			try {
+				Session session = load(id);
+				reservations.put(id, session.length);
+				reservedSize += session.length;
+			} catch (CustomException e) {
+				// 만료된 세션은 removeExpired가 정리
+			}
+		}
+	}
+
+	public ResumableUploadDto create(ResumableUploadCreateDto request) {
+		checkProject(request.getProjectId());
+		String contentType = request.getContentType();
+		if (contentType == null || !contentType.startsWith("image/")) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.UNSUPPORTED_IMAGE_FORMAT,
+					"Not an image: " + request.getFilename() + " (" + contentType + ")");
+		}
+		Long length = request.getLength();
+		if (length == null || length <= 0 || length > maxFileSize) {
+			throw new CustomException(
+					HttpStatus.PAYLOAD_TOO_LARGE,
+					ErrorCode.UPLOAD_TOO_LARGE,
+					"Upload length must be between 1 and " + maxFileSize + " bytes: " + length);
+		}
+
+		Session session = new Session(UUID.randomUUID().toString(), request.getProjectId(),
+				request.getFilename() != null ? request.getFilename() : "upload", contentType, length);
+		reserve(session.id, length);
+		try {
+			Files.createFile(part(session.id));
+			Properties info = new Properties();
+			info.setProperty("projectId", String.valueOf(session.projectId));
+			info.setProperty("filename", session.filename);
+			info.setProperty("contentType", session.contentType);
+			info.setProperty("length", String.valueOf(session.length));
+			try (Writer writer = Files.newBufferedWriter(info(session.id), StandardCharsets.UTF_8)) {
+				info.store(writer, null);
+			}
+		} catch (IOException e) {
+			deleteSession(session.id);
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to create upload session: " + e.getMessage());
+		}
+		return toDto(session, 0);
+	}
+
+	public ResumableUploadDto get(String id) {
+		Session session = load(id);
+		return toDto(session, size(part(id)));
+	}
+
+	// offset 위치에 청크를 이어 붙이고 새 offset 반환
+	// 요청 본문을 파일 채널로 바로 옮기므로 청크 크기와 관계없이 메모리는 고정 크기 버퍼만 사용
+	// 전송 중 연결이 끊기면 그때까지 받은 바이트는 남겨서 다음 요청이 이어서 보낼 수 있게 함
+	public long append(String id, long offset, InputStream in) {
+		Session session = load(id);
+		Object lock = lock(id);
+		synchronized (lock) {
+			checkWritable(id, lock);
+			try (FileChannel channel = FileChannel.open(part(id), StandardOpenOption.WRITE)) {
+				long current = channel.size();
+				if (offset != current) {
+					throw new CustomException(
+							HttpStatus.CONFLICT,
+							ErrorCode.UPLOAD_OFFSET_MISMATCH,
+							"Upload " + id + " is at offset " + current + ", not " + offset);
+				}
+				long limit = Math.min(maxChunkSize, session.length - current);
+				ReadableByteChannel source = Channels.newChannel(in);
+				long written = 0;
+				while (written < limit) {
+					long transferred = channel.transferFrom(source, current + written, limit - written);
+					if (transferred <= 0) {
+						break;
+					}
+					written += transferred;
+				}
+				if (in.read() != -1) {
+					// 남은 크기나 청크 최대 크기를 넘는 청크는 통째로 거절
+					channel.truncate(current);
+					throw new CustomException(
+							HttpStatus.PAYLOAD_TOO_LARGE,
+							ErrorCode.UPLOAD_TOO_LARGE,
+							"Chunk exceeds " + limit + " bytes for upload " + id);
+				}
+				return current + written;
+			} catch (NoSuchFileException e) {
+				throw notFound(id);
+			} catch (IOException e) {
+				// 클라이언트 연결 끊김 등, 받은 부분은 유지
+				logger.info("Upload {} interrupted at offset {}: {}", id, size(part(id)), e.getMessage());
+				throw new CustomException(
+						HttpStatus.BAD_REQUEST,
+						ErrorCode.UPLOAD_INCOMPLETE,
+						"Chunk for upload " + id + " was cut off: " + e.getMessage());
+			}
+		}
+	}
+
+	public void abort(String id) {
+		load(id);
+		synchronized (lock(id)) {
+			if (completing.contains(id)) {
+				throw completingConflict(id);
+			}
+			deleteSession(id);
+		}
+	}
+
+	// 다 받은 업로드를 사진으로 등록 (202 + 작업 id), 등록한 세션은 더 이상 조회되지 않음
+	public IngestJobDto complete(ResumableUploadCompleteDto request) {
+		Long projectId = request.getProjectId();
+		checkProject(projectId);
+		List<String> ids = request.getUploadIds() != null ? request.getUploadIds() : List.of();
+		if (ids.isEmpty() || ids.size() > maxFiles) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.INVALID_UPLOAD_OBJECT,
+					"Expected 1 to " + maxFiles + " uploads but got " + ids.size());
+		}
+		ingestJobService.checkCapacity();
+
+		// 먼저 모든 세션을 차지해서 동시에 들어온 complete가 같은 세션을 다시 넘기지 못하게 함
+		List<String> claimed = new ArrayList<>();
+		try {
+			for (String id : ids) {
+				if (!completing.add(id)) {
+					throw completingConflict(id);
+				}
+				claimed.add(id);
+			}
+
+			// 모두 확인한 뒤에 넘겨서 일부만 등록되는 일이 없도록 함
+			// 세션 잠금 안에서 확인하므로 진행 중인 청크가 끝난 뒤의 크기를 봄, 이후 청크는 checkWritable에서 거절
+			List<Session> sessions = new ArrayList<>();
+			for (String id : ids) {
+				synchronized (lock(id)) {
+					Session session = load(id);
+					if (!projectId.equals(session.projectId)) {
+						throw new CustomException(
+								HttpStatus.BAD_REQUEST,
+								ErrorCode.INVALID_UPLOAD_OBJECT,
+								"Upload " + id + " was not created for project " + projectId);
+					}
+					long received = size(part(id));
+					if (received != session.length) {
+						throw new CustomException(
+								HttpStatus.CONFLICT,
+								ErrorCode.UPLOAD_INCOMPLETE,
+								"Upload " + id + " has " + received + " of " + session.length + " bytes");
+					}
+					sessions.add(session);
+				}
+			}
+
+			List<ImageSource> photos = new ArrayList<>();
+			for (Session session : sessions) {
+				// .info가 없어지면 세션이 끝난 것, 남은 .part는 작업이 끝나면 SpooledImageSource.discard가 삭제
+				synchronized (lock(session.id)) {
+					deleteQuietly(info(session.id));
+					sessionLocks.remove(session.id);
+					release(session.id);
+				}
+				photos.add(new SpooledImageSource(part(session.id), session.filename, session.contentType));
+			}
+			return ingestJobService.submitUpdate(projectId, null, photos, List.of());
+		} finally {
+			completing.removeAll(claimed);
+		}
+	}
+
+	// 마지막 청크를 받은 지 expiry가 지난 세션 삭제
+	@Scheduled(initialDelayString = "${portfolio.upload.resumable.cleanup-interval:PT1H}",
+			fixedDelayString = "${portfolio.upload.resumable.cleanup-interval:PT1H}")
+	public void removeExpired() {
+		Instant expiredBefore = Instant.now().minus(expiry);
+		int removed = 0;
+		for (String id : sessionIds()) {
+			if (lastActivity(id).isBefore(expiredBefore) && !completing.contains(id)) {
+				synchronized (lock(id)) {
+					deleteSession(id);
+				}
+				removed++;
+			}
+		}
+		if (removed > 0) {
+			logger.info("Removed {} expired upload sessions", removed);
+		}
+	}
+
+	private List<String> sessionIds() {
+		try (Stream<Path> listing = Files.list(directory)) {
+			return listing.map(file -> file.getFileName().toString())
+					.filter(name -> name.endsWith(INFO_SUFFIX))
+					.map(name -> name.substring(0, name.length() - INFO_SUFFIX.length()))
+					.toList();
+		} catch (IOException e) {
+			logger.warn("Failed to list upload sessions in {}", directory, e);
+			return List.of();
+		}
+	}
+
+	// 세션 수가 차면 429 (끝나거나 만료되는 세션이 생기면 다시 시도), 예약 합계가 차면 507
+	private void reserve(String id, long length) {
+		synchronized (reservations) {
+			if (reservations.size() >= maxSessions) {
+				throw new CustomException(
+						HttpStatus.TOO_MANY_REQUESTS,
+						ErrorCode.UPLOAD_SESSION_LIMIT,
+						"Too many open upload sessions: " + reservations.size() + " of " + maxSessions);
+			}
+			if (reservedSize + length > maxReservedSize) {
+				throw new CustomException(
+						HttpStatus.INSUFFICIENT_STORAGE,
+						ErrorCode.UPLOAD_STORAGE_FULL,
+						"Upload of " + length + " bytes exceeds remaining reserved space: "
+								+ (maxReservedSize - reservedSize) + " of " + maxReservedSize + " bytes");
+			}
+			reservations.put(id, length);
+			reservedSize += length;
+		}
+	}
+
+	private void release(String id) {
+		synchronized (reservations) {
+			Long length = reservations.remove(id);
+			if (length != null) {
+				reservedSize -= length;
+			}
+		}
+	}
+
+	private Session load(String id) {
+		if (!isValidId(id)) {
+			throw notFound(id);
+		}
+		Properties info = new Properties();
+		try (Reader reader = Files.newBufferedReader(info(id), StandardCharsets.UTF_8)) {
+			info.load(reader);
+		} catch (NoSuchFileException e) {
+			throw notFound(id);
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to read upload session " + id + ": " + e.getMessage());
+		}
+		if (lastActivity(id).isBefore(Instant.now().minus(expiry))) {
+			throw notFound(id);
+		}
+		return new Session(id, Long.valueOf(info.getProperty("projectId")), info.getProperty("filename"),
+				info.getProperty("contentType"), Long.parseLong(info.getProperty("length")));
+	}
+
+	// 경로로 쓰이므로 서버가 발급한 UUID 형식만 허용
+	private boolean isValidId(String id) {
+		try {
+			return id != null && UUID.fromString(id).toString().equals(id);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private ResumableUploadDto toDto(Session session, long offset) {
+		return new ResumableUploadDto(session.id, session.projectId, session.filename, offset, session.length,
+				lastActivity(session.id).plus(expiry).toString());
+	}
+
+	private void checkProject(Long projectId) {
+		if (projectId == null || !projectRepository.existsById(projectId)) {
+			throw new CustomException(
+					HttpStatus.NOT_FOUND,
+					ErrorCode.NOT_FIND_PROJECT,
+					"Project not found with id: " + projectId);
+		}
+	}
+
+	// 청크를 받을 때마다 .part 수정 시각이 바뀌므로 따로 기록하지 않음
+	private Instant lastActivity(String id) {
+		Instant created = modified(info(id));
+		Instant received = modified(part(id));
+		return created.isAfter(received) ? created : received;
+	}
+
+	private Instant modified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toInstant();
+		} catch (IOException e) {
+			return Instant.EPOCH;
+		}
+	}
+
+	private long size(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+
+	private Object lock(String id) {
+		return sessionLocks.computeIfAbsent(id, key -> new Object());
+	}
+
+	// 세션 잠금 안에서 호출, load 이후 끝난 세션(.info 삭제)이나 등록 중인 세션에는 쓰지 않음
+	private void checkWritable(String id, Object lock) {
+		if (completing.contains(id)) {
+			throw completingConflict(id);
+		}
+		if (!Files.exists(info(id))) {
+			// load와 잠금 사이에 세션이 끝났으면 이 요청이 다시 만든 잠금을 정리
+			sessionLocks.remove(id, lock);
+			throw notFound(id);
+		}
+	}
+
+	// 만들다 실패한 세션 외에는 세션 잠금 안에서 호출
+	private void deleteSession(String id) {
+		deleteQuietly(info(id));
+		deleteQuietly(part(id));
+		sessionLocks.remove(id);
+		release(id);
+	}
+
+	private void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			logger.warn("Failed to delete upload file {}", file, e);
+		}
+	}
+
+	private Path info(String id) {
+		return directory.resolve(id + INFO_SUFFIX);
+	}
+
+	private Path part(String id) {
+		return directory.resolve(id + PART_SUFFIX);
+	}
+
+	private CustomException completingConflict(String id) {
+		return new CustomException(
+				HttpStatus.CONFLICT,
+				ErrorCode.UPLOAD_COMPLETING,
+				"Upload " + id + " is already being completed");
+	}
+
+	private CustomException notFound(String id) {
+		return new CustomException(
+				HttpStatus.NOT_FOUND,
+				ErrorCode.UPLOAD_SESSION_NOT_FOUND,
+				"Upload session not found or expired: " + id);
+	}
+
+	private static class Session {
+
+		private final String id;
+		private final Long projectId;
+		private final String filename;
+		private final String contentType;
+		private final long length;
+
+		Session(String id, Long projectId, String filename, String contentType, long length) {
+			this.id = id;
+			this.projectId = projectId;
+			this.filename = filename;
+			this.contentType = contentType;
+			this.length = length;
+		}
+	}
+}
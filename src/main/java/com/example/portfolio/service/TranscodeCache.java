@@ -0,0 +1,302 @@
+package com.example.portfolio.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.storage.ObjectStore;
+
+// 변환된 이미지를 로컬 디스크에 보관하는 크기 제한 LRU 캐시
+// 키 = 파일 이름, 재시작해도 디렉터리에 남은 파일을 다시 등록해서 사용
+// 반환한 리소스는 읽을 때마다 파일을 새로 열고 (Range 요청의 구간별 읽기), 열린 스트림이 있는 동안은 밀려나도
+// 파일을 지우지 않고 다른 이름으로 옮겨두었다가 마지막 스트림이 닫힐 때 삭제
+@Component
+public class TranscodeCache {
+
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static final String EVICTED_SUFFIX = ".evicted";
+	private static final int FILL_LOCK_STRIPES = 256;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Path directory;
+	private final long maxBytes;
+
+	// 접근 순서 유지 (가장 오래 사용하지 않은 항목이 맨 앞), entries 잠금으로 보호
+	private final LinkedHashMap<String, CacheFile> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalBytes;
+	private long evictedSequence;
+
+	// 같은 키를 여러 요청이 동시에 변환하지 않도록 키 해시로 고른 잠금 (고정 개수라 잠금을 지우지 않음)
+	private final Object[] fillLocks = new Object[FILL_LOCK_STRIPES];
+
+	public TranscodeCache(
+			@Value("${portfolio.delivery.cache-dir:${java.io.tmpdir}/portfolio-image-cache}") Path directory,
+			@Value("${portfolio.delivery.cache-max-size:1GB}") DataSize maxSize) throws IOException {
+		this.directory = directory;
+		this.maxBytes = maxSize.toBytes();
+		for (int i = 0; i < fillLocks.length; i++) {
+			fillLocks[i] = new Object();
+		}
+		Files.createDirectories(directory);
+		loadExisting();
+	}
+
+	// 캐시에 있으면 바로 반환, 없으면 writer 출력으로 채운 뒤 반환
+	// 반환한 리소스의 스트림은 읽는 쪽에서 닫아야 함 (닫을 때까지 밀려난 파일이 남아 있음)
+	public CachedImage get(String key, ObjectStore.ContentWriter writer) {
+		CachedImage cached = open(key);
+		if (cached != null) {
+			return cached;
+		}
+		synchronized (fillLocks[Math.floorMod(key.hashCode(), fillLocks.length)]) {
+			cached = open(key);
+			if (cached != null) {
+				return cached;
+			}
+			return fill(key, writer);
+		}
+	}
+
+	public long getTotalBytes() {
+		synchronized (entries) {
+			return totalBytes;
+		}
+	}
+
+	// 파일은 열지 않고 등록 여부만 확인 (외부에서 지워진 파일은 등록 해제)
+	private CachedImage open(String key) {
+		synchronized (entries) {
+			CacheFile file = entries.get(key);
+			if (file == null) {
+				return null;
+			}
+			if (!Files.isRegularFile(file.path)) {
+				entries.remove(key);
+				totalBytes -= file.size;
+				return null;
+			}
+			return new CachedImage(this, file);
+		}
+	}
+
+	// 밀려나는 삭제(evict)와 같은 잠금 안에서 열고 읽는 수를 올림, 스트림을 닫으면 release
+	private InputStream openStream(CacheFile file) throws IOException {
+		synchronized (entries) {
+			InputStream in = Files.newInputStream(file.path);
+			file.readers++;
+			if (!file.evicted) {
+				// 접근 순서 갱신
+				entries.get(file.key);
+			}
+			return new FilterInputStream(in) {
+				private boolean closed;
+
+				@Override
+				public void close() throws IOException {
+					if (closed) {
+						return;
+					}
+					closed = true;
+					try {
+						super.close();
+					} finally {
+						release(file);
+					}
+				}
+			};
+		}
+	}
+
+	private void release(CacheFile file) {
+		synchronized (entries) {
+			file.readers--;
+			if (file.readers == 0 && file.evicted) {
+				deleteQuietly(file.path);
+			}
+		}
+	}
+
+	private CachedImage fill(String key, ObjectStore.ContentWriter writer) {
+		Path target = directory.resolve(key);
+		Path temp = null;
+		try {
+			// 다 쓴 뒤에 이름을 바꿔서 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+			temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				writer.writeTo(out);
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			long size = Files.size(target);
+			synchronized (entries) {
+				return new CachedImage(this, add(key, target, size));
+			}
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to write cached image " + key + ": " + e.getMessage());
+		} finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	private CacheFile add(String key, Path path, long size) {
+		synchronized (entries) {
+			CacheFile file = new CacheFile(key, path, size);
+			CacheFile previous = entries.put(key, file);
+			totalBytes += size - (previous != null ? previous.size : 0);
+			evict(key);
+			return file;
+		}
+	}
+
+	// 최대 크기를 넘으면 가장 오래 사용하지 않은 파일부터 삭제 (방금 넣은 항목은 유지)
+	// 읽는 중인 파일은 다른 이름으로 옮겨두고 마지막 스트림이 닫힐 때 삭제 (같은 키를 다시 채워도 겹치지 않도록)
+	private void evict(String keep) {
+		Iterator<Map.Entry<String, CacheFile>> iterator = entries.entrySet().iterator();
+		while (totalBytes > maxBytes && iterator.hasNext()) {
+			CacheFile eldest = iterator.next().getValue();
+			if (eldest.key.equals(keep)) {
+				continue;
+			}
+			iterator.remove();
+			totalBytes -= eldest.size;
+			eldest.evicted = true;
+			if (eldest.readers == 0) {
+				deleteQuietly(eldest.path);
+				continue;
+			}
+			Path moved = directory.resolve(eldest.key + "." + (++evictedSequence) + EVICTED_SUFFIX);
+			try {
+				Files.move(eldest.path, moved, StandardCopyOption.ATOMIC_MOVE);
+				eldest.path = moved;
+			} catch (IOException e) {
+				logger.warn("Failed to move evicted cached image {} aside, deleting it now", eldest.key, e);
+				deleteQuietly(eldest.path);
+			}
+		}
+	}
+
+	// 재시작 전에 만든 파일을 수정 시각 순서로 다시 등록 (쓰다 만 임시 파일, 밀려난 파일은 삭제)
+	private void loadExisting() throws IOException {
+		List<Path> files;
+		try (Stream<Path> listing = Files.list(directory)) {
+			files = listing.filter(Files::isRegularFile).toList();
+		}
+		List<Path> cached = files.stream()
+				.filter(file -> {
+					String name = file.getFileName().toString();
+					if (name.endsWith(TEMP_SUFFIX) || name.endsWith(EVICTED_SUFFIX)) {
+						deleteQuietly(file);
+						return false;
+					}
+					return true;
+				})
+				.sorted(Comparator.comparing(this::lastModified))
+				.toList();
+		synchronized (entries) {
+			for (Path file : cached) {
+				String key = file.getFileName().toString();
+				long size = Files.size(file);
+				entries.put(key, new CacheFile(key, file, size));
+				totalBytes += size;
+			}
+			evict(null);
+		}
+		logger.info("Transcode cache {}: {} files, {} bytes", directory, entries.size(), totalBytes);
+	}
+
+	private long lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+
+	private void deleteQuietly(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			logger.warn("Failed to delete cached image {}", file, e);
+		}
+	}
+
+	// 캐시에 등록된 파일 하나 (entries 잠금으로 보호)
+	private static final class CacheFile {
+		private final String key;
+		private final long size;
+		private Path path;
+		// 열려 있는 스트림 수, 밀려난 뒤 0이 되면 파일 삭제
+		private int readers;
+		private boolean evicted;
+
+		private CacheFile(String key, Path path, long size) {
+			this.key = key;
+			this.path = path;
+			this.size = size;
+		}
+	}
+
+	// 캐시 파일 리소스, 크기를 알고 있어서 Content-Length/Range 응답에 그대로 쓸 수 있음
+	// getInputStream을 부를 때마다 파일을 새로 열므로 여러 번 읽을 수 있고, 읽지 않으면 파일을 열지 않음
+	public static class CachedImage extends AbstractResource {
+
+		private final TranscodeCache cache;
+		private final CacheFile file;
+
+		CachedImage(TranscodeCache cache, CacheFile file) {
+			this.cache = cache;
+			this.file = file;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return cache.openStream(file);
+		}
+
+		@Override
+		public boolean exists() {
+			return true;
+		}
+
+		@Override
+		public long contentLength() {
+			return file.size;
+		}
+
+		@Override
+		public String getFilename() {
+			return file.key;
+		}
+
+		@Override
+		public String getDescription() {
+			return "cached image [" + file.key + "]";
+		}
+	}
+}
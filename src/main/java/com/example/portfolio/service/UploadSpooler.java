@@ -0,0 +1,175 @@
+package com.example.portfolio.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.SpillingImageSource;
+import com.example.portfolio.image.SpooledImageSource;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 업로드된 원본을 백그라운드 작업이 끝날 때까지 보관 (작은 파일은 메모리, 큰 파일은 스풀 디렉터리)
+@Service
+public class UploadSpooler {
+
+	private final Path spoolDir;
+	private final long spillThreshold;
+	private final long maxFileSize;
+	private final long maxRequestSize;
+
+	public UploadSpooler(@Value("${portfolio.ingest.spool-dir:${java.io.tmpdir}/portfolio-spool}") String spoolDir,
+			@Value("${portfolio.ingest.spill-threshold:512KB}") DataSize spillThreshold,
+			@Value("${spring.servlet.multipart.max-file-size:30MB}") DataSize maxFileSize,
+			@Value("${spring.servlet.multipart.max-request-size:30MB}") DataSize maxRequestSize) {
+		this.spoolDir = Paths.get(spoolDir);
+		this.spillThreshold = spillThreshold.toBytes();
+		this.maxFileSize = maxFileSize.toBytes();
+		this.maxRequestSize = maxRequestSize.toBytes();
+	}
+
+	// servlet이 이미 받아둔 파트 보관 - multipart 임시 파일은 요청이 끝나면 지워지므로 옮겨둠
+	public ImageSource spool(MultipartFile multipartFile) {
+		try {
+			if (multipartFile.getSize() <= spillThreshold) {
+				try (InputStream in = multipartFile.getInputStream()) {
+					return SpillingImageSource.read(in, multipartFile.getOriginalFilename(),
+							multipartFile.getContentType(), spillThreshold, spoolDir);
+				}
+			}
+			// transferTo(File)은 Part.write로 넘어가서 디스크에 있는 파트를 같은 파일시스템이면 복사 없이 이동
+			// transferTo(Path)는 스트림 복사(FileCopyUtils)라서 쓰지 않음
+			Files.createDirectories(spoolDir);
+			Path path = Files.createTempFile(spoolDir, "ingest-", ".src");
+			multipartFile.transferTo(path.toFile());
+			return new SpooledImageSource(path, multipartFile.getOriginalFilename(), multipartFile.getContentType());
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to spool upload: " + e.getMessage());
+		}
+	}
+
+	// 중간에 실패하면 이미 보관한 파일은 지우고 예외 전달
+	public List<ImageSource> spool(MultipartFile[] multipartFiles) {
+		List<ImageSource> sources = new ArrayList<>();
+		if (multipartFiles != null) {
+			try {
+				for (MultipartFile multipartFile : multipartFiles) {
+					sources.add(spool(multipartFile));
+				}
+			} catch (RuntimeException e) {
+				sources.forEach(ImageSource::discard);
+				throw e;
+			}
+		}
+		return sources;
+	}
+
+	// 요청 본문의 multipart 파트를 순서대로 읽어서 바로 보관 (servlet 임시 파일을 거치지 않음)
+	// spring.servlet.multipart.resolve-lazily=true 라서 파라미터를 읽기 전까지는 요청 스트림이 그대로 남아 있음
+	public StreamedMultipart read(HttpServletRequest request) {
+		if (!JakartaServletFileUpload.isMultipartContent(request)) {
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.INVALID_MULTIPART_REQUEST,
+					"Expected a multipart/form-data request");
+		}
+
+		JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+		upload.setFileSizeMax(maxFileSize);
+		upload.setSizeMax(maxRequestSize);
+
+		StreamedMultipart multipart = new StreamedMultipart();
+		try {
+			FileItemInputIterator iterator = upload.getItemIterator(request);
+			while (iterator.hasNext()) {
+				FileItemInput item = iterator.next();
+				try (InputStream in = item.getInputStream()) {
+					if (item.isFormField()) {
+						multipart.fields.put(item.getFieldName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+					} else if (item.getName() != null && !item.getName().isEmpty()) {
+						multipart.files.computeIfAbsent(item.getFieldName(), name -> new ArrayList<>())
+								.add(SpillingImageSource.read(in, item.getName(), item.getContentType(), spillThreshold, spoolDir));
+					}
+				}
+			}
+			return multipart;
+		} catch (FileUploadSizeException e) {
+			multipart.discard();
+			throw new CustomException(
+					HttpStatus.PAYLOAD_TOO_LARGE,
+					ErrorCode.UPLOAD_TOO_LARGE,
+					e.getMessage());
+		} catch (IOException e) {
+			multipart.discard();
+			throw new CustomException(
+					HttpStatus.BAD_REQUEST,
+					ErrorCode.INVALID_MULTIPART_REQUEST,
+					"Failed to read multipart request: " + e.getMessage());
+		}
+	}
+
+	// 스트리밍으로 읽은 multipart 요청 (폼 필드 + 필드별 파일)
+	public static class StreamedMultipart {
+
+		private final Map<String, String> fields = new LinkedHashMap<>();
+		private final Map<String, List<ImageSource>> files = new LinkedHashMap<>();
+
+		public String getField(String name) {
+			return fields.get(name);
+		}
+
+		public Long getLongField(String name) {
+			String value = fields.get(name);
+			if (value == null || value.isBlank()) {
+				return null;
+			}
+			try {
+				return Long.valueOf(value.trim());
+			} catch (NumberFormatException e) {
+				throw new CustomException(
+						HttpStatus.BAD_REQUEST,
+						ErrorCode.INVALID_MULTIPART_REQUEST,
+						"Invalid number for " + name + ": " + value);
+			}
+		}
+
+		public ImageSource getFile(String name) {
+			List<ImageSource> sources = files.get(name);
+			return sources != null && !sources.isEmpty() ? sources.get(0) : null;
+		}
+
+		public List<ImageSource> getFiles(String name) {
+			return files.getOrDefault(name, List.of());
+		}
+
+		// 작업에 넘기지 못하고 실패했을 때 보관한 원본 정리
+		public void discard() {
+			files.values().forEach(sources -> sources.forEach(ImageSource::discard));
+		}
+	}
+}
@@ -0,0 +1,319 @@
+package com.example.portfolio.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolio.dto.DirectUploadDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.BatchResult;
+import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageBatch;
+import com.google.cloud.storage.StorageException;
+import com.google.cloud.storage.StorageOptions;
+import com.google.common.io.CountingOutputStream;
+
+// Google Cloud Storage 저장소 (기본값)
+@Component
+@ConditionalOnProperty(name = "portfolio.storage.type", havingValue = "gcs", matchIfMissing = true)
+public class GcsObjectStore implements ObjectStore {
+
+    private static final String PUBLIC_URL_PREFIX = "https://storage.googleapis.com/";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final String bucketName;
+
+    // 업로드 청크 크기 (256KB의 배수)
+    private final int uploadChunkSize;
+
+    // GCS 배치 요청 1건에 담을 수 있는 최대 호출 수
+    private static final int DELETE_BATCH_SIZE = 100;
+
+    // 서명 PUT에서 허용할 본문 크기 범위 ("최소,최대" 바이트)
+    private static final String CONTENT_LENGTH_RANGE_HEADER = "x-goog-content-length-range";
+
+    // 자격 증명은 처음 사용할 때 읽음 (기동만 하는 경우 자격 증명 불필요)
+    private volatile Storage storage;
+
+
+    public GcsObjectStore(@Value("${spring.cloud.gcp.storage.bucket}") String bucketName,
+            @Value("${portfolio.storage.upload-chunk-size:1048576}") int uploadChunkSize) {
+        this.bucketName = bucketName;
+        this.uploadChunkSize = uploadChunkSize;
+    }
+
+    private Storage storage() {
+        Storage current = storage;
+        if (current == null) {
+            synchronized (this) {
+                current = storage;
+                if (current == null) {
+                    current = createStorage();
+                    storage = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Storage createStorage() {
+        try {
+            GoogleCredentials credentials = GoogleCredentials.getApplicationDefault();
+            return StorageOptions.newBuilder().setCredentials(credentials).build().getService();
+        } catch (IOException e) {
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_KEY_FILE_NOT_FOUND,
+                    "Failed to initialize GCS credentials: " + e.getMessage()
+            );
+        }
+    }
+
+
+    @Override
+    public String upload(String objectName, String contentType, ContentWriter contentWriter) {
+        WriteChannel writer = null;
+        boolean committed = false;
+        try {
+            BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName)
+                    .setContentType(contentType)
+                    .build();
+
+            // 인코더 출력을 고정 크기 청크로 바로 버킷에 전송 (파일 크기와 무관하게 청크 하나만 메모리에 유지)
+            long start = System.nanoTime();
+            writer = storage().writer(blobInfo);
+            writer.setChunkSize(uploadChunkSize);
+            CountingOutputStream out = new CountingOutputStream(Channels.newOutputStream(writer));
+            contentWriter.writeTo(out);
+            // close 시점에 마지막 청크 전송 후 객체가 확정됨 (인코딩 실패 시에는 확정하지 않음)
+            writer.close();
+            committed = true;
+
+            logUploadThroughput(objectName, out.getCount(), System.nanoTime() - start);
+
+            return getUrl(objectName);
+
+        } catch (StorageException e) {
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_IO_ERROR,
+                    "Failed to upload file: " + e.getMessage()
+            );
+        } catch (IOException e) {
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_IO_ERROR,
+                    "Failed to upload file: " + e.getMessage()
+            );
+        } finally {
+            if (writer != null && !committed) {
+                // 쓰기나 확정 중에 실패: close하면 지금까지 보낸 부분이 객체로 확정되므로 닫지 않고 버림
+                // WriteChannel에는 세션 취소 API가 없어서 재개 가능 업로드 세션은 확정되지 않은 채로 남고,
+                // GCS가 만료(1주)시키면서 이미 보낸 청크도 함께 폐기함 (버킷에는 아무 객체도 생기지 않음)
+                logger.debug("Abandoned resumable upload session for {}", objectName);
+            }
+        }
+    }
+
+    // 청크 하나만 메모리에 유지
+    @Override
+    public void download(String objectName, OutputStream out) {
+        try (ReadChannel reader = storage().reader(BlobId.of(bucketName, objectName))) {
+            reader.setChunkSize(uploadChunkSize);
+            Channels.newInputStream(reader).transferTo(out);
+        } catch (StorageException e) {
+            if (e.getCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new CustomException(
+                        HttpStatus.NOT_FOUND,
+                        ErrorCode.STORAGE_FILE_NOT_FOUND,
+                        "Object not found: " + objectName
+                );
+            }
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_IO_ERROR,
+                    "Failed to download file: " + e.getMessage()
+            );
+        } catch (IOException e) {
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_IO_ERROR,
+                    "Failed to download file: " + e.getMessage()
+            );
+        }
+    }
+
+    @Override
+    public long size(String objectName) {
+        try {
+            Blob blob = storage().get(BlobId.of(bucketName, objectName),
+                    Storage.BlobGetOption.fields(Storage.BlobField.SIZE));
+            if (blob == null) {
+                throw new CustomException(
+                        HttpStatus.NOT_FOUND,
+                        ErrorCode.STORAGE_FILE_NOT_FOUND,
+                        "Object not found: " + objectName
+                );
+            }
+            return blob.getSize();
+        } catch (StorageException e) {
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_IO_ERROR,
+                    "Failed to read object metadata: " + e.getMessage()
+            );
+        }
+    }
+
+    // V4 서명 PUT URL (Content-Type, 허용 크기까지 서명에 포함, 서비스 계정 자격 증명 필요)
+    // x-goog-content-length-range 헤더가 서명되어 있어서 maxBytes보다 큰 본문은 GCS가 거절
+    @Override
+    public DirectUploadDto signUpload(String objectName, String contentType, long maxBytes, Duration expiry) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName)
+                .setContentType(contentType)
+                .build();
+        Map<String, String> extHeaders = Map.of(CONTENT_LENGTH_RANGE_HEADER, "0," + maxBytes);
+        try {
+            URL url = storage().signUrl(blobInfo, expiry.toSeconds(), TimeUnit.SECONDS,
+                    Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                    Storage.SignUrlOption.withContentType(),
+                    Storage.SignUrlOption.withExtHeaders(extHeaders),
+                    Storage.SignUrlOption.withV4Signature());
+            return new DirectUploadDto(objectName, url.toString(), HttpMethod.PUT.name(),
+                    Map.of("Content-Type", contentType, CONTENT_LENGTH_RANGE_HEADER, "0," + maxBytes),
+                    Instant.now().plus(expiry).toString());
+        } catch (IllegalStateException | StorageException e) {
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_IO_ERROR,
+                    "Failed to sign upload URL: " + e.getMessage()
+            );
+        }
+    }
+
+    // 업로드 1건당 전송량과 처리 속도 기록
+    private void logUploadThroughput(String objectName, long bytes, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        logger.info("Uploaded {} ({} bytes) in {} ms, {} bytes/sec",
+                objectName, bytes, elapsedNanos / 1_000_000, Math.round(bytes / seconds));
+    }
+
+    // 배치 요청(요청당 최대 100건)으로 삭제, 실패한 건이 있어도 나머지 삭제를 계속 진행
+    @Override
+    public Map<String, String> deleteObjects(List<String> urls) {
+        Map<String, String> failures = new HashMap<>();
+        for (int from = 0; from < urls.size(); from += DELETE_BATCH_SIZE) {
+            List<String> chunk = urls.subList(from, Math.min(from + DELETE_BATCH_SIZE, urls.size()));
+            StorageBatch batch = storage().batch();
+            for (String url : chunk) {
+                String objectName;
+                try {
+                    objectName = getObjectNameFromUrl(url);
+                } catch (IllegalArgumentException e) {
+                    failures.put(url, e.getMessage());
+                    continue;
+                }
+                batch.delete(BlobId.of(bucketName, objectName)).notify(new BatchResult.Callback<Boolean, StorageException>() {
+                    @Override
+                    public void success(Boolean deleted) {
+                        if (!deleted) {
+                            logger.info("Blob already deleted: {}", objectName);
+                        }
+                    }
+
+                    @Override
+                    public void error(StorageException e) {
+                        failures.put(url, e.getMessage());
+                    }
+                });
+            }
+            try {
+                batch.submit();
+            } catch (StorageException e) {
+                chunk.forEach(url -> failures.putIfAbsent(url, e.getMessage()));
+            }
+        }
+        return failures;
+    }
+
+    // startOffset은 해당 이름을 포함하므로 같은 이름은 건너뜀, 이름/생성 시각 필드만 요청
+    @Override
+    public ObjectPage list(String startAfter, int maxResults) {
+        List<Storage.BlobListOption> options = new ArrayList<>();
+        options.add(Storage.BlobListOption.pageSize(maxResults + 1L));
+        options.add(Storage.BlobListOption.fields(Storage.BlobField.NAME, Storage.BlobField.TIME_CREATED));
+        if (startAfter != null) {
+            options.add(Storage.BlobListOption.startOffset(startAfter));
+        }
+        try {
+            Page<Blob> page = storage().list(bucketName, options.toArray(new Storage.BlobListOption[0]));
+            List<StoredObject> objects = new ArrayList<>();
+            boolean more = page.hasNextPage();
+            for (Blob blob : page.getValues()) {
+                if (blob.getName().equals(startAfter)) {
+                    continue;
+                }
+                if (objects.size() == maxResults) {
+                    more = true;
+                    break;
+                }
+                Long createTime = blob.getCreateTime();
+                objects.add(new StoredObject(blob.getName(),
+                        createTime != null ? Instant.ofEpochMilli(createTime) : Instant.EPOCH));
+            }
+            return new ObjectPage(objects, !more);
+        } catch (StorageException e) {
+            throw new CustomException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.STORAGE_IO_ERROR,
+                    "Failed to list objects: " + e.getMessage()
+            );
+        }
+    }
+
+    @Override
+    public String getUrl(String objectName) {
+        return PUBLIC_URL_PREFIX + bucketName + "/" + objectName;
+    }
+
+    // https://storage.googleapis.com/{bucket}/{objectName} -> objectName
+    @Override
+    public String getObjectNameFromUrl(String url) {
+        String prefix = PUBLIC_URL_PREFIX + bucketName + "/";
+        if (url.startsWith(prefix)) {
+            return url.substring(prefix.length());
+        }
+        // 다른 호스트 형식(storage.cloud.google.com 등)도 버킷 경로 기준으로 처리
+        String bucketPath = "/" + bucketName + "/";
+        int index = url.indexOf(bucketPath);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not an object URL of bucket " + bucketName + ": " + url);
+        }
+        return url.substring(index + bucketPath.length());
+    }
+}
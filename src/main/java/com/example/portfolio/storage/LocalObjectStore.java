@@ -0,0 +1,247 @@
+package com.example.portfolio.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolio.dto.DirectUploadDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+
+// 로컬 디스크 저장소 (클라우드 자격 증명 없이 개발/CI/벤치마크용)
+// 공개 URL은 {base-url}/{objectName}, LocalObjectStoreController가 /files/** 로 전송
+@Component
+@ConditionalOnProperty(name = "portfolio.storage.type", havingValue = "local")
+public class LocalObjectStore implements ObjectStore {
+
+	private static final String TEMP_PREFIX = ".upload-";
+	private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+	private final Path root;
+	private final String baseUrl;
+	// 업로드 URL 서명 키 (설정하지 않으면 기동할 때마다 새로 생성)
+	private final byte[] signingKey;
+
+	public LocalObjectStore(@Value("${portfolio.storage.local.root:${java.io.tmpdir}/portfolio-storage}") Path root,
+			@Value("${portfolio.storage.local.base-url:http://localhost:8080/files}") String baseUrl,
+			@Value("${portfolio.storage.local.signing-key:}") String signingKey) throws IOException {
+		this.root = root.toAbsolutePath().normalize();
+		this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+		this.signingKey = signingKey.isEmpty() ? randomKey() : signingKey.getBytes(StandardCharsets.UTF_8);
+		Files.createDirectories(this.root);
+	}
+
+	private static byte[] randomKey() {
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		return key;
+	}
+
+	@Override
+	public String upload(String objectName, String contentType, ContentWriter contentWriter) {
+		Path target = resolve(objectName);
+		Path temp = null;
+		try {
+			Files.createDirectories(target.getParent());
+			// 다 쓴 뒤 이름을 바꿔서 쓰다 만 파일이 공개되지 않도록 함 (GCS의 close 시점 확정과 동일)
+			temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, null);
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+					OutputStream out = Channels.newOutputStream(channel)) {
+				contentWriter.writeTo(out);
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			temp = null;
+			return getUrl(objectName);
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to upload file: " + e.getMessage());
+		} finally {
+			if (temp != null) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException ignored) {
+					// 다음 업로드에 영향 없음
+				}
+			}
+		}
+	}
+
+	@Override
+	public void download(String objectName, OutputStream out) {
+		transferTo(objectName, Channels.newChannel(out));
+	}
+
+	// 파일 채널에서 바로 전송 (대상이 소켓/파일 채널이면 커널에서 복사, 사용자 공간 버퍼 없음)
+	public long transferTo(String objectName, WritableByteChannel target) {
+		try (FileChannel channel = FileChannel.open(resolve(objectName), StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			while (position < size) {
+				position += channel.transferTo(position, size - position, target);
+			}
+			return size;
+		} catch (NoSuchFileException e) {
+			throw notFound(objectName);
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to download file: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public long size(String objectName) {
+		try {
+			return Files.size(resolve(objectName));
+		} catch (NoSuchFileException e) {
+			throw notFound(objectName);
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to read file: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public Map<String, String> deleteObjects(List<String> urls) {
+		Map<String, String> failures = new HashMap<>();
+		for (String url : urls) {
+			try {
+				Files.deleteIfExists(resolve(getObjectNameFromUrl(url)));
+			} catch (IOException | RuntimeException e) {
+				failures.put(url, e.getMessage());
+			}
+		}
+		return failures;
+	}
+
+	// GCS 서명 URL 대신 HMAC 서명한 PUT {base-url}/{objectName}?max-length=&expires=&signature= 발급
+	@Override
+	public DirectUploadDto signUpload(String objectName, String contentType, long maxBytes, Duration expiry) {
+		resolve(objectName);
+		long expires = Instant.now().plus(expiry).getEpochSecond();
+		String url = getUrl(objectName) + "?max-length=" + maxBytes + "&expires=" + expires
+				+ "&signature=" + sign(objectName, contentType, maxBytes, expires);
+		return new DirectUploadDto(objectName, url, "PUT", Map.of("Content-Type", contentType),
+				Instant.ofEpochSecond(expires).toString());
+	}
+
+	// 서명과 만료 시각 확인 (LocalObjectStoreController의 PUT 처리 전)
+	public void verifyUpload(String objectName, String contentType, long maxBytes, long expires, String signature) {
+		byte[] expected = sign(objectName, contentType, maxBytes, expires).getBytes(StandardCharsets.US_ASCII);
+		byte[] actual = signature != null ? signature.getBytes(StandardCharsets.US_ASCII) : new byte[0];
+		if (!MessageDigest.isEqual(expected, actual) || Instant.now().getEpochSecond() > expires) {
+			throw new CustomException(
+					HttpStatus.FORBIDDEN,
+					ErrorCode.INVALID_UPLOAD_SIGNATURE,
+					"Upload URL is invalid or expired: " + objectName);
+		}
+	}
+
+	private String sign(String objectName, String contentType, long maxBytes, long expires) {
+		try {
+			Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+			mac.init(new SecretKeySpec(signingKey, SIGNATURE_ALGORITHM));
+			String payload = "PUT\n" + objectName + "\n" + contentType + "\n" + maxBytes + "\n" + expires;
+			return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(SIGNATURE_ALGORITHM + " is not available", e);
+		}
+	}
+
+	// 로컬 개발용이라 매번 디렉터리 전체를 훑어서 이름 순으로 정렬
+	@Override
+	public ObjectPage list(String startAfter, int maxResults) {
+		List<String> names;
+		try (Stream<Path> files = Files.walk(root)) {
+			names = files.filter(Files::isRegularFile)
+					.filter(file -> !file.getFileName().toString().startsWith(TEMP_PREFIX))
+					.map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+					.filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+					.sorted()
+					.limit(maxResults + 1L)
+					.toList();
+		} catch (IOException e) {
+			throw new CustomException(
+					HttpStatus.INTERNAL_SERVER_ERROR,
+					ErrorCode.STORAGE_IO_ERROR,
+					"Failed to list objects: " + e.getMessage());
+		}
+		List<StoredObject> objects = names.stream()
+				.limit(maxResults)
+				.map(name -> new StoredObject(name, createdAt(root.resolve(name))))
+				.toList();
+		return new ObjectPage(objects, names.size() <= maxResults);
+	}
+
+	private Instant createdAt(Path file) {
+		try {
+			return Files.readAttributes(file, BasicFileAttributes.class).creationTime().toInstant();
+		} catch (IOException e) {
+			// 목록 조회 후 삭제된 파일
+			return Instant.now();
+		}
+	}
+
+	@Override
+	public String getUrl(String objectName) {
+		return baseUrl + "/" + objectName;
+	}
+
+	@Override
+	public String getObjectNameFromUrl(String url) {
+		String prefix = baseUrl + "/";
+		if (!url.startsWith(prefix)) {
+			throw new IllegalArgumentException("Not a local object URL: " + url);
+		}
+		return url.substring(prefix.length());
+	}
+
+	// root 밖을 가리키는 이름(../ 등)은 없는 객체로 처리
+	private Path resolve(String objectName) {
+		Path path = root.resolve(objectName).normalize();
+		if (!path.startsWith(root) || path.equals(root)) {
+			throw notFound(objectName);
+		}
+		return path;
+	}
+
+	private CustomException notFound(String objectName) {
+		return new CustomException(
+				HttpStatus.NOT_FOUND,
+				ErrorCode.STORAGE_FILE_NOT_FOUND,
+				"Object not found: " + objectName);
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.portfolio.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.example.portfolio.dto.DirectUploadDto;
+
+// 이미지 객체 저장소 (portfolio.storage.type 설정값으로 구현체 선택: gcs, local)
+public interface ObjectStore {
+
+	// contentWriter 출력을 objectName으로 스트리밍 저장 후 공개 URL 반환
+	String upload(String objectName, String contentType, ContentWriter contentWriter);
+
+	// 객체 내용을 out으로 스트리밍, 없으면 404 CustomException
+	void download(String objectName, OutputStream out);
+
+	// 객체 크기(바이트), 없으면 404 CustomException
+	long size(String objectName);
+
+	// 여러 객체를 삭제하고 실패한 URL과 오류 메시지 반환 (이미 없는 객체는 성공으로 봄)
+	Map<String, String> deleteObjects(List<String> urls);
+
+	// 클라이언트가 서버를 거치지 않고 objectName에 직접 업로드할 수 있는 서명된 URL
+	// maxBytes보다 큰 본문은 저장소가 거절하도록 서명에 포함
+	DirectUploadDto signUpload(String objectName, String contentType, long maxBytes, Duration expiry);
+
+	// upload가 반환한 공개 URL -> objectName
+	String getObjectNameFromUrl(String url);
+
+	// objectName -> 공개 URL
+	String getUrl(String objectName);
+
+	// 이름 순으로 startAfter 다음 객체부터 최대 maxResults개 (startAfter가 null이면 처음부터)
+	// 이름 기준이라 목록 중간에 멈췄다가 나중에 이어서 조회할 수 있음
+	ObjectPage list(String startAfter, int maxResults);
+
+	// 저장할 내용을 스트림에 기록하는 콜백
+	@FunctionalInterface
+	interface ContentWriter {
+		void writeTo(OutputStream out) throws IOException;
+	}
+
+	record StoredObject(String name, Instant createdAt) {
+	}
+
+	// last = 이 페이지 뒤에 남은 객체가 없음
+	record ObjectPage(List<StoredObject> objects, boolean last) {
+	}
+}
@@ -0,0 +1,23 @@
+-- Photo, Project id 생성 방식 변경 (IDENTITY -> SEQUENCE, allocationSize 50)
+-- 새 버전 배포 전에 기존 PostgreSQL 데이터베이스에서 한 번 실행 (여러 번 실행해도 안전)
+-- 실행하지 않았으면 IdSequenceCheck가 기동을 멈춤 (시퀀스가 없거나 다음 할당 구간이 MAX(id) 이하)
+--   psql "$DB_URL" -f photo_project_sequences.sql
+--
+-- pooled 옵티마이저는 nextval 값을 할당 구간의 끝으로 사용하므로
+-- 시퀀스를 MAX(id) + 50 이상으로 맞춰야 기존 id와 겹치지 않음
+
+CREATE SEQUENCE IF NOT EXISTS photo_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+BEGIN
+    IF to_regclass('public.photo') IS NOT NULL THEN
+        PERFORM setval('photo_seq',
+            GREATEST((SELECT COALESCE(MAX(id), 0) FROM photo) + 50, (SELECT last_value FROM photo_seq)));
+    END IF;
+    IF to_regclass('public.project') IS NOT NULL THEN
+        PERFORM setval('project_seq',
+            GREATEST((SELECT COALESCE(MAX(id), 0) FROM project) + 50, (SELECT last_value FROM project_seq)));
+    END IF;
+END
+$$;
@@ -0,0 +1,82 @@
+package com.example.portfolio.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.example.portfolio.dto.ProjectListDto;
+
+class CacheValueSerializerTest {
+
+	private final GenericJackson2JsonRedisSerializer json = CacheConfig.jsonRedisSerializer();
+	private final CacheValueSerializer serializer = new CacheValueSerializer(json);
+
+	@Test
+	void roundTripProjectListSlice() {
+		ProjectListDto full = new ProjectListDto(1L, "제목", "https://cdn/1/a.webp", new Date(1_700_000_000_000L), 42,
+				"웨딩", "본식", 12L);
+		full.setSrcset("https://cdn/1/a_w320.webp 320w");
+		full.setWidth(1600);
+		full.setHeight(1067);
+		full.setByteSize(245_000L);
+		full.setBlurHash("LEHV6nWB2yk8pyo0adR*.7kCMdnj");
+		// 썸네일 업로드 전 프로젝트는 대부분 필드가 null
+		ProjectListDto empty = new ProjectListDto(2L, "썸네일 없음", null, null, 0, "웨딩", null, 0L);
+		Slice<ProjectListDto> slice = new SliceImpl<>(List.of(full, empty),
+				PageRequest.of(3, 12, Sort.by(Sort.Order.desc("createdAt").ignoreCase(), Sort.Order.asc("id"))), true);
+
+		byte[] bytes = serializer.serialize(slice);
+		@SuppressWarnings("unchecked")
+		Slice<ProjectListDto> read = (Slice<ProjectListDto>) serializer.deserialize(bytes);
+
+		assertThat(bytes.length).isLessThan(json.serialize(slice).length / 2);
+		assertThat(read.getNumber()).isEqualTo(3);
+		assertThat(read.getSize()).isEqualTo(12);
+		assertThat(read.hasNext()).isTrue();
+		assertThat(read.getSort()).isEqualTo(slice.getSort());
+		assertThat(read.getContent()).usingRecursiveFieldByFieldElementComparator()
+				.containsExactly(full, empty);
+	}
+
+	@Test
+	void readValuesWrittenByJsonSerializer() {
+		Slice<ProjectListDto> slice = new SliceImpl<>(
+				List.of(new ProjectListDto(1L, "제목", null, null, 0, "웨딩", null, 0L)), PageRequest.of(0, 12), false);
+
+		Object read = serializer.deserialize(json.serialize(slice));
+
+		assertThat(read).isInstanceOf(Slice.class);
+		assertThat(((Slice<?>) read).getContent()).singleElement()
+				.extracting("title")
+				.isEqualTo("제목");
+	}
+
+	@Test
+	void keepJsonForOtherValues() {
+		byte[] bytes = serializer.serialize(new HashMap<>(Map.of("key", "value")));
+
+		assertThat(bytes[0]).isEqualTo((byte) '{');
+		assertThat(serializer.deserialize(bytes)).isEqualTo(Map.of("key", "value"));
+	}
+
+	@Test
+	void treatUnknownVersionAsMiss() {
+		byte[] bytes = serializer.serialize(new SliceImpl<>(List.<ProjectListDto>of(), PageRequest.of(0, 12), false));
+		bytes[2] = CacheValueSerializer.VERSION + 1;
+
+		assertThat(serializer.deserialize(bytes)).isNull();
+		// 잘린 값도 미스
+		assertThat(serializer.deserialize(new byte[] { CacheValueSerializer.MAGIC_0, CacheValueSerializer.MAGIC_1,
+				CacheValueSerializer.VERSION, CacheValueSerializer.TYPE_PROJECT_LIST_SLICE, (byte) 0x80 })).isNull();
+	}
+}
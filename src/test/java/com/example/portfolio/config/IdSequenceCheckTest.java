@@ -0,0 +1,23 @@
+package com.example.portfolio.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class IdSequenceCheckTest {
+
+	@Test
+	void allocateAfterMaxIdOnceScriptHasRun() {
+		// 스크립트: setval(seq, MAX(id) + 50) -> is_called = true
+		long maxId = 1234;
+		assertThat(IdSequenceCheck.lowestNextId(maxId + 50, true, 50)).isGreaterThan(maxId);
+	}
+
+	@Test
+	void overlapExistingIdsWithFreshSequence() {
+		// ddl-auto가 새로 만든 시퀀스 (START WITH 1, 아직 nextval 호출 전)
+		assertThat(IdSequenceCheck.lowestNextId(1, false, 50)).isLessThanOrEqualTo(1234);
+		// 이미 몇 번 할당한 시퀀스: 다음 nextval은 201, 구간은 152..201
+		assertThat(IdSequenceCheck.lowestNextId(151, true, 50)).isEqualTo(152);
+	}
+}
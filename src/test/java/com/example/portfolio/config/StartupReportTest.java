@@ -0,0 +1,29 @@
+package com.example.portfolio.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupReportTest {
+
+	@Test
+	void listSlowestBeanInstantiationsOnly() throws InterruptedException {
+		BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+		StartupStep slow = startup.start("spring.beans.instantiate").tag("beanName", "gcsObjectStore");
+		Thread.sleep(30);
+		slow.end();
+		startup.start("spring.beans.instantiate").tag("beanName", "cacheConfig").end();
+		startup.start("spring.context.refresh").end();
+
+		List<StartupReport.BeanTiming> timings = StartupReport.slowestBeans(startup.getBufferedTimeline(), 5);
+
+		// 빈 생성 단계만, 오래 걸린 순
+		assertThat(timings).extracting(StartupReport.BeanTiming::beanName)
+				.containsExactly("gcsObjectStore", "cacheConfig");
+		assertThat(timings.get(0).duration().toMillis()).isGreaterThanOrEqualTo(30);
+	}
+}
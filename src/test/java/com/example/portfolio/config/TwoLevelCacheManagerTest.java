@@ -0,0 +1,113 @@
+package com.example.portfolio.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	private ConcurrentMapCacheManager remoteCacheManager;
+	private SimpleMeterRegistry meterRegistry;
+	private TwoLevelCacheManager cacheManager;
+
+	@BeforeEach
+	void setUp() {
+		remoteCacheManager = new ConcurrentMapCacheManager("projectList");
+		meterRegistry = new SimpleMeterRegistry();
+		cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, meterRegistry, 100,
+				Duration.ofMinutes(1));
+	}
+
+	@Test
+	void serveFromLocalAfterFirstRemoteHit() {
+		remoteCacheManager.getCache("projectList").put("1_all_0_12", "page");
+		TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("projectList");
+
+		assertThat(cache.get("1_all_0_12").get()).isEqualTo("page");
+		// L2에서 지워져도 L1 TTL 동안은 L1에서 응답
+		remoteCacheManager.getCache("projectList").evict("1_all_0_12");
+		assertThat(cache.get("1_all_0_12").get()).isEqualTo("page");
+		assertThat(cache.get("2_all_0_12")).isNull();
+
+		assertThat(cache.getLocalHits()).isEqualTo(1);
+		assertThat(cache.getLocalMisses()).isEqualTo(2);
+		assertThat(cache.getRemoteHits()).isEqualTo(1);
+		assertThat(cache.getRemoteMisses()).isEqualTo(1);
+		assertThat(meterRegistry.get("portfolio.cache.requests")
+				.tags("cache", "projectList", "level", "l1", "result", "hit")
+				.functionCounter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("portfolio.cache.hit.ratio")
+				.tags("cache", "projectList", "level", "l2")
+				.gauge().value()).isEqualTo(0.5);
+	}
+
+	@Test
+	void evictRemovesBothLevelsAndNotifiesOtherInstances() {
+		Cache cache = cacheManager.getCache("projectList");
+		cache.put("1_all_0_12", "page");
+
+		cache.evict("1_all_0_12");
+
+		assertThat(cache.get("1_all_0_12")).isNull();
+		assertThat(remoteCacheManager.getCache("projectList").get("1_all_0_12")).isNull();
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(2)).convertAndSend(eq(TwoLevelCacheManager.CHANNEL),
+				message.capture());
+		assertThat(message.getValue()).endsWith("|projectList|evict|1_all_0_12");
+	}
+
+	@Test
+	void dropLocalEntriesOnMessageFromOtherInstance() {
+		remoteCacheManager.getCache("projectList").put("1_all_0_12", "old");
+		TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("projectList");
+		cache.get("1_all_0_12");
+		remoteCacheManager.getCache("projectList").put("1_all_0_12", "new");
+
+		cacheManager.onMessage(message("other-node|projectList|evict|1_all_0_12"), null);
+
+		assertThat(cache.get("1_all_0_12").get()).isEqualTo("new");
+
+		cacheManager.onMessage(message("other-node|projectList|clear|"), null);
+
+		assertThat(cache.getLocalSize()).isZero();
+	}
+
+	@Test
+	void ignoreOwnMessages() {
+		TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("projectList");
+		cache.put("1_all_0_12", "page");
+		ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.CHANNEL), sent.capture());
+
+		// 자기가 보낸 삭제 알림이 돌아와도 방금 넣은 L1 항목은 유지
+		cacheManager.onMessage(message(sent.getValue()), null);
+
+		assertThat(cache.getLocalSize()).isEqualTo(1);
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -21,8 +21,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import com.example.portfolio.dto.ProjectCreateDto;
 import com.example.portfolio.service.AdminService;
 import com.example.portfolio.service.CategoryService;
+import com.example.portfolio.service.DirectUploadService;
+import com.example.portfolio.service.IngestJobService;
 import com.example.portfolio.service.PhotoService;
 import com.example.portfolio.service.ProjectService;
+import com.example.portfolio.service.UploadSpooler;
 import com.google.gson.Gson;
 
 @WebMvcTest(ProjectController.class)
@@ -42,6 +45,15 @@ class ProjectControllerTest {
     
     @MockBean
     private PhotoService photoService;
+    
+    @MockBean
+    private IngestJobService ingestJobService;
+    
+    @MockBean
+    private UploadSpooler uploadSpooler;
+    
+    @MockBean
+    private DirectUploadService directUploadService;
 
 	@Test
 	@DisplayName("컨트롤러 생성 성공 테스트")
@@ -79,7 +91,7 @@ class ProjectControllerTest {
                 .param("categoryId", "1")
                 .param("subcategoryId", "1")
                 .contentType(MediaType.MULTIPART_FORM_DATA))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andDo(print());
         
         ArgumentCaptor<ProjectCreateDto> dtoCaptor = ArgumentCaptor.forClass(ProjectCreateDto.class);
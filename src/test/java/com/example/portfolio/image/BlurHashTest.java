@@ -0,0 +1,41 @@
+package com.example.portfolio.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+class BlurHashTest {
+
+	@Test
+	void encodeSolidColor() {
+		BufferedImage image = new BufferedImage(8, 6, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.RED);
+		graphics.fillRect(0, 0, 8, 6);
+		graphics.dispose();
+
+		String hash = BlurHash.encode(image);
+
+		// 가로 이미지는 4x3 성분: 크기 1 + 최댓값 1 + DC 4 + AC 2 * 11
+		assertThat(hash).hasSize(28);
+		// 크기 플래그 (4-1) + (3-1)*9 = 21 -> 'L', DC(평균색)는 sRGB 0xFF0000 그대로
+		assertThat(hash.charAt(0)).isEqualTo('L');
+		assertThat(hash.substring(2, 6)).isEqualTo("TI:j");
+	}
+
+	@Test
+	void usePortraitComponentsForTallImage() {
+		BufferedImage image = new BufferedImage(6, 8, BufferedImage.TYPE_INT_RGB);
+
+		String hash = BlurHash.encode(image);
+
+		// 세로 이미지는 3x4 성분: 크기 플래그 (3-1) + (4-1)*9 = 29 -> 'T'
+		assertThat(hash.charAt(0)).isEqualTo('T');
+		assertThat(hash).hasSize(28);
+		assertThat(hash.substring(2, 6)).isEqualTo("0000");
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.portfolio.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+
+import org.junit.jupiter.api.Test;
+
+class ExifOrientationTest {
+
+	@Test
+	void rotateClockwiseForOrientation6() {
+		// 좌상단만 빨간색인 3x2 이미지
+		BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+		image.setRGB(0, 0, Color.RED.getRGB());
+
+		BufferedImage oriented = ExifOrientation.apply(image, 6);
+
+		// 시계 방향 90도 회전: 가로/세로가 바뀌고 좌상단 픽셀은 우상단으로 이동
+		assertThat(oriented.getWidth()).isEqualTo(2);
+		assertThat(oriented.getHeight()).isEqualTo(3);
+		assertThat(oriented.getRGB(1, 0) & 0xFFFFFF).isEqualTo(Color.RED.getRGB() & 0xFFFFFF);
+	}
+
+	@Test
+	void keepImageWithoutExif() {
+		BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+
+		assertThat(ExifOrientation.read(new ByteArrayInputStream("not a jpeg".getBytes())))
+				.isEqualTo(ExifOrientation.NORMAL);
+		assertThat(ExifOrientation.apply(image, ExifOrientation.NORMAL)).isSameAs(image);
+	}
+}
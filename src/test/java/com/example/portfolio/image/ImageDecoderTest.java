@@ -0,0 +1,102 @@
+package com.example.portfolio.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+
+class ImageDecoderTest {
+
+	private final ImageDecoder imageDecoder = new ImageDecoder(300, 1_000_000, 64, Duration.ofSeconds(1));
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void subsampleImagesWiderThanMaxWidth() throws IOException {
+		ImageSource source = png("wide.png", 1000, 400);
+
+		// 1000 / 300을 올림한 4배로 읽어서 최대 크기를 넘는 래스터는 만들지 않음
+		try (DecodedImage decoded = imageDecoder.decode(source)) {
+			assertThat(decoded.getFormat()).isEqualTo(ImageFormat.PNG);
+			assertThat(decoded.getImage().getWidth()).isEqualTo(250);
+			assertThat(decoded.getImage().getHeight()).isEqualTo(100);
+		}
+	}
+
+	@Test
+	void subsampleByLongEdgeFromSpooledFile() throws IOException {
+		Path file = directory.resolve("tall.png");
+		Files.write(file, pngBytes(400, 500));
+		ImageSource source = new SpooledImageSource(file, "tall.png", "image/png");
+
+		try (DecodedImage decoded = imageDecoder.decode(source)) {
+			assertThat(decoded.getImage().getWidth()).isEqualTo(200);
+			assertThat(decoded.getImage().getHeight()).isEqualTo(250);
+		}
+	}
+
+	@Test
+	void rejectImagesLargerThanWholeBudget() throws IOException {
+		// 400x400 ARGB 작업 사본 2개 = 1.28MB > 예산 1MB
+		ImageDecoder smallBudget = new ImageDecoder(4096, 1_000_000, 1, Duration.ofSeconds(1));
+
+		assertThatThrownBy(() -> smallBudget.decode(png("big.png", 400, 400)))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.IMAGE_DIMENSIONS_TOO_LARGE);
+	}
+
+	@Test
+	void deriveMaxPixelsFromBudget() throws IOException {
+		// 예산 1MB / (4바이트 x 2) = 131072 픽셀
+		ImageDecoder smallBudget = new ImageDecoder(4096, 0, 1, Duration.ofSeconds(1));
+
+		assertThatThrownBy(() -> smallBudget.decode(png("big.png", 400, 400)))
+				.isInstanceOf(CustomException.class)
+				.extracting("detail").asString().contains("limit is 131072 pixels");
+	}
+
+	@Test
+	void rejectByMagicBytesNotExtension() {
+		ImageSource source = ImageSource.of(new MockMultipartFile(
+				"photo", "photo.jpg", "image/jpeg", "not an image".getBytes()));
+
+		assertThatThrownBy(() -> imageDecoder.decode(source))
+				.isInstanceOf(CustomException.class)
+				.extracting("detail").asString().contains("Unsupported image format");
+	}
+
+	@Test
+	void rejectTooManyPixelsBeforeDecoding() throws IOException {
+		ImageSource source = png("huge.png", 2000, 1000);
+
+		assertThatThrownBy(() -> imageDecoder.decode(source))
+				.isInstanceOf(CustomException.class)
+				.extracting("detail").asString().contains("2000x1000");
+	}
+
+	private ImageSource png(String name, int width, int height) throws IOException {
+		return ImageSource.of(new MockMultipartFile("photo", name, "image/png", pngBytes(width, height)));
+	}
+
+	private byte[] pngBytes(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.portfolio.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class QualitySelectorTest {
+
+	// WebP 플러그인 없이 테스트하기 위해 같은 품질 값으로 JPEG 인코딩
+	private final WebpEncoder jpegEncoder = new WebpEncoder() {
+
+		@Override
+		public void encode(BufferedImage image, OutputStream out, int quality) throws IOException {
+			ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+			try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+				ImageWriteParam param = writer.getDefaultWriteParam();
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(quality / 100f);
+				writer.setOutput(output);
+				writer.write(null, new IIOImage(image, null, null), param);
+			} finally {
+				writer.dispose();
+			}
+		}
+
+		@Override
+		public int getDefaultQuality() {
+			return 85;
+		}
+	};
+
+	@Test
+	void fixedModeUsesDefaultQuality() {
+		QualitySelector selector = selector("fixed", DataSize.ofBytes(0));
+
+		assertThat(selector.select(noise(64, 48))).isEqualTo(85);
+	}
+
+	@Test
+	void flatImageGetsLowerQualityThanDetailedImage() {
+		QualitySelector selector = selector("adaptive", DataSize.ofBytes(0));
+
+		int flat = selector.select(flat(64, 48));
+		int detailed = selector.select(noise(64, 48));
+
+		assertThat(flat).isEqualTo(50);
+		assertThat(detailed).isGreaterThan(flat);
+	}
+
+	@Test
+	void byteBudgetCapsQuality() {
+		QualitySelector unlimited = selector("adaptive", DataSize.ofBytes(0));
+		QualitySelector budgeted = selector("adaptive", DataSize.ofBytes(1));
+
+		BufferedImage image = noise(64, 48);
+
+		// 예산 안에 들어가는 품질이 없으면 최소 품질
+		assertThat(unlimited.select(image)).isGreaterThan(50);
+		assertThat(budgeted.select(image)).isEqualTo(50);
+	}
+
+	@Test
+	void searchUsesDownscaledProbe() {
+		QualitySelector selector = new QualitySelector(jpegEncoder, "adaptive", 50, 90, 0.985, DataSize.ofBytes(0),
+				32);
+
+		assertThat(selector.select(flat(256, 128))).isEqualTo(50);
+	}
+
+	private QualitySelector selector(String mode, DataSize maxBytes) {
+		return new QualitySelector(jpegEncoder, mode, 50, 90, 0.985, maxBytes, 1024);
+	}
+
+	private BufferedImage flat(int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.GRAY);
+		graphics.fillRect(0, 0, width, height);
+		graphics.dispose();
+		return image;
+	}
+
+	private BufferedImage noise(int width, int height) {
+		Random random = new Random(7);
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, random.nextInt(0x1000000));
+			}
+		}
+		return image;
+	}
+}
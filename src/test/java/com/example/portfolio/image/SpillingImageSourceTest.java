@@ -0,0 +1,81 @@
+package com.example.portfolio.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpillingImageSourceTest {
+
+	@TempDir
+	Path spoolDir;
+
+	@Test
+	void keepSmallUploadInMemory() throws IOException {
+		byte[] content = "small photo".getBytes();
+
+		SpillingImageSource source = SpillingImageSource.read(
+				new ByteArrayInputStream(content), "small.jpg", "image/jpeg", 1024, spoolDir);
+
+		assertThat(source.isSpilled()).isFalse();
+		assertThat(source.getSize()).isEqualTo(content.length);
+		assertThat(source.getContentHash()).isEqualTo(ContentHash.sha256(new ByteArrayInputStream(content)));
+		try (InputStream in = source.openStream()) {
+			assertThat(in.readAllBytes()).isEqualTo(content);
+		}
+		try (var files = Files.list(spoolDir)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void spillLargeUploadToDiskAndDiscard() throws IOException {
+		byte[] content = new byte[20_000];
+		Arrays.fill(content, (byte) 7);
+
+		SpillingImageSource source = SpillingImageSource.read(
+				new ByteArrayInputStream(content), "large.jpg", "image/jpeg", 1024, spoolDir);
+
+		// 임계값을 넘으면 앞부분까지 포함해서 파일로 옮김
+		assertThat(source.isSpilled()).isTrue();
+		try (InputStream in = source.openStream()) {
+			assertThat(in.readAllBytes()).isEqualTo(content);
+		}
+		assertThat(source.getContentHash()).isEqualTo(ContentHash.sha256(new ByteArrayInputStream(content)));
+
+		source.discard();
+		try (var files = Files.list(spoolDir)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void removeSpoolFileWhenStreamFails() throws IOException {
+		// 스풀 파일로 옮긴 뒤 연결이 끊긴 상황
+		InputStream failing = new InputStream() {
+			private int remaining = 4096;
+
+			@Override
+			public int read() throws IOException {
+				if (remaining-- > 0) {
+					return 1;
+				}
+				throw new IOException("connection reset");
+			}
+		};
+
+		assertThatThrownBy(() -> SpillingImageSource.read(failing, "broken.jpg", "image/jpeg", 1024, spoolDir))
+				.isInstanceOf(IOException.class);
+		try (var files = Files.list(spoolDir)) {
+			assertThat(files).isEmpty();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.portfolio.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SsimTest {
+
+	@Test
+	void identicalImagesScoreOne() {
+		BufferedImage image = noise(32, 24, 1);
+
+		assertThat(Ssim.compute(image, image)).isCloseTo(1.0, offset(1e-9));
+	}
+
+	@Test
+	void differentImagesScoreLower() {
+		BufferedImage reference = noise(32, 24, 1);
+		BufferedImage slightlyNoisy = addNoise(reference, 4);
+		BufferedImage veryNoisy = addNoise(reference, 64);
+
+		double slight = Ssim.compute(reference, slightlyNoisy);
+		double heavy = Ssim.compute(reference, veryNoisy);
+
+		assertThat(slight).isLessThan(1.0);
+		assertThat(heavy).isLessThan(slight);
+	}
+
+	@Test
+	void rejectDifferentSizes() {
+		assertThatThrownBy(() -> Ssim.compute(noise(8, 8, 1), noise(16, 8, 1)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private BufferedImage noise(int width, int height, long seed) {
+		Random random = new Random(seed);
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, random.nextInt(0x1000000));
+			}
+		}
+		return image;
+	}
+
+	// 각 채널에 -amount..amount 범위의 잡음 추가
+	private BufferedImage addNoise(BufferedImage source, int amount) {
+		Random random = new Random(42);
+		BufferedImage image = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < source.getHeight(); y++) {
+			for (int x = 0; x < source.getWidth(); x++) {
+				int pixel = source.getRGB(x, y);
+				int rgb = 0;
+				for (int shift = 16; shift >= 0; shift -= 8) {
+					int channel = ((pixel >> shift) & 0xFF) + random.nextInt(2 * amount + 1) - amount;
+					rgb |= Math.max(0, Math.min(255, channel)) << shift;
+				}
+				image.setRGB(x, y, rgb);
+			}
+		}
+		return image;
+	}
+}
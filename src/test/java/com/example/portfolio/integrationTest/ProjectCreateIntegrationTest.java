@@ -3,6 +3,7 @@ package com.example.portfolio.integrationTest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +20,6 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.portfolio.model.Category;
-import com.example.portfolio.model.Photo;
 import com.example.portfolio.model.Project;
 import com.example.portfolio.model.SubCategory;
 import com.example.portfolio.repository.CategoryRepository;
@@ -100,22 +100,17 @@ class ProjectCreateIntegrationTest {
     	                .param("categoryId", "1")
     	                .param("subcategoryId", "1")
     	                .contentType(MediaType.MULTIPART_FORM_DATA))
-    	                .andExpect(status().isOk())
+    	                .andExpect(status().isAccepted())
+    	                .andExpect(jsonPath("$.jobId").exists())
+    	                .andExpect(jsonPath("$.total").value(3))
     	                .andDo(print());
 
 		// Then
-    		    Photo photoSaved = photoRepository.findById(1L).get();
-    		    
-    		    assertEquals( "photo1.jpg", photoSaved.getImgoname());
-    		    
-    		    Photo photoSaved2 = photoRepository.findById(2L).get();
-    		    assertEquals( "photo2.jpg", photoSaved2.getImgoname());
-    		    
+    		    // 사진/썸네일은 커밋 후 백그라운드 작업에서 저장되므로 여기서는 프로젝트만 확인
     		    Project projectSaved = projectRepository.findById(1L).get();
     		    
     		    assertNotNull(projectSaved);
     		    assertEquals("서비스테스트제목", projectSaved.getTitle());
-    		    assertNotNull(projectSaved.getThumbnailUrl());
     		    
     		    // 위에 사진은 나오는데 여기서만 안나와서 찾아보니 양방향 매핑이 안되어서 그렇다함.
 //    		    assertEquals(2, projectSaved.getPhotos().size());
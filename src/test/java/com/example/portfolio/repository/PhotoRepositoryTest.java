@@ -0,0 +1,60 @@
+package com.example.portfolio.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.portfolio.model.Photo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class PhotoRepositoryTest {
+
+	@Autowired
+	private PhotoRepository photoRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	@DisplayName("사진 100장 saveAll은 JDBC 배치로 묶여서 전송")
+	void saveAllUsesBatchInserts() {
+		// given
+		List<Photo> photos = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			Photo photo = new Photo();
+			photo.setProjectId(1L);
+			photo.setImgoname("photo" + i + ".jpg");
+			photo.setImgtype("image/webp");
+			photo.setImageUrl("http://localhost/photo" + i + ".webp");
+			photos.add(photo);
+		}
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		photoRepository.saveAll(photos);
+		entityManager.flush();
+
+		// then
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(100);
+		// 시퀀스 조회(50개 단위) + batch_size 50 insert 2번 - 행마다 전송하면 100번 이상
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+		assertThat(photos).allSatisfy(photo -> assertThat(photo.getId()).isNotNull());
+	}
+}
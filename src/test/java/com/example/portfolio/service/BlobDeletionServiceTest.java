@@ -0,0 +1,91 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.portfolio.model.PendingBlobDeletion;
+import com.example.portfolio.repository.PendingBlobDeletionRepository;
+import com.example.portfolio.repository.PhotoRepository;
+import com.example.portfolio.storage.ObjectStore;
+
+@ExtendWith(MockitoExtension.class)
+class BlobDeletionServiceTest {
+
+	@Mock
+	private ObjectStore objectStore;
+
+	@Mock
+	private PendingBlobDeletionRepository pendingBlobDeletionRepository;
+
+	@Mock
+	private PhotoRepository photoRepository;
+
+	private BlobDeletionService blobDeletionService;
+
+	@BeforeEach
+	void setUp() {
+		blobDeletionService = new BlobDeletionService(objectStore, pendingBlobDeletionRepository, photoRepository,
+				new SyncTaskExecutor(), Duration.ofMinutes(5));
+	}
+
+	@Test
+	void keepOnlyFailedDeletionsForRetry() {
+		PendingBlobDeletion deleted = pending(1L, "https://storage.googleapis.com/minography_gcs/1/a.webp", "320");
+		PendingBlobDeletion failed = pending(2L, "https://storage.googleapis.com/minography_gcs/1/b.webp", null);
+		when(photoRepository.findReferencedImageUrls(anyCollection())).thenReturn(List.of());
+		when(objectStore.deleteObjects(any())).thenReturn(Map.of(failed.getImageUrl(), "503 Service Unavailable"));
+
+		// When
+		blobDeletionService.deletePending(List.of(deleted, failed));
+
+		// Then - 원본과 변형본을 한번에 요청하고, 실패한 기록만 남김
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<String>> urlCaptor = ArgumentCaptor.forClass(List.class);
+		verify(objectStore).deleteObjects(urlCaptor.capture());
+		assertThat(urlCaptor.getValue()).containsExactly(
+				"https://storage.googleapis.com/minography_gcs/1/a.webp",
+				"https://storage.googleapis.com/minography_gcs/1/a_w320.webp",
+				"https://storage.googleapis.com/minography_gcs/1/b.webp");
+		verify(pendingBlobDeletionRepository).deleteAllByIdInBatch(List.of(1L));
+		verify(pendingBlobDeletionRepository).markFailed(eq(List.of(2L)), eq("503 Service Unavailable"), any(Instant.class));
+	}
+
+	@Test
+	void skipObjectsReferencedAgain() {
+		PendingBlobDeletion reused = pending(3L, "https://storage.googleapis.com/minography_gcs/2/c.webp", null);
+		when(photoRepository.findReferencedImageUrls(anyCollection())).thenReturn(List.of(reused.getImageUrl()));
+
+		// When
+		blobDeletionService.deletePending(List.of(reused));
+
+		// Then - 다른 사진이 같은 객체를 쓰고 있으면 삭제하지 않고 기록만 정리
+		verify(objectStore, never()).deleteObjects(any());
+		verify(pendingBlobDeletionRepository).deleteAllByIdInBatch(List.of(3L));
+		verify(pendingBlobDeletionRepository, never()).markFailed(anyCollection(), any(), any());
+	}
+
+	private PendingBlobDeletion pending(Long id, String imageUrl, String variantWidths) {
+		PendingBlobDeletion deletion = new PendingBlobDeletion(imageUrl, variantWidths, Instant.now());
+		ReflectionTestUtils.setField(deletion, "id", id);
+		return deletion;
+	}
+}
@@ -0,0 +1,157 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.portfolio.dto.CategoryDto;
+import com.example.portfolio.dto.CategoryProjectCountDto;
+import com.example.portfolio.dto.SubCategoryDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.model.Category;
+import com.example.portfolio.model.SubCategory;
+import com.example.portfolio.repository.CategoryRepository;
+import com.example.portfolio.repository.ProjectRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeServiceTest {
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	// 제출된 재생성 작업을 테스트에서 직접 실행
+	private final List<Runnable> queued = new ArrayList<>();
+
+	private CategoryTreeService categoryTreeService;
+
+	@BeforeEach
+	void setUp() {
+		categoryTreeService = new CategoryTreeService(categoryRepository, projectRepository, transactionManager,
+				queued::add, redisTemplate, listenerContainer);
+	}
+
+	@Test
+	void serveCategoriesAndCountsFromSnapshot() {
+		Category wedding = category(1L, "웨딩", subCategory(10L, "본식"), subCategory(11L, "야외"));
+		Category profile = category(2L, "프로필", subCategory(20L, "개인"));
+		when(categoryRepository.findAllWithSubCategories()).thenReturn(List.of(wedding, profile));
+		when(projectRepository.countProjectsByCategory()).thenReturn(List.of(
+				new CategoryProjectCountDto(1L, 11L, 2L),
+				new CategoryProjectCountDto(1L, null, 1L)));
+
+		categoryTreeService.buildOnStartup();
+		List<CategoryDto> all = categoryTreeService.getAllCategories();
+		List<CategoryDto> withProjects = categoryTreeService.getCategoriesWithProjects();
+		List<SubCategoryDto> subCategories = categoryTreeService.getSubCategoriesWithProjects(1L);
+
+		assertThat(all).extracting(CategoryDto::getName).containsExactly("웨딩", "프로필");
+		assertThat(all.get(0).getSubCategories()).extracting(SubCategoryDto::getProjectCount).containsExactly(0L, 2L);
+		assertThat(withProjects).singleElement().satisfies(category -> {
+			assertThat(category.getId()).isEqualTo(1L);
+			assertThat(category.getProjectCount()).isEqualTo(3L);
+			assertThat(category.getSubCategories()).hasSize(2);
+		});
+		assertThat(subCategories).extracting(SubCategoryDto::getName).containsExactly("야외");
+		assertThat(categoryTreeService.getSubCategoriesWithProjects(2L)).isEmpty();
+		// 스냅샷이 만들어진 뒤에는 DB 조회 없음
+		verify(categoryRepository, times(1)).findAllWithSubCategories();
+		verify(projectRepository, times(1)).countProjectsByCategory();
+	}
+
+	@Test
+	void rejectUnknownCategory() {
+		when(categoryRepository.findAllWithSubCategories()).thenReturn(List.of());
+
+		assertThatThrownBy(() -> categoryTreeService.getSubCategoriesWithProjects(9L))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.CATEGORY_NOT_FOUND);
+	}
+
+	@Test
+	void coalesceChangesIntoSingleRebuildAndSwapSnapshot() {
+		when(categoryRepository.findAllWithSubCategories())
+				.thenReturn(List.of(category(1L, "웨딩")))
+				.thenReturn(List.of(category(1L, "웨딩"), category(2L, "프로필")));
+		categoryTreeService.buildOnStartup();
+
+		categoryTreeService.rebuildAfterCommit();
+		categoryTreeService.rebuildAfterCommit();
+
+		// 재생성이 실행되기 전까지는 이전 스냅샷으로 응답
+		assertThat(queued).hasSize(1);
+		assertThat(categoryTreeService.getAllCategories()).hasSize(1);
+
+		queued.remove(0).run();
+
+		assertThat(categoryTreeService.getAllCategories()).hasSize(2);
+		verify(categoryRepository, times(2)).findAllWithSubCategories();
+		verify(redisTemplate, times(2)).convertAndSend(eq(CategoryTreeService.CHANNEL), anyString());
+	}
+
+	@Test
+	void rebuildOnlyForMessagesFromOtherInstances() {
+		ArgumentCaptor<String> origin = ArgumentCaptor.forClass(String.class);
+		categoryTreeService.rebuildAfterCommit();
+		verify(redisTemplate).convertAndSend(eq(CategoryTreeService.CHANNEL), origin.capture());
+		queued.remove(0).run();
+
+		categoryTreeService.onMessage(message(origin.getValue()), null);
+		assertThat(queued).isEmpty();
+
+		categoryTreeService.onMessage(message("other-node"), null);
+		assertThat(queued).hasSize(1);
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(CategoryTreeService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Category category(Long id, String name, SubCategory... subCategories) {
+		Category category = new Category(id, name, List.of(subCategories));
+		for (SubCategory subCategory : subCategories) {
+			subCategory.setCategory(category);
+		}
+		return category;
+	}
+
+	private SubCategory subCategory(Long id, String name) {
+		SubCategory subCategory = new SubCategory();
+		subCategory.setId(id);
+		subCategory.setName(name);
+		return subCategory;
+	}
+}
@@ -0,0 +1,149 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.dto.DirectUploadDto;
+import com.example.portfolio.dto.DirectUploadFinalizeDto;
+import com.example.portfolio.dto.DirectUploadRequestDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.StoredObjectSource;
+import com.example.portfolio.repository.ProjectRepository;
+import com.example.portfolio.storage.ObjectStore;
+
+@ExtendWith(MockitoExtension.class)
+class DirectUploadServiceTest {
+
+	@Mock
+	private ObjectStore objectStore;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private IngestJobService ingestJobService;
+
+	private DirectUploadService directUploadService;
+
+	@BeforeEach
+	void setUp() {
+		directUploadService = new DirectUploadService(objectStore, projectRepository, ingestJobService,
+				Duration.ofMinutes(15), DataSize.ofMegabytes(30), 10);
+	}
+
+	@Test
+	void signOneUrlPerFileUnderProjectPrefix() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		when(objectStore.signUpload(any(), eq("image/jpeg"), eq(DataSize.ofMegabytes(30).toBytes()),
+				eq(Duration.ofMinutes(15))))
+				.thenAnswer(invocation -> new DirectUploadDto(invocation.getArgument(0), "https://signed", "PUT",
+						Map.of("Content-Type", "image/jpeg"), "2030-01-01T00:00:00Z"));
+
+		List<DirectUploadDto> uploads = directUploadService.createUploads(request(1L, "a.JPG", "b.jpeg"));
+
+		assertThat(uploads).hasSize(2);
+		assertThat(uploads.get(0).getObjectName()).startsWith("uploads/1/").endsWith(".jpg");
+		assertThat(uploads.get(1).getObjectName()).startsWith("uploads/1/").endsWith(".jpeg");
+	}
+
+	@Test
+	void rejectNonImageContentType() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		DirectUploadRequestDto request = request(1L, "a.jpg");
+		request.getFiles().get(0).setContentType("application/pdf");
+
+		assertThatThrownBy(() -> directUploadService.createUploads(request))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.UNSUPPORTED_IMAGE_FORMAT);
+	}
+
+	@Test
+	void finalizeSubmitsUploadedObjectsAsPhotos() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+
+		directUploadService.finalizeUploads(finalize(1L, "uploads/1/a.jpg", "uploads/1/b.png"));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<ImageSource>> photos = ArgumentCaptor.forClass(List.class);
+		verify(ingestJobService).submitUpdate(eq(1L), isNull(), photos.capture(), eq(List.of()));
+		assertThat(photos.getValue())
+				.extracting(source -> ((StoredObjectSource) source).getObjectName())
+				.containsExactly("uploads/1/a.jpg", "uploads/1/b.png");
+		assertThat(photos.getValue().get(0).getContentType()).isEqualTo("image/jpeg");
+	}
+
+	@Test
+	void checkSizeBeforeDownloadAndKeepObjectUntilIngested() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		when(objectStore.size("uploads/1/a.jpg")).thenReturn(DataSize.ofMegabytes(31).toBytes());
+		when(objectStore.getUrl("uploads/1/a.jpg")).thenReturn("https://storage/uploads/1/a.jpg");
+
+		directUploadService.finalizeUploads(finalize(1L, "uploads/1/a.jpg"));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<ImageSource>> photos = ArgumentCaptor.forClass(List.class);
+		verify(ingestJobService).submitUpdate(eq(1L), isNull(), photos.capture(), eq(List.of()));
+		ImageSource source = photos.getValue().get(0);
+		assertThatThrownBy(source::openStream)
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_TOO_LARGE);
+		verify(objectStore, never()).download(any(), any());
+
+		// 실패한 원본은 정리 대상(uploads/)으로 남기고, 저장된 원본만 삭제
+		source.discard();
+		verify(objectStore, never()).deleteObjects(anyList());
+		source.ingested();
+		verify(objectStore).deleteObjects(List.of("https://storage/uploads/1/a.jpg"));
+	}
+
+	@Test
+	void rejectObjectsNotIssuedForProject() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+
+		assertThatThrownBy(() -> directUploadService.finalizeUploads(finalize(1L, "uploads/2/a.jpg")))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_OBJECT);
+		verify(ingestJobService, never()).submitUpdate(any(), any(), anyList(), anyList());
+	}
+
+	private DirectUploadRequestDto request(Long projectId, String... filenames) {
+		DirectUploadRequestDto request = new DirectUploadRequestDto();
+		request.setProjectId(projectId);
+		request.setFiles(Arrays.stream(filenames).map(filename -> {
+			DirectUploadRequestDto.File file = new DirectUploadRequestDto.File();
+			file.setFilename(filename);
+			file.setContentType("image/jpeg");
+			return file;
+		}).toList());
+		return request;
+	}
+
+	private DirectUploadFinalizeDto finalize(Long projectId, String... objectNames) {
+		DirectUploadFinalizeDto request = new DirectUploadFinalizeDto();
+		request.setProjectId(projectId);
+		request.setObjectNames(List.of(objectNames));
+		return request;
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.DeliveryFormat;
+import com.example.portfolio.image.ImageDecoder;
+import com.example.portfolio.model.Photo;
+import com.example.portfolio.repository.PhotoRepository;
+import com.example.portfolio.service.ImageDeliveryService.ImageDelivery;
+import com.example.portfolio.storage.ObjectStore;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeliveryServiceTest {
+
+	private static final String URL_PREFIX = "https://storage.googleapis.com/minography_gcs/";
+	private static final String IMAGE_URL = URL_PREFIX + "1/a.webp";
+
+	@Mock
+	private PhotoRepository photoRepository;
+
+	@Mock
+	private ObjectStore objectStore;
+
+	@TempDir
+	Path cacheDir;
+
+	private ImageDeliveryService imageDeliveryService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		imageDeliveryService = new ImageDeliveryService(photoRepository, objectStore,
+				new ImageDecoder(4096, 10_000_000, 64, Duration.ofSeconds(1)),
+				new TranscodeCache(cacheDir, DataSize.ofMegabytes(1)), 85);
+		lenient().when(objectStore.getObjectNameFromUrl(anyString()))
+				.thenAnswer(invocation -> invocation.getArgument(0, String.class).substring(URL_PREFIX.length()));
+
+		Photo photo = new Photo();
+		photo.setId(10L);
+		photo.setProjectId(1L);
+		photo.setImageUrl(IMAGE_URL);
+		photo.setVariantWidths("320,640,1280");
+		photo.setWidth(2000);
+		when(photoRepository.findById(10L)).thenReturn(Optional.of(photo));
+	}
+
+	@Test
+	void negotiateWebpAndSnapWidthToStoredVariant() {
+		ImageDelivery delivery = imageDeliveryService.resolve(1L, 10L, 500, null, "image/avif,image/webp,*/*;q=0.8");
+
+		assertThat(delivery.getFormat()).isEqualTo(DeliveryFormat.WEBP);
+		assertThat(delivery.getObjectName()).isEqualTo("1/a_w640.webp");
+		assertThat(delivery.isNegotiated()).isTrue();
+		assertThat(delivery.getEtag()).startsWith("\"").endsWith("\"");
+	}
+
+	@Test
+	void serveOriginalWhenWiderThanVariants() {
+		ImageDelivery delivery = imageDeliveryService.resolve(1L, 10L, 1600, "webp", null);
+
+		assertThat(delivery.getObjectName()).isEqualTo("1/a.webp");
+		assertThat(delivery.isNegotiated()).isFalse();
+	}
+
+	@Test
+	void transcodeToJpegOnceForWildcardAccept() throws IOException {
+		byte[] stored = png(320, 200);
+		doAnswer(invocation -> {
+			invocation.getArgument(1, OutputStream.class).write(stored);
+			return null;
+		}).when(objectStore).download(eq("1/a_w320.webp"), any());
+
+		ImageDelivery delivery = imageDeliveryService.resolve(1L, 10L, 300, null, "*/*");
+		TranscodeCache.CachedImage first = imageDeliveryService.load(delivery);
+		TranscodeCache.CachedImage second = imageDeliveryService.load(
+				imageDeliveryService.resolve(1L, 10L, 300, null, "*/*"));
+
+		// 와일드카드만 보내면 JPEG, 두 번째 요청은 캐시에서 응답
+		assertThat(delivery.getFormat()).isEqualTo(DeliveryFormat.JPEG);
+		assertThat(second.getFilename()).isEqualTo(first.getFilename());
+		assertThat(second.contentLength()).isEqualTo(first.contentLength());
+		verify(objectStore, times(1)).download(eq("1/a_w320.webp"), any());
+		try (InputStream in = first.getInputStream()) {
+			BufferedImage jpeg = ImageIO.read(in);
+			assertThat(jpeg.getWidth()).isEqualTo(320);
+		}
+	}
+
+	@Test
+	void rejectPhotoOfAnotherProject() {
+		assertThatThrownBy(() -> imageDeliveryService.resolve(2L, 10L, null, null, null))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.PHOTO_NOT_FOUND);
+	}
+
+	@Test
+	void rejectUnknownFormat() {
+		assertThatThrownBy(() -> imageDeliveryService.resolve(1L, 10L, null, "tiff", null))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.UNSUPPORTED_IMAGE_FORMAT);
+	}
+
+	private byte[] png(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+		return out.toByteArray();
+	}
+}
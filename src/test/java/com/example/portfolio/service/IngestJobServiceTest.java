@@ -0,0 +1,148 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.example.portfolio.dto.IngestJobDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.job.IngestJob;
+import com.example.portfolio.job.PhotoProgressListener;
+import com.example.portfolio.model.Project;
+import com.example.portfolio.repository.ProjectRepository;
+
+@ExtendWith(MockitoExtension.class)
+class IngestJobServiceTest {
+
+	@Mock
+	private ThreadPoolTaskExecutor ingestJobExecutor;
+
+	@Mock
+	private ImageService imageService;
+
+	@Mock
+	private PhotoService photoService;
+
+	@Mock
+	private BlobDeletionService blobDeletionService;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private ProjectListCache projectListCache;
+
+	@Mock
+	private IngestJobStore ingestJobStore;
+
+	private IngestJobService ingestJobService;
+
+	@BeforeEach
+	void setUp() {
+		// 제출된 작업을 호출한 스레드에서 바로 실행
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(ingestJobExecutor).execute(any(Runnable.class));
+		ingestJobService = new IngestJobService(ingestJobExecutor, imageService, photoService, blobDeletionService,
+				projectRepository, projectListCache, ingestJobStore, 60);
+	}
+
+	@Test
+	void continueWithPhotosWhenThumbnailFails() {
+		ImageSource thumbnail = source("thumb.jpg");
+		ImageSource photo = source("photo.jpg");
+		when(projectRepository.findById(1L)).thenReturn(Optional.of(new Project()));
+		when(imageService.storeImage(thumbnail, 1L)).thenThrow(new CustomException(
+				HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.STORAGE_IO_ERROR, "upload failed"));
+		doAnswer(invocation -> {
+			PhotoProgressListener listener = invocation.getArgument(2);
+			listener.started(0);
+			listener.completed(0);
+			return null;
+		}).when(photoService).createPhotos(anyList(), eq(1L), any(PhotoProgressListener.class));
+
+		IngestJobDto job = ingestJobService.getJob(ingestJobService.submitCreate(1L, thumbnail, List.of(photo)).getJobId());
+
+		assertThat(job.getStatus()).isEqualTo("COMPLETED_WITH_ERRORS");
+		assertThat(job.getItems()).extracting(IngestJobDto.Item::getStatus).containsExactly("FAILED", "DONE");
+		// 저장된 사진 원본만 정리, 실패한 썸네일 원본은 남김
+		verify(photo).ingested();
+		verify(thumbnail, never()).ingested();
+		verify(photo).discard();
+		verify(thumbnail).discard();
+	}
+
+	@Test
+	void failRemainingItemsWhenJobFails() {
+		ImageSource photo = source("photo.jpg");
+		doThrow(new CustomException(HttpStatus.NOT_FOUND, ErrorCode.NOT_FIND_PROJECT, "gone"))
+				.when(photoService).createPhotos(anyList(), eq(1L), any(PhotoProgressListener.class));
+
+		IngestJobDto job = ingestJobService.getJob(ingestJobService.submitCreate(1L, null, List.of(photo)).getJobId());
+
+		assertThat(job.getStatus()).isEqualTo("FAILED");
+		assertThat(job.getItems()).singleElement().satisfies(item -> {
+			assertThat(item.getStatus()).isEqualTo("FAILED");
+			assertThat(item.getError()).isEqualTo("gone");
+		});
+	}
+
+	@Test
+	void recordJobStateWhileRunning() {
+		ImageSource photo = source("photo.jpg");
+
+		String jobId = ingestJobService.submitCreate(1L, null, List.of(photo)).getJobId();
+
+		// 제출 시 기록하고, 상태가 바뀔 때마다 DB에 반영
+		ArgumentCaptor<IngestJob> jobCaptor = ArgumentCaptor.forClass(IngestJob.class);
+		verify(ingestJobStore).created(jobCaptor.capture());
+		assertThat(jobCaptor.getValue().getId()).isEqualTo(jobId);
+		verify(ingestJobStore, times(2)).statusChanged(jobCaptor.getValue());
+		assertThat(jobCaptor.getValue().getStatus()).isEqualTo(IngestJob.Status.COMPLETED);
+	}
+
+	@Test
+	void readJobFromStoreWhenNotRunningHere() {
+		IngestJobDto stored = new IngestJobDto();
+		stored.setJobId("other-instance");
+		stored.setStatus("FAILED");
+		when(ingestJobStore.find("other-instance")).thenReturn(Optional.of(stored));
+		when(ingestJobStore.find("missing")).thenReturn(Optional.empty());
+
+		assertThat(ingestJobService.getJob("other-instance").getStatus()).isEqualTo("FAILED");
+		assertThatThrownBy(() -> ingestJobService.getJob("missing"))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.INGEST_JOB_NOT_FOUND);
+	}
+
+	private ImageSource source(String filename) {
+		ImageSource source = mock(ImageSource.class);
+		when(source.getOriginalFilename()).thenReturn(filename);
+		return source;
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.model.ReconcileCheckpoint;
+import com.example.portfolio.repository.PhotoRepository;
+import com.example.portfolio.repository.ProjectRepository;
+import com.example.portfolio.repository.ReconcileCheckpointRepository;
+import com.example.portfolio.storage.ObjectStore;
+import com.example.portfolio.storage.ObjectStore.ObjectPage;
+import com.example.portfolio.storage.ObjectStore.StoredObject;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanBlobReconcilerTest {
+
+	private static final String URL_PREFIX = "https://storage.googleapis.com/minography_gcs/";
+	private static final Instant OLD = Instant.now().minus(Duration.ofDays(2));
+
+	@Mock
+	private ObjectStore objectStore;
+
+	@Mock
+	private PhotoRepository photoRepository;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private ReconcileCheckpointRepository checkpointRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private OrphanBlobReconciler reconciler;
+
+	@BeforeEach
+	void setUp() {
+		reconciler = new OrphanBlobReconciler(objectStore, photoRepository, projectRepository, checkpointRepository,
+				transactionManager, true, Duration.ofHours(24), 3, 2, 100);
+		lenient().when(objectStore.getUrl(anyString())).thenAnswer(invocation -> URL_PREFIX + invocation.getArgument(0));
+		lenient().when(objectStore.deleteObjects(any())).thenReturn(Map.of());
+		lenient().when(photoRepository.streamImagesByUrlPrefix(anyString())).thenAnswer(invocation -> Stream.empty());
+		lenient().when(projectRepository.streamThumbnailsByUrlPrefix(anyString())).thenAnswer(invocation -> Stream.empty());
+	}
+
+	@Test
+	void deleteOnlyOldUnreferencedObjects() {
+		when(checkpointRepository.findById(OrphanBlobReconciler.CHECKPOINT_NAME)).thenReturn(Optional.empty());
+		when(objectStore.list(null, 3)).thenReturn(new ObjectPage(List.of(
+				object("1/a.webp", OLD),
+				object("1/a_w320.webp", OLD),
+				object("1/orphan.webp", OLD)), false));
+		when(objectStore.list("1/orphan.webp", 3)).thenReturn(new ObjectPage(List.of(
+				object("2/new.webp", Instant.now()),
+				object("2/thumb.webp", OLD),
+				object("static/logo.png", OLD)), true));
+		when(photoRepository.streamImagesByUrlPrefix(URL_PREFIX + "1/"))
+				.thenAnswer(invocation -> Stream.of(new StoredImage(URL_PREFIX + "1/a.webp", "320")));
+		when(projectRepository.streamThumbnailsByUrlPrefix(URL_PREFIX + "2/"))
+				.thenAnswer(invocation -> Stream.of(new StoredImage(URL_PREFIX + "2/thumb.webp", null)));
+
+		// When
+		int deleted = reconciler.run();
+
+		// Then - 참조되는 원본/변형본, 유예 기간 안의 객체, 다른 접두사 객체는 남김
+		assertThat(deleted).isEqualTo(1);
+		verify(objectStore).deleteObjects(List.of(URL_PREFIX + "1/orphan.webp"));
+		verify(photoRepository, times(1)).streamImagesByUrlPrefix(URL_PREFIX + "1/");
+
+		ArgumentCaptor<ReconcileCheckpoint> checkpoint = ArgumentCaptor.forClass(ReconcileCheckpoint.class);
+		verify(checkpointRepository, times(2)).save(checkpoint.capture());
+		assertThat(checkpoint.getValue().getLastObjectName()).isNull();
+		assertThat(checkpoint.getValue().getLastCompletedAt()).isNotNull();
+	}
+
+	@Test
+	void resumeFromCheckpointAndStopAfterMaxPages() {
+		ReconcileCheckpoint saved = new ReconcileCheckpoint(OrphanBlobReconciler.CHECKPOINT_NAME);
+		saved.advance("3/b.webp", 0);
+		when(checkpointRepository.findById(OrphanBlobReconciler.CHECKPOINT_NAME)).thenReturn(Optional.of(saved));
+		when(objectStore.list(eq("3/b.webp"), anyInt())).thenReturn(new ObjectPage(List.of(
+				object("uploads/3/staged.jpg", OLD)), false));
+		when(objectStore.list(eq("uploads/3/staged.jpg"), anyInt())).thenReturn(new ObjectPage(List.of(
+				object("uploads/4/pending.jpg", Instant.now())), false));
+
+		// When
+		reconciler.run();
+
+		// Then - 등록되지 않은 직접 업로드 원본 삭제, 실행당 최대 페이지 수에서 멈추고 위치 저장
+		verify(objectStore).deleteObjects(List.of(URL_PREFIX + "uploads/3/staged.jpg"));
+		verify(objectStore, never()).list(eq("uploads/4/pending.jpg"), anyInt());
+		assertThat(saved.getLastObjectName()).isEqualTo("uploads/4/pending.jpg");
+		assertThat(saved.getDeletedCount()).isEqualTo(1);
+	}
+
+	private StoredObject object(String name, Instant createdAt) {
+		return new StoredObject(name, createdAt);
+	}
+}
@@ -2,25 +2,40 @@ package com.example.portfolio.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.AdditionalAnswers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.portfolio.dto.ProjectCreateDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.StoredImage;
+import com.example.portfolio.job.PhotoProgressListener;
 import com.example.portfolio.model.Photo;
 import com.example.portfolio.repository.PhotoRepository;
 
@@ -34,11 +49,21 @@ class PhotoServiceTest {
 	private ProjectService projectService;
 	
 	@Mock
-	private GcsService gcsService;
+	private BlobDeletionService blobDeletionService;
+	
+	@Mock
+	private ImageService imageService;
 	
 	@Mock
 	private PhotoRepository photoRepository;
 	
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	
+	// 이미지 처리 작업을 호출한 스레드에서 바로 실행
+	@Spy
+	private Executor mediaExecutor = new SyncTaskExecutor();
+	
 	@Test
 	void testname() throws IOException {
 		ProjectCreateDto projectCreateDto = new ProjectCreateDto();
@@ -75,26 +100,29 @@ class PhotoServiceTest {
 	    projectCreateDto.setPhotoMultipartFiles(photoFiles);
 	    
 	    Long projectId = 1L;
+	    List<ImageSource> photoSources = List.of(ImageSource.of(photoFile1), ImageSource.of(photoFile2));
 	    
-	    // GcsService mock 설정
+	    // ImageService mock 설정
 	    // eq는 모키토 라이브러리에서 제공하는 인자 매처로 정확하게 일치하는 값만 인정함
-			when(gcsService.uploadWebpFile(any(MultipartFile.class), eq(projectId)))
-			    .thenReturn("http://example.com/photo1.jpg")
-			    .thenReturn("http://example.com/photo2.jpg");
+	    // 병렬로 처리되므로 원본별로 결과 지정
+			when(imageService.storeImage(eq(photoSources.get(0)), eq(projectId)))
+			    .thenReturn(storedImage("http://example.com/photo1.jpg", "320,640"));
+			when(imageService.storeImage(eq(photoSources.get(1)), eq(projectId)))
+			    .thenReturn(storedImage("http://example.com/photo2.jpg", "320"));
 
 		// When
-	    when(photoRepository.save(any(Photo.class))).then(AdditionalAnswers.returnsFirstArg());
-	    photoService.createPhotos(projectCreateDto, projectId);
+	    photoService.createPhotos(photoSources, projectId, PhotoProgressListener.NONE);
 
 		// Then
 	    // 모키토 라이브러리 캡처를 사용해서 값을 확인
-	    ArgumentCaptor<Photo> photoCaptor = ArgumentCaptor.forClass(Photo.class);
+	    @SuppressWarnings("unchecked")
+	    ArgumentCaptor<List<Photo>> photoCaptor = ArgumentCaptor.forClass(List.class);
 	    
-	    // 포토 레포지토리가 2번 실행되었는지 확인하고 캡처를 통해서 그 값들을 검증할 수 있게함
-	    verify(photoRepository, times(2)).save(photoCaptor.capture());
+	    // 한번에 저장(saveAll)되었는지 확인하고 캡처를 통해서 그 값들을 검증할 수 있게함
+	    verify(photoRepository).saveAll(photoCaptor.capture());
 	    
 	    // 캡처에 저장된 모든 값을 불러옴
-	    List<Photo> savedPhotos = photoCaptor.getAllValues();
+	    List<Photo> savedPhotos = photoCaptor.getValue();
 	    
 	    // 2개인지 확인
 	    assertThat(savedPhotos).hasSize(2);
@@ -103,17 +131,180 @@ class PhotoServiceTest {
 	    Photo firstPhoto = savedPhotos.get(0);
 	    assertThat(firstPhoto.getImageUrl()).isEqualTo("http://example.com/photo1.jpg");
         assertThat(firstPhoto.getImgoname()).isEqualTo("photo1.jpg");
-        assertThat(firstPhoto.getImgtype()).isEqualTo("image/jpeg");
+        assertThat(firstPhoto.getImgtype()).isEqualTo("image/webp");
+        assertThat(firstPhoto.getVariantWidths()).isEqualTo("320,640");
         assertThat(firstPhoto.getProjectId()).isEqualTo(projectId);
         
         // 두 번째 Photo 객체 검사
         Photo secondPhoto = savedPhotos.get(1);
         assertThat(secondPhoto.getImageUrl()).isEqualTo("http://example.com/photo2.jpg");
         assertThat(secondPhoto.getImgoname()).isEqualTo("photo2.jpg");
-        assertThat(secondPhoto.getImgtype()).isEqualTo("image/jpeg");
+        assertThat(secondPhoto.getImgtype()).isEqualTo("image/webp");
+        assertThat(secondPhoto.getVariantWidths()).isEqualTo("320");
         assertThat(secondPhoto.getProjectId()).isEqualTo(projectId);
         
-        // GcsService 호출 확인
-        verify(gcsService, times(2)).uploadWebpFile(any(MultipartFile.class), eq(projectId));
+        // ImageService 호출 확인
+        verify(imageService, times(2)).storeImage(any(ImageSource.class), eq(projectId));
+	}
+	
+	@Test
+	void reuseStoredObjectForDuplicateContent() {
+		MockMultipartFile photoFile = new MockMultipartFile(
+				"포토1",
+				"photo1.jpg",
+				"image/jpeg",
+				"photo1 content".getBytes()
+				);
+		
+		// 같은 내용의 사진이 이미 저장되어 있는 상황
+		Photo existingPhoto = new Photo();
+		existingPhoto.setId(7L);
+		existingPhoto.setImageUrl("http://example.com/existing.webp");
+		existingPhoto.setVariantWidths("320,640");
+		existingPhoto.setWidth(1600);
+		existingPhoto.setHeight(1067);
+		existingPhoto.setByteSize(245_000L);
+		when(photoRepository.findFirstByContentHash(anyString())).thenReturn(Optional.of(existingPhoto));
+		when(photoRepository.findLockedById(7L)).thenReturn(Optional.of(existingPhoto));
+		when(photoRepository.save(any(Photo.class))).thenAnswer(invocation -> {
+			Photo pinned = invocation.getArgument(0);
+			pinned.setId(8L);
+			return pinned;
+		});
+		
+		// When
+		photoService.createPhotos(List.of(ImageSource.of(photoFile)), 2L, PhotoProgressListener.NONE);
+		
+		// Then - 재사용하는 사진은 원본 행을 잠근 트랜잭션에서 먼저 저장해서 객체를 고정하고, saveAll에서 다시 저장하지 않음
+		ArgumentCaptor<Photo> pinnedCaptor = ArgumentCaptor.forClass(Photo.class);
+		verify(transactionManager).commit(any());
+		verify(photoRepository).save(pinnedCaptor.capture());
+		verify(photoRepository, never()).saveAll(any());
+		
+		Photo savedPhoto = pinnedCaptor.getValue();
+		assertThat(savedPhoto.getImgoname()).isEqualTo("photo1.jpg");
+		assertThat(savedPhoto.getImageUrl()).isEqualTo("http://example.com/existing.webp");
+		assertThat(savedPhoto.getVariantWidths()).isEqualTo("320,640");
+		assertThat(savedPhoto.getWidth()).isEqualTo(1600);
+		assertThat(savedPhoto.getHeight()).isEqualTo(1067);
+		assertThat(savedPhoto.getByteSize()).isEqualTo(245_000L);
+		assertThat(savedPhoto.getContentHash()).hasSize(64);
+		assertThat(savedPhoto.getProjectId()).isEqualTo(2L);
+		
+		// 인코딩/업로드는 하지 않음
+		verify(imageService, never()).storeImage(any(ImageSource.class), any());
+	}
+	
+	@Test
+	void storeNewCopyWhenReusedPhotoIsDeletedConcurrently() {
+		MockMultipartFile photoFile = new MockMultipartFile(
+				"포토1",
+				"photo1.jpg",
+				"image/jpeg",
+				"photo1 content".getBytes()
+				);
+		ImageSource source = ImageSource.of(photoFile);
+		
+		Photo existingPhoto = new Photo();
+		existingPhoto.setId(7L);
+		existingPhoto.setImageUrl("http://example.com/existing.webp");
+		when(photoRepository.findFirstByContentHash(anyString())).thenReturn(Optional.of(existingPhoto));
+		// 조회와 잠금 사이에 원본 사진이 삭제되어 객체 삭제가 이미 진행됨
+		when(photoRepository.findLockedById(7L)).thenReturn(Optional.empty());
+		when(imageService.storeImage(source, 2L)).thenReturn(storedImage("http://example.com/new.webp", "320"));
+		
+		// When
+		photoService.createPhotos(List.of(source), 2L, PhotoProgressListener.NONE);
+		
+		// Then - 고정하지 않고 새로 업로드한 객체로 저장
+		verify(photoRepository, never()).save(any(Photo.class));
+		
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Photo>> photoCaptor = ArgumentCaptor.forClass(List.class);
+		verify(photoRepository).saveAll(photoCaptor.capture());
+		assertThat(photoCaptor.getValue()).singleElement().satisfies(photo -> {
+			assertThat(photo.getImageUrl()).isEqualTo("http://example.com/new.webp");
+			assertThat(photo.getId()).isNull();
+			assertThat(photo.getProjectId()).isEqualTo(2L);
+		});
+	}
+	
+	@Test
+	void keepOtherPhotosWhenOneFails() {
+		MockMultipartFile brokenFile = new MockMultipartFile(
+				"포토1",
+				"broken.jpg",
+				"image/jpeg",
+				"broken content".getBytes()
+				);
+		MockMultipartFile photoFile = new MockMultipartFile(
+				"포토2",
+				"photo2.jpg",
+				"image/jpeg",
+				"photo2 content".getBytes()
+				);
+		List<ImageSource> photoSources = List.of(ImageSource.of(brokenFile), ImageSource.of(photoFile));
+		
+		when(imageService.storeImage(eq(photoSources.get(0)), eq(3L)))
+				.thenThrow(new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.UNSUPPORTED_IMAGE_FORMAT, "broken"));
+		when(imageService.storeImage(eq(photoSources.get(1)), eq(3L)))
+				.thenReturn(storedImage("http://example.com/photo2.webp", "320"));
+		PhotoProgressListener listener = mock(PhotoProgressListener.class);
+		
+		// When
+		photoService.createPhotos(photoSources, 3L, listener);
+		
+		// Then - 실패한 파일만 보고하고 나머지는 저장
+		verify(listener).failed(eq(0), anyString());
+		verify(listener).completed(1);
+		
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Photo>> photoCaptor = ArgumentCaptor.forClass(List.class);
+		verify(photoRepository).saveAll(photoCaptor.capture());
+		assertThat(photoCaptor.getValue()).extracting(Photo::getImgoname).containsExactly("photo2.jpg");
+	}
+	
+	@Test
+	void failPhotoRejectedByExecutor() {
+		MockMultipartFile rejectedFile = new MockMultipartFile(
+				"포토1",
+				"rejected.jpg",
+				"image/jpeg",
+				"rejected content".getBytes()
+				);
+		MockMultipartFile photoFile = new MockMultipartFile(
+				"포토2",
+				"photo2.jpg",
+				"image/jpeg",
+				"photo2 content".getBytes()
+				);
+		List<ImageSource> photoSources = List.of(ImageSource.of(rejectedFile), ImageSource.of(photoFile));
+		
+		// 첫 번째 작업은 스레드 풀 종료 중에 제출되어 거절됨
+		doThrow(new RejectedExecutionException("Executor has been shut down"))
+				.doCallRealMethod()
+				.when(mediaExecutor).execute(any(Runnable.class));
+		when(imageService.storeImage(eq(photoSources.get(1)), eq(3L)))
+				.thenReturn(storedImage("http://example.com/photo2.webp", "320"));
+		PhotoProgressListener listener = mock(PhotoProgressListener.class);
+		
+		// When - 거절된 작업을 기다리며 멈추지 않고 끝남
+		photoService.createPhotos(photoSources, 3L, listener);
+		
+		// Then
+		verify(listener).failed(eq(0), anyString());
+		verify(listener).completed(1);
+		
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Photo>> photoCaptor = ArgumentCaptor.forClass(List.class);
+		verify(photoRepository).saveAll(photoCaptor.capture());
+		assertThat(photoCaptor.getValue()).extracting(Photo::getImgoname).containsExactly("photo2.jpg");
+	}
+	
+	private StoredImage storedImage(String url, String variantWidths) {
+		StoredImage storedImage = new StoredImage();
+		storedImage.setUrl(url);
+		storedImage.setVariantWidths(variantWidths);
+		return storedImage;
 	}
 }
@@ -0,0 +1,100 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.portfolio.config.TwoLevelCacheManager;
+import com.example.portfolio.model.Category;
+import com.example.portfolio.model.Project;
+import com.example.portfolio.model.SubCategory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectListCacheTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	private ProjectListCache projectListCache;
+	private Cache cache;
+
+	@BeforeEach
+	void setUp() {
+		TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+				new ConcurrentMapCacheManager(ProjectListCache.CACHE_NAME), redisTemplate, new SimpleMeterRegistry(),
+				100, Duration.ofMinutes(1));
+		projectListCache = new ProjectListCache(cacheManager);
+		cache = cacheManager.getCache(ProjectListCache.CACHE_NAME);
+	}
+
+	@Test
+	void buildKeyFromFullPageable() {
+		PageRequest byDate = PageRequest.of(0, 12, Sort.by(Sort.Order.desc("createdAt")));
+		PageRequest byView = PageRequest.of(0, 12, Sort.by(Sort.Order.desc("view"), Sort.Order.asc("id")));
+
+		assertThat(projectListCache.key(byDate, 1L, null)).isEqualTo("cat:1|0|12|createdAt,desc");
+		assertThat(projectListCache.key(byView, 1L, 3L)).isEqualTo("sub:3|0|12|view,desc;id,asc");
+		assertThat(projectListCache.key(PageRequest.of(2, 12), null, null)).isEqualTo("all|2|12|unsorted");
+		// 정렬만 다른 요청은 다른 키
+		assertThat(projectListCache.key(byDate, null, null)).isNotEqualTo(projectListCache.key(byView, null, null));
+	}
+
+	@Test
+	void evictOnlyTagsOfProjectBeforeAndAfterChange() {
+		PageRequest page = PageRequest.of(0, 12);
+		cache.put(projectListCache.key(page, null, null), "all");
+		cache.put(projectListCache.key(page, 1L, null), "category 1");
+		cache.put(projectListCache.key(page, 1L, 3L), "sub category 3");
+		cache.put(projectListCache.key(page, 2L, null), "category 2");
+		cache.put(projectListCache.key(page, 5L, null), "category 5");
+		cache.put(projectListCache.key(page, 5L, 7L), "sub category 7");
+
+		// 카테고리 1/서브 3 -> 카테고리 2(서브 없음)로 이동
+		projectListCache.evictAfterCommit(project(1L, 3L), project(2L, null));
+
+		assertThat(cache.get(projectListCache.key(page, null, null))).isNull();
+		assertThat(cache.get(projectListCache.key(page, 1L, null))).isNull();
+		assertThat(cache.get(projectListCache.key(page, 1L, 3L))).isNull();
+		assertThat(cache.get(projectListCache.key(page, 2L, null))).isNull();
+		assertThat(cache.get(projectListCache.key(page, 5L, null)).get()).isEqualTo("category 5");
+		assertThat(cache.get(projectListCache.key(page, 5L, 7L)).get()).isEqualTo("sub category 7");
+	}
+
+	@Test
+	void tagPrefixDoesNotMatchLongerIds() {
+		PageRequest page = PageRequest.of(0, 12);
+		cache.put(projectListCache.key(page, 1L, null), "category 1");
+		cache.put(projectListCache.key(page, 11L, null), "category 11");
+
+		projectListCache.evictAfterCommit(project(1L, null));
+
+		assertThat(cache.get(projectListCache.key(page, 1L, null))).isNull();
+		assertThat(cache.get(projectListCache.key(page, 11L, null)).get()).isEqualTo("category 11");
+	}
+
+	private Project project(Long categoryId, Long subCategoryId) {
+		Project project = new Project();
+		Category category = new Category();
+		category.setId(categoryId);
+		project.setCategory(category);
+		if (subCategoryId != null) {
+			SubCategory subCategory = new SubCategory();
+			subCategory.setId(subCategoryId);
+			project.setSubCategory(subCategory);
+		}
+		return project;
+	}
+}
@@ -1,26 +1,41 @@
 package com.example.portfolio.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.portfolio.dto.ProjectCreateDto;
+import com.example.portfolio.dto.ProjectUpdateDto;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.image.StoredImage;
 import com.example.portfolio.mapper.ProjectMapper;
+import com.example.portfolio.model.Category;
 import com.example.portfolio.model.Project;
+import com.example.portfolio.model.SubCategory;
 import com.example.portfolio.repository.ProjectRepository;
 
 //Mockito를 사용하기 위한 어노테이션
@@ -35,7 +50,25 @@ class ProjectServiceTest {
 	private ProjectRepository projectRepository;
 	
 	@Mock
-	private GcsService gcsService;
+	private BlobDeletionService blobDeletionService;
+	
+	@Mock
+	private ImageService imageService;
+	
+	@Mock
+	private IngestJobService ingestJobService;
+	
+	@Mock
+	private UploadSpooler uploadSpooler;
+	
+	@Mock
+	private ProjectListCache projectListCache;
+	
+	@Mock
+	private CategoryTreeService categoryTreeService;
+	
+	@Mock
+	private PlatformTransactionManager transactionManager;
 	
 	@InjectMocks
 	private ProjectService projectService;
@@ -86,8 +119,11 @@ class ProjectServiceTest {
 	    
 		 // When
 		 // 사진 업로드 및 url 리턴 코드
-		when(gcsService.uploadWebpFile(thumbnailFile, projectId)).thenReturn("http:localhost8181/thumbnail.jpg");
-		String url = gcsService.uploadWebpFile(thumbnailFile, projectId);
+		StoredImage thumbnail = new StoredImage();
+		thumbnail.setUrl("http:localhost8181/thumbnail.jpg");
+		ImageSource thumbnailSource = ImageSource.of(thumbnailFile);
+		when(imageService.storeImage(thumbnailSource, projectId)).thenReturn(thumbnail);
+		String url = imageService.storeImage(thumbnailSource, projectId).getUrl();
 		project.setThumbnailUrl("http:localhost:8181/image.jpg");
 		
 		// Then
@@ -101,5 +137,68 @@ class ProjectServiceTest {
 		assertThat(url).isEqualTo("http:localhost8181/thumbnail.jpg");
 	    
 	}
+	
+	@Test
+	@DisplayName("카테고리를 옮기면 이전 목록과 새 목록 캐시 모두 삭제")
+	void updateProjectEvictsOldAndNewCategoryFeeds() {
+		// Given - 카테고리 1/서브카테고리 3에 있던 프로젝트
+		Project existing = new Project();
+		existing.setId(5L);
+		Category oldCategory = new Category();
+		oldCategory.setId(1L);
+		SubCategory oldSubCategory = new SubCategory();
+		oldSubCategory.setId(3L);
+		existing.setCategory(oldCategory);
+		existing.setSubCategory(oldSubCategory);
+		when(projectRepository.findById(5L)).thenReturn(Optional.of(existing));
+		// JPA merge처럼 관리 중인 엔티티에 새 카테고리를 덮어씀
+		when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> {
+			Project merged = invocation.getArgument(0);
+			existing.setCategory(merged.getCategory());
+			existing.setSubCategory(merged.getSubCategory());
+			return existing;
+		});
+
+		ProjectUpdateDto projectUpdateDto = new ProjectUpdateDto();
+		projectUpdateDto.setId(5L);
+		projectUpdateDto.setTitle("이동");
+		projectUpdateDto.setCategoryId(2L);
+
+		// When
+		projectService.updateProject(projectUpdateDto);
+
+		// Then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Set<String>> tags = ArgumentCaptor.forClass(Set.class);
+		verify(projectListCache).evictTagsAfterCommit(tags.capture());
+		assertThat(tags.getValue()).containsExactlyInAnyOrder("all", "cat:1", "sub:3", "cat:2");
+	}
+
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 보관한 원본은 저장이 실패하면 정리")
+	void discardSpooledFilesWhenUpdateFails() {
+		MockMultipartFile thumbnailFile = new MockMultipartFile(
+				"thumbnailMultipartFile", "thumbnail.jpg", "image/jpeg", "thumbnail content".getBytes());
+		ImageSource thumbnail = mock(ImageSource.class);
+		when(uploadSpooler.spool(thumbnailFile)).thenReturn(thumbnail);
+		when(projectRepository.findById(5L)).thenReturn(Optional.empty());
+
+		ProjectUpdateDto projectUpdateDto = new ProjectUpdateDto();
+		projectUpdateDto.setId(5L);
+		projectUpdateDto.setThumbnailMultipartFile(thumbnailFile);
+
+		// When
+		assertThatThrownBy(() -> projectService.updateProject(projectUpdateDto))
+				.hasMessage("Project not found");
+
+		// Then - 보관은 트랜잭션 시작 전에 끝나고, 롤백 후 보관한 파일 삭제
+		InOrder inOrder = inOrder(uploadSpooler, transactionManager, thumbnail);
+		inOrder.verify(uploadSpooler).spool(thumbnailFile);
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(transactionManager).rollback(any());
+		inOrder.verify(thumbnail).discard();
+		verify(ingestJobService, never()).submitUpdate(any(), any(), any(), any());
+	}
 
 }
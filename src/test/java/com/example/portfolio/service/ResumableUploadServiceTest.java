@@ -0,0 +1,234 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.dto.ResumableUploadCompleteDto;
+import com.example.portfolio.dto.ResumableUploadCreateDto;
+import com.example.portfolio.dto.ResumableUploadDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+import com.example.portfolio.image.ImageSource;
+import com.example.portfolio.repository.ProjectRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ResumableUploadServiceTest {
+
+	@TempDir
+	Path directory;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private IngestJobService ingestJobService;
+
+	private ResumableUploadService resumableUploadService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		resumableUploadService = new ResumableUploadService(projectRepository, ingestJobService, directory,
+				DataSize.ofBytes(100), DataSize.ofBytes(8), Duration.ofHours(1), 10, 3, DataSize.ofBytes(30));
+	}
+
+	@Test
+	void appendChunksAndResumeFromReportedOffset() throws IOException {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		ResumableUploadDto upload = resumableUploadService.create(request(1L, 12L));
+
+		long offset = resumableUploadService.append(upload.getId(), 0, stream("abcdefgh"));
+		// 두 번째 청크 전송 중 연결이 끊김 - 받은 부분은 남음
+		assertThatThrownBy(() -> resumableUploadService.append(upload.getId(), 8, failingStream("ij")))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_INCOMPLETE);
+		long resumed = resumableUploadService.get(upload.getId()).getOffset();
+		long finished = resumableUploadService.append(upload.getId(), resumed, stream("kl"));
+
+		assertThat(offset).isEqualTo(8);
+		assertThat(resumed).isEqualTo(10);
+		assertThat(finished).isEqualTo(12);
+		assertThat(Files.readString(directory.resolve(upload.getId() + ".part"))).isEqualTo("abcdefghijkl");
+	}
+
+	@Test
+	void rejectWrongOffsetAndOversizedChunk() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		ResumableUploadDto upload = resumableUploadService.create(request(1L, 12L));
+
+		assertThatThrownBy(() -> resumableUploadService.append(upload.getId(), 4, stream("abcd")))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+		// 청크 최대 크기(8바이트)를 넘으면 통째로 버림
+		assertThatThrownBy(() -> resumableUploadService.append(upload.getId(), 0, stream("abcdefghi")))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_TOO_LARGE);
+		assertThat(resumableUploadService.get(upload.getId()).getOffset()).isZero();
+	}
+
+	@Test
+	void completeSubmitsReceivedFilesToIngestJob() throws IOException {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		ResumableUploadDto upload = resumableUploadService.create(request(1L, 4L));
+		resumableUploadService.append(upload.getId(), 0, stream("jpeg"));
+
+		resumableUploadService.complete(complete(1L, upload.getId()));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<ImageSource>> photos = ArgumentCaptor.forClass(List.class);
+		verify(ingestJobService).submitUpdate(eq(1L), isNull(), photos.capture(), eq(List.of()));
+		assertThat(photos.getValue()).singleElement()
+				.satisfies(photo -> assertThat(photo.getOriginalFilename()).isEqualTo("photo.jpg"));
+		try (InputStream in = photos.getValue().get(0).openStream()) {
+			assertThat(new String(in.readAllBytes())).isEqualTo("jpeg");
+		}
+		// 등록한 세션은 다시 쓸 수 없음
+		assertThatThrownBy(() -> resumableUploadService.get(upload.getId()))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+	}
+
+	@Test
+	void rejectSecondCompleteAndChunksWhileCompleting() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		ResumableUploadDto upload = resumableUploadService.create(request(1L, 4L));
+		resumableUploadService.append(upload.getId(), 0, stream("jpeg"));
+		// 첫 번째 complete가 작업을 넘기는 동안 같은 세션으로 다시 요청
+		when(ingestJobService.submitUpdate(eq(1L), isNull(), anyList(), eq(List.of()))).thenAnswer(invocation -> {
+			assertThatThrownBy(() -> resumableUploadService.complete(complete(1L, upload.getId())))
+					.isInstanceOf(CustomException.class)
+					.extracting("errorCode")
+					.isEqualTo(ErrorCode.UPLOAD_COMPLETING);
+			assertThatThrownBy(() -> resumableUploadService.abort(upload.getId()))
+					.isInstanceOf(CustomException.class)
+					.extracting("errorCode")
+					.isEqualTo(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+			return null;
+		});
+
+		resumableUploadService.complete(complete(1L, upload.getId()));
+
+		verify(ingestJobService, times(1)).submitUpdate(eq(1L), isNull(), anyList(), eq(List.of()));
+		assertThat(directory.resolve(upload.getId() + ".part")).exists();
+	}
+
+	@Test
+	void rejectIncompleteUploadOnComplete() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		ResumableUploadDto upload = resumableUploadService.create(request(1L, 12L));
+		resumableUploadService.append(upload.getId(), 0, stream("abc"));
+
+		assertThatThrownBy(() -> resumableUploadService.complete(complete(1L, upload.getId())))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_INCOMPLETE);
+		verify(ingestJobService, never()).submitUpdate(eq(1L), isNull(), anyList(), anyList());
+	}
+
+	@Test
+	void limitOpenSessionsAndReservedSize() {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		ResumableUploadDto first = resumableUploadService.create(request(1L, 12L));
+		resumableUploadService.create(request(1L, 12L));
+
+		// 예약 합계 30바이트 중 24바이트 사용
+		assertThatThrownBy(() -> resumableUploadService.create(request(1L, 7L)))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_STORAGE_FULL);
+		resumableUploadService.create(request(1L, 6L));
+		assertThatThrownBy(() -> resumableUploadService.create(request(1L, 1L)))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_SESSION_LIMIT);
+
+		// 끝난 세션의 예약은 돌려받음
+		resumableUploadService.abort(first.getId());
+		resumableUploadService.create(request(1L, 12L));
+	}
+
+	@Test
+	void countSessionsLeftFromPreviousRun() throws IOException {
+		when(projectRepository.existsById(1L)).thenReturn(true);
+		resumableUploadService.create(request(1L, 20L));
+
+		ResumableUploadService restarted = new ResumableUploadService(projectRepository, ingestJobService, directory,
+				DataSize.ofBytes(100), DataSize.ofBytes(8), Duration.ofHours(1), 10, 3, DataSize.ofBytes(30));
+
+		assertThatThrownBy(() -> restarted.create(request(1L, 11L)))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_STORAGE_FULL);
+	}
+
+	@Test
+	void rejectSessionIdOutsideSpoolDirectory() {
+		assertThatThrownBy(() -> resumableUploadService.get("../secret"))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+	}
+
+	private ResumableUploadCreateDto request(Long projectId, Long length) {
+		ResumableUploadCreateDto request = new ResumableUploadCreateDto();
+		request.setProjectId(projectId);
+		request.setFilename("photo.jpg");
+		request.setContentType("image/jpeg");
+		request.setLength(length);
+		return request;
+	}
+
+	private ResumableUploadCompleteDto complete(Long projectId, String... ids) {
+		ResumableUploadCompleteDto request = new ResumableUploadCompleteDto();
+		request.setProjectId(projectId);
+		request.setUploadIds(List.of(ids));
+		return request;
+	}
+
+	private InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes());
+	}
+
+	// content를 보낸 뒤 연결이 끊긴 요청 본문
+	private InputStream failingStream(String content) {
+		byte[] bytes = content.getBytes();
+		return new InputStream() {
+			private int position;
+
+			@Override
+			public int read() throws IOException {
+				if (position < bytes.length) {
+					return bytes[position++];
+				}
+				throw new IOException("Connection reset");
+			}
+		};
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.portfolio.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.example.portfolio.service.TranscodeCache.CachedImage;
+
+class TranscodeCacheTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void fillOnceAndReuse() throws IOException {
+		TranscodeCache cache = new TranscodeCache(directory, DataSize.ofKilobytes(1));
+		AtomicInteger writes = new AtomicInteger();
+
+		CachedImage first = cache.get("1-640-abc.jpg", out -> {
+			writes.incrementAndGet();
+			out.write(new byte[] { 1, 2, 3 });
+		});
+		CachedImage second = cache.get("1-640-abc.jpg", out -> writes.incrementAndGet());
+
+		assertThat(writes).hasValue(1);
+		assertThat(second.contentLength()).isEqualTo(3);
+		assertThat(read(first)).containsExactly(1, 2, 3);
+		assertThat(read(second)).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void evictLeastRecentlyUsedOverMaxSize() throws IOException {
+		TranscodeCache cache = new TranscodeCache(directory, DataSize.ofBytes(10));
+		read(cache.get("a.jpg", out -> out.write(new byte[4])));
+		read(cache.get("b.jpg", out -> out.write(new byte[4])));
+		// a를 다시 사용해서 b가 가장 오래된 항목이 됨
+		read(cache.get("a.jpg", out -> out.write(new byte[4])));
+
+		read(cache.get("c.jpg", out -> out.write(new byte[4])));
+
+		assertThat(directory.resolve("a.jpg")).exists();
+		assertThat(directory.resolve("b.jpg")).doesNotExist();
+		assertThat(directory.resolve("c.jpg")).exists();
+		assertThat(cache.getTotalBytes()).isEqualTo(8);
+	}
+
+	@Test
+	void keepServingOpenedImageAfterEviction() throws IOException {
+		TranscodeCache cache = new TranscodeCache(directory, DataSize.ofBytes(6));
+		CachedImage a = cache.get("a.jpg", out -> out.write(new byte[] { 1, 2, 3, 4 }));
+
+		try (InputStream in = a.getInputStream()) {
+			// 응답 중에 다른 이미지를 채우면서 a가 밀려남, 같은 키를 다시 채워도 읽던 파일과 겹치지 않음
+			read(cache.get("b.jpg", out -> out.write(new byte[4])));
+			assertThat(directory.resolve("a.jpg")).doesNotExist();
+			read(cache.get("a.jpg", out -> out.write(new byte[] { 5, 6, 7, 8 })));
+
+			assertThat(in.readAllBytes()).containsExactly(1, 2, 3, 4);
+		}
+
+		// 마지막 스트림이 닫히면 옮겨둔 파일 삭제
+		try (var files = Files.list(directory)) {
+			assertThat(files).extracting(file -> file.getFileName().toString()).containsExactly("a.jpg");
+		}
+	}
+
+	@Test
+	void reopenForEveryRead() throws IOException {
+		TranscodeCache cache = new TranscodeCache(directory, DataSize.ofKilobytes(1));
+		CachedImage image = cache.get("a.jpg", out -> out.write(new byte[] { 1, 2, 3 }));
+
+		// Range 요청처럼 구간마다 스트림을 새로 열어서 읽음
+		assertThat(read(image)).containsExactly(1, 2, 3);
+		assertThat(read(image)).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void deleteUnreadImageOnEviction() throws IOException {
+		TranscodeCache cache = new TranscodeCache(directory, DataSize.ofBytes(6));
+		// 응답하지 않고 버린 리소스는 파일을 열지 않으므로 밀려날 때 바로 삭제
+		cache.get("a.jpg", out -> out.write(new byte[4]));
+
+		read(cache.get("b.jpg", out -> out.write(new byte[4])));
+
+		try (var files = Files.list(directory)) {
+			assertThat(files).extracting(file -> file.getFileName().toString()).containsExactly("b.jpg");
+		}
+	}
+
+	@Test
+	void reuseFilesAfterRestartAndDropPartialWrites() throws IOException {
+		Files.write(directory.resolve("a.jpg"), new byte[4]);
+		Files.write(directory.resolve("b.jpg123.tmp"), new byte[4]);
+
+		TranscodeCache cache = new TranscodeCache(directory, DataSize.ofKilobytes(1));
+		CachedImage a = cache.get("a.jpg", out -> {
+			throw new IOException("should not transcode again");
+		});
+
+		assertThat(read(a)).hasSize(4);
+		assertThat(directory.resolve("b.jpg123.tmp")).doesNotExist();
+		assertThat(cache.getTotalBytes()).isEqualTo(4);
+	}
+
+	@Test
+	void leaveNothingBehindWhenWriterFails() throws IOException {
+		TranscodeCache cache = new TranscodeCache(directory, DataSize.ofKilobytes(1));
+
+		assertThatThrownBy(() -> cache.get("a.jpg", out -> {
+			out.write(new byte[4]);
+			throw new IOException("decode failed");
+		})).hasMessageContaining("decode failed");
+
+		try (var files = Files.list(directory)) {
+			assertThat(files).isEmpty();
+		}
+		assertThat(cache.getTotalBytes()).isZero();
+	}
+
+	private byte[] read(CachedImage image) throws IOException {
+		try (InputStream in = image.getInputStream()) {
+			return in.readAllBytes();
+		}
+	}
+}
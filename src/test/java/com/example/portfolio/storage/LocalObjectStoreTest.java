@@ -0,0 +1,91 @@
+package com.example.portfolio.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.portfolio.dto.DirectUploadDto;
+import com.example.portfolio.exception.CustomException;
+import com.example.portfolio.exception.ErrorCode;
+
+class LocalObjectStoreTest {
+
+	@TempDir
+	Path root;
+
+	private LocalObjectStore objectStore;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		objectStore = new LocalObjectStore(root, "http://localhost:8080/files/", "test-key");
+	}
+
+	@Test
+	void uploadAndDownload() {
+		String url = objectStore.upload("1/a.webp", "image/webp", out -> out.write(new byte[] { 1, 2, 3 }));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		objectStore.download(objectStore.getObjectNameFromUrl(url), out);
+
+		assertThat(url).isEqualTo("http://localhost:8080/files/1/a.webp");
+		assertThat(out.toByteArray()).containsExactly(1, 2, 3);
+		assertThat(objectStore.size("1/a.webp")).isEqualTo(3);
+	}
+
+	@Test
+	void leaveNoObjectWhenWriterFails() throws IOException {
+		assertThatThrownBy(() -> objectStore.upload("1/a.webp", "image/webp", out -> {
+			out.write(new byte[] { 1 });
+			throw new IOException("encode failed");
+		})).isInstanceOf(CustomException.class);
+
+		try (var files = Files.list(root.resolve("1"))) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void deleteIgnoresMissingObjects() {
+		String url = objectStore.upload("1/a.webp", "image/webp", out -> out.write(1));
+
+		assertThat(objectStore.deleteObjects(List.of(url, "http://localhost:8080/files/1/missing.webp"))).isEmpty();
+		assertThat(root.resolve("1/a.webp")).doesNotExist();
+	}
+
+	@Test
+	void acceptOnlyMatchingUploadSignature() {
+		DirectUploadDto upload = objectStore.signUpload("uploads/1/a.jpg", "image/jpeg", 1024, Duration.ofMinutes(5));
+		long expires = Long.parseLong(upload.getUrl().replaceAll(".*expires=(\\d+).*", "$1"));
+		String signature = upload.getUrl().replaceAll(".*signature=", "");
+
+		assertThat(upload.getUrl()).contains("max-length=1024");
+		objectStore.verifyUpload("uploads/1/a.jpg", "image/jpeg", 1024, expires, signature);
+
+		// 다른 객체, 다른 Content-Type, 늘린 최대 크기, 지난 만료 시각은 거절
+		assertThatThrownBy(() -> objectStore.verifyUpload("uploads/2/a.jpg", "image/jpeg", 1024, expires, signature))
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_SIGNATURE);
+		assertThatThrownBy(() -> objectStore.verifyUpload("uploads/1/a.jpg", "image/png", 1024, expires, signature))
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_SIGNATURE);
+		assertThatThrownBy(() -> objectStore.verifyUpload("uploads/1/a.jpg", "image/jpeg", 4096, expires, signature))
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_SIGNATURE);
+		assertThatThrownBy(() -> objectStore.verifyUpload("uploads/1/a.jpg", "image/jpeg", 1024, 1L, signature))
+				.extracting("errorCode").isEqualTo(ErrorCode.INVALID_UPLOAD_SIGNATURE);
+	}
+
+	@Test
+	void rejectNamesOutsideRoot() {
+		assertThatThrownBy(() -> objectStore.download("../secret", new ByteArrayOutputStream()))
+				.isInstanceOf(CustomException.class)
+				.extracting("errorCode").isEqualTo(ErrorCode.STORAGE_FILE_NOT_FOUND);
+	}
+}